@@ -0,0 +1,35 @@
+package com.behl.overseer.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar. Accepts the standard JMH command line
+ * options, defaulting to JSON results written to {@value #DEFAULT_RESULT_FILE}
+ * along with the GC profiler, so that results of different commits can be
+ * compared with each other.
+ */
+public class BenchmarkRunner {
+
+	private static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+	public static void main(final String[] args) throws Exception {
+		final var commandLineOptions = new CommandLineOptions(args);
+		final var options = new OptionsBuilder().parent(commandLineOptions);
+
+		if (Boolean.FALSE.equals(commandLineOptions.getResultFormat().hasValue())) {
+			options.resultFormat(ResultFormatType.JSON);
+		}
+		if (Boolean.FALSE.equals(commandLineOptions.getResult().hasValue())) {
+			options.result(DEFAULT_RESULT_FILE);
+		}
+		if (commandLineOptions.getProfilers().isEmpty()) {
+			options.addProfiler(GCProfiler.class);
+		}
+		new Runner(options.build()).run();
+	}
+
+}
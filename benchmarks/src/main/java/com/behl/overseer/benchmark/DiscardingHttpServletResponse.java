@@ -0,0 +1,65 @@
+package com.behl.overseer.benchmark;
+
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Response discarding the status, headers and body written by the filters under
+ * measurement, so that the allocation rate reported by the GC profiler is not
+ * inflated by the bookkeeping of {@link MockHttpServletResponse}. Methods not
+ * overridden are delegated to a {@link MockHttpServletResponse}.
+ */
+public class DiscardingHttpServletResponse extends HttpServletResponseWrapper {
+
+	private final ServletOutputStream outputStream = new DiscardingServletOutputStream();
+
+	public DiscardingHttpServletResponse() {
+		super(new MockHttpServletResponse());
+	}
+
+	@Override
+	public void setStatus(final int status) {
+	}
+
+	@Override
+	public void setHeader(final String name, final String value) {
+	}
+
+	@Override
+	public void setContentType(final String type) {
+	}
+
+	@Override
+	public void setContentLength(final int length) {
+	}
+
+	@Override
+	public ServletOutputStream getOutputStream() {
+		return outputStream;
+	}
+
+	private static class DiscardingServletOutputStream extends ServletOutputStream {
+
+		@Override
+		public void write(final int b) {
+		}
+
+		@Override
+		public void write(final byte[] b, final int off, final int len) {
+		}
+
+		@Override
+		public boolean isReady() {
+			return true;
+		}
+
+		@Override
+		public void setWriteListener(final WriteListener writeListener) {
+		}
+
+	}
+
+}
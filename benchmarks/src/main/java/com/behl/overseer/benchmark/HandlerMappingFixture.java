@@ -0,0 +1,43 @@
+package com.behl.overseer.benchmark;
+
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.context.support.GenericWebApplicationContext;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import com.behl.overseer.controller.AuthenticationController;
+import com.behl.overseer.controller.JokeController;
+import com.behl.overseer.controller.PlanController;
+
+import lombok.Getter;
+
+/**
+ * Provisions a {@link RequestMappingHandlerMapping} holding the request
+ * mappings of the application's controllers, without starting the application.
+ * Controllers are instantiated without their collaborators as they are only
+ * inspected and never invoked.
+ */
+public class HandlerMappingFixture implements AutoCloseable {
+
+	private final GenericWebApplicationContext applicationContext;
+
+	@Getter
+	private final RequestMappingHandlerMapping requestHandlerMapping;
+
+	public HandlerMappingFixture() {
+		applicationContext = new GenericWebApplicationContext(new MockServletContext());
+		applicationContext.registerBean(PlanController.class, () -> new PlanController(null, null));
+		applicationContext.registerBean(JokeController.class, () -> new JokeController(null));
+		applicationContext.registerBean(AuthenticationController.class, () -> new AuthenticationController(null));
+		applicationContext.refresh();
+
+		requestHandlerMapping = new RequestMappingHandlerMapping();
+		requestHandlerMapping.setApplicationContext(applicationContext);
+		requestHandlerMapping.afterPropertiesSet();
+	}
+
+	@Override
+	public void close() {
+		applicationContext.close();
+	}
+
+}
@@ -0,0 +1,96 @@
+package com.behl.overseer.benchmark;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.github.bucket4j.distributed.proxy.ClientSideConfig;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.AbstractCompareAndSwapBasedProxyManager;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.AsyncCompareAndSwapOperation;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.CompareAndSwapOperation;
+import io.github.bucket4j.distributed.remote.RemoteBucketState;
+
+/**
+ * Compare-and-swap based {@link io.github.bucket4j.distributed.proxy.ProxyManager}
+ * storing serialized bucket states in a {@link ConcurrentHashMap}. Consumption
+ * goes through the same serialization path as the Redis backed proxy managers,
+ * isolating the cost borne by the application from network I/O.
+ *
+ * Optionally, a round trip latency can be configured, blocking the invoking
+ * thread on every read and compare-and-swap of a bucket state as a Redis call
+ * would.
+ */
+public class InMemoryProxyManager extends AbstractCompareAndSwapBasedProxyManager<String> {
+
+	private final Map<String, byte[]> bucketStates = new ConcurrentHashMap<>();
+	private final Duration roundTripLatency;
+
+	public InMemoryProxyManager() {
+		this(Duration.ZERO);
+	}
+
+	public InMemoryProxyManager(final Duration roundTripLatency) {
+		super(ClientSideConfig.getDefault());
+		this.roundTripLatency = roundTripLatency;
+	}
+
+	@Override
+	protected CompareAndSwapOperation beginCompareAndSwapOperation(final String key) {
+		return new CompareAndSwapOperation() {
+
+			@Override
+			public Optional<byte[]> getStateData(final Optional<Long> timeoutNanos) {
+				awaitRoundTrip();
+				return Optional.ofNullable(bucketStates.get(key));
+			}
+
+			@Override
+			public boolean compareAndSwap(final byte[] originalData, final byte[] newData, final RemoteBucketState newState,
+					final Optional<Long> timeoutNanos) {
+				awaitRoundTrip();
+				// states are replaced as a whole, hence identity comparison against the
+				// array handed out by getStateData is sufficient
+				if (originalData == null) {
+					return bucketStates.putIfAbsent(key, newData) == null;
+				}
+				return bucketStates.replace(key, originalData, newData);
+			}
+
+		};
+	}
+
+	@Override
+	protected AsyncCompareAndSwapOperation beginAsyncCompareAndSwapOperation(final String key) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void removeProxy(final String key) {
+		bucketStates.remove(key);
+	}
+
+	@Override
+	protected CompletableFuture<Void> removeAsync(final String key) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean isAsyncModeSupported() {
+		return false;
+	}
+
+	private void awaitRoundTrip() {
+		if (roundTripLatency.isZero()) {
+			return;
+		}
+		try {
+			Thread.sleep(roundTripLatency);
+		} catch (final InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(exception);
+		}
+	}
+
+}
@@ -0,0 +1,151 @@
+package com.behl.overseer.benchmark;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.behl.overseer.configuration.RateLimitConfigurationProperties;
+import com.behl.overseer.configuration.RateLimitConfigurationProperties.Backend;
+import com.behl.overseer.entity.Plan;
+import com.behl.overseer.entity.PlanBandwidth;
+import com.behl.overseer.repository.UserPlanMappingRepository;
+import com.behl.overseer.service.BucketProvider;
+import com.behl.overseer.service.ConsumptionCoalescer;
+import com.behl.overseer.service.DistributedBucketCircuitBreaker;
+import com.behl.overseer.service.DistributedBucketProvider;
+import com.behl.overseer.service.LocalBucketProvider;
+import com.behl.overseer.service.RateLimitDenyCache;
+import com.behl.overseer.service.RateLimitingService;
+import com.behl.overseer.service.TokenWaitScheduler;
+import com.behl.overseer.service.UserPlanCache;
+import com.behl.overseer.utility.RateLimitMetrics;
+
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+
+import lombok.Getter;
+
+/**
+ * Provisions a {@link RateLimitingService} backed either by the node-local
+ * {@link LocalBucketProvider} or by an {@link InMemoryProxyManager} standing in
+ * for Redis with an optional round trip latency. The datasource is replaced by
+ * a mock resolving the active plans of registered users, only consulted when a
+ * user's plan is first cached, keeping it out of the measured path.
+ *
+ * Plans are plain subclasses rather than mocks, as they're read on every
+ * decision and the invocation bookkeeping of mocks is synchronized, which would
+ * serialize concurrent benchmark threads.
+ */
+public class RateLimitingServiceFixture {
+
+	private final UserPlanMappingRepository userPlanMappingRepository = mock(UserPlanMappingRepository.class);
+
+	@Getter
+	private final RateLimitingService rateLimitingService;
+
+	@Getter
+	private final TokenWaitScheduler tokenWaitScheduler;
+
+	public RateLimitingServiceFixture() {
+		this(Backend.JCACHE);
+	}
+
+	public RateLimitingServiceFixture(final Backend backend) {
+		this(backend, Duration.ZERO);
+	}
+
+	public RateLimitingServiceFixture(final Backend backend, final Duration roundTripLatency) {
+		final var rateLimitConfigurationProperties = new RateLimitConfigurationProperties();
+		rateLimitConfigurationProperties.setBackend(backend);
+
+		final var userPlanCache = new UserPlanCache(userPlanMappingRepository, rateLimitConfigurationProperties);
+		final var rateLimitDenyCache = new RateLimitDenyCache(rateLimitConfigurationProperties);
+		final var bucketProvider = createBucketProvider(rateLimitConfigurationProperties, roundTripLatency);
+		final var rateLimitMetrics = new RateLimitMetrics(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT));
+		final var consumptionCoalescer = new ConsumptionCoalescer(rateLimitConfigurationProperties);
+		final var distributedBucketCircuitBreaker = new DistributedBucketCircuitBreaker(rateLimitMetrics, rateLimitConfigurationProperties);
+		rateLimitingService = new RateLimitingService(bucketProvider, Optional.empty(), Optional.empty(), userPlanCache,
+				rateLimitDenyCache, consumptionCoalescer, distributedBucketCircuitBreaker, null, rateLimitMetrics,
+				rateLimitConfigurationProperties);
+		tokenWaitScheduler = new TokenWaitScheduler(rateLimitingService, rateLimitMetrics, rateLimitConfigurationProperties);
+	}
+
+	/**
+	 * Registers a new user subscribed to a plan with the provided limit.
+	 *
+	 * @param limitPerHour number of requests the user is allowed per hour.
+	 * @return unique identifier of the registered user.
+	 */
+	public UUID registerUser(final int limitPerHour) {
+		final var plan = new BenchmarkPlan(limitPerHour);
+
+		final var userId = UUID.randomUUID();
+		when(userPlanMappingRepository.findActivePlan(userId)).thenReturn(plan);
+		return userId;
+	}
+
+	private BucketProvider createBucketProvider(final RateLimitConfigurationProperties rateLimitConfigurationProperties,
+			final Duration roundTripLatency) {
+		if (Backend.LOCAL.equals(rateLimitConfigurationProperties.getBackend())) {
+			return new LocalBucketProvider(rateLimitConfigurationProperties);
+		}
+		final var tokensInheritanceStrategy = rateLimitConfigurationProperties.getReconfiguration().getTokensInheritanceStrategy();
+		return new DistributedBucketProvider(new InMemoryProxyManager(roundTripLatency), tokensInheritanceStrategy);
+	}
+
+	private static class BenchmarkPlan extends Plan {
+
+		private final UUID id = UUID.randomUUID();
+		private final int limitPerHour;
+
+		BenchmarkPlan(final int limitPerHour) {
+			this.limitPerHour = limitPerHour;
+		}
+
+		@Override
+		public UUID getId() {
+			return id;
+		}
+
+		@Override
+		public String getName() {
+			return "BENCHMARK";
+		}
+
+		@Override
+		public Integer getLimitPerHour() {
+			return limitPerHour;
+		}
+
+		@Override
+		public Integer getLeaseSize() {
+			return 1;
+		}
+
+		@Override
+		public Integer getLeaseTtlSeconds() {
+			return 5;
+		}
+
+		@Override
+		public RefillStrategy getRefillStrategy() {
+			return RefillStrategy.INTERVAL;
+		}
+
+		@Override
+		public List<PlanBandwidth> getBandwidths() {
+			return List.of();
+		}
+
+		@Override
+		public long getConfigurationVersion() {
+			return 1;
+		}
+
+	}
+
+}
@@ -0,0 +1,181 @@
+package com.behl.overseer.controller;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.behl.overseer.benchmark.DiscardingHttpServletResponse;
+import com.behl.overseer.benchmark.HandlerMappingFixture;
+import com.behl.overseer.benchmark.RateLimitingServiceFixture;
+import com.behl.overseer.configuration.OpenApiConfigurationProperties;
+import com.behl.overseer.configuration.RateLimitConfigurationProperties.Backend;
+import com.behl.overseer.configuration.TokenConfigurationProperties;
+import com.behl.overseer.filter.JwtAuthenticationFilter;
+import com.behl.overseer.filter.RateLimitFilter;
+import com.behl.overseer.utility.ApiEndpointRateLimitInspector;
+import com.behl.overseer.utility.ApiEndpointSecurityInspector;
+import com.behl.overseer.utility.AuthenticatedUserIdProvider;
+import com.behl.overseer.utility.JokeGenerator;
+import com.behl.overseer.utility.JwtUtility;
+import com.behl.overseer.utility.RateLimitMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Encoders;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+
+/**
+ * Measures the time taken to serve a burst of concurrent requests to
+ * {@code /api/v1/joke}, each passing through {@link JwtAuthenticationFilter} and
+ * {@link RateLimitFilter} before reaching {@link JokeController}, on request
+ * threads of either kind:
+ * <ul>
+ *   <li>{@code PLATFORM}: a pool of {@value #PLATFORM_THREAD_POOL_SIZE} platform
+ *       threads, matching the default maximum of Tomcat's request threads.</li>
+ *   <li>{@code VIRTUAL}: a virtual thread per request, as with
+ *       {@code spring.threads.virtual.enabled} set.</li>
+ * </ul>
+ *
+ * Every read and update of a bucket blocks the request thread for the
+ * configured round trip latency, standing in for the Redis calls made by the
+ * distributed backends. Requests are spread over {@value #USER_COUNT} users
+ * whose limits are not exhausted during the benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JokeControllerBenchmark {
+
+	private static final int PLATFORM_THREAD_POOL_SIZE = 200;
+	private static final int USER_COUNT = 1_000;
+
+	@Param({ "PLATFORM", "VIRTUAL" })
+	private ThreadMode threadMode;
+
+	@Param({ "1000", "10000" })
+	private int concurrency;
+
+	@Param({ "1" })
+	private long roundTripLatencyMillis;
+
+	private HandlerMappingFixture handlerMappingFixture;
+	private JwtAuthenticationFilter jwtAuthenticationFilter;
+	private RateLimitFilter rateLimitFilter;
+	private JokeController jokeController;
+	private String[] authorizationHeaders;
+	private ExecutorService executorService;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		handlerMappingFixture = new HandlerMappingFixture();
+		final var requestHandlerMapping = handlerMappingFixture.getRequestHandlerMapping();
+
+		final var apiEndpointSecurityInspector = new ApiEndpointSecurityInspector(requestHandlerMapping, new OpenApiConfigurationProperties());
+		apiEndpointSecurityInspector.init();
+		final var apiEndpointRateLimitInspector = new ApiEndpointRateLimitInspector(requestHandlerMapping);
+		apiEndpointRateLimitInspector.init();
+
+		final var tokenConfigurationProperties = new TokenConfigurationProperties();
+		tokenConfigurationProperties.setSecretKey(Encoders.BASE64.encode(Jwts.SIG.HS256.key().build().getEncoded()));
+		tokenConfigurationProperties.setValidity(120);
+		final var jwtUtility = new JwtUtility("overseer", tokenConfigurationProperties);
+
+		final var rateLimitingServiceFixture = new RateLimitingServiceFixture(Backend.JCACHE, Duration.ofMillis(roundTripLatencyMillis));
+		authorizationHeaders = new String[USER_COUNT];
+		for (int i = 0; i < USER_COUNT; i++) {
+			final var userId = rateLimitingServiceFixture.registerUser(Integer.MAX_VALUE);
+			authorizationHeaders[i] = "Bearer " + jwtUtility.generateAccessToken(userId);
+		}
+
+		final var objectMapper = new ObjectMapper();
+		final var rateLimitMetrics = new RateLimitMetrics(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT));
+		jwtAuthenticationFilter = new JwtAuthenticationFilter(objectMapper, jwtUtility, rateLimitMetrics, apiEndpointSecurityInspector);
+		jwtAuthenticationFilter.afterPropertiesSet();
+		rateLimitFilter = new RateLimitFilter(objectMapper, rateLimitingServiceFixture.getRateLimitingService(),
+				rateLimitingServiceFixture.getTokenWaitScheduler(), new AuthenticatedUserIdProvider(), apiEndpointSecurityInspector, apiEndpointRateLimitInspector);
+		rateLimitFilter.afterPropertiesSet();
+		jokeController = new JokeController(new JokeGenerator());
+
+		executorService = threadMode.createExecutorService();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		executorService.close();
+		handlerMappingFixture.close();
+	}
+
+	@Benchmark
+	public void serveConcurrentRequests() throws Exception {
+		final var requests = new ArrayList<Future<?>>(concurrency);
+		for (int i = 0; i < concurrency; i++) {
+			final var authorizationHeader = authorizationHeaders[i % USER_COUNT];
+			requests.add(executorService.submit(() -> serve(authorizationHeader)));
+		}
+		for (final var request : requests) {
+			request.get();
+		}
+	}
+
+	private Void serve(final String authorizationHeader) throws Exception {
+		final var request = new MockHttpServletRequest("GET", "/api/v1/joke");
+		request.addHeader("Authorization", authorizationHeader);
+		final var response = new DiscardingHttpServletResponse();
+		try {
+			jwtAuthenticationFilter.doFilter(request, response, (authenticatedRequest, authenticatedResponse) ->
+				rateLimitFilter.doFilter(authenticatedRequest, authenticatedResponse, (permittedRequest, permittedResponse) -> jokeController.generate()));
+		} finally {
+			// pooled platform threads are reused across requests, as done by Spring Security's filter chain
+			SecurityContextHolder.clearContext();
+		}
+		return null;
+	}
+
+	public enum ThreadMode {
+
+		PLATFORM {
+
+			@Override
+			ExecutorService createExecutorService() {
+				return Executors.newFixedThreadPool(PLATFORM_THREAD_POOL_SIZE);
+			}
+
+		},
+
+		VIRTUAL {
+
+			@Override
+			ExecutorService createExecutorService() {
+				return Executors.newVirtualThreadPerTaskExecutor();
+			}
+
+		};
+
+		abstract ExecutorService createExecutorService();
+
+	}
+
+}
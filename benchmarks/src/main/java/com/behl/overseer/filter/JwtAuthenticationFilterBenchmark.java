@@ -0,0 +1,80 @@
+package com.behl.overseer.filter;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.behl.overseer.benchmark.DiscardingHttpServletResponse;
+import com.behl.overseer.benchmark.HandlerMappingFixture;
+import com.behl.overseer.configuration.OpenApiConfigurationProperties;
+import com.behl.overseer.configuration.TokenConfigurationProperties;
+import com.behl.overseer.utility.ApiEndpointSecurityInspector;
+import com.behl.overseer.utility.JwtUtility;
+import com.behl.overseer.utility.RateLimitMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import jakarta.servlet.FilterChain;
+
+/**
+ * Measures {@link JwtAuthenticationFilter} rejecting a request to a secured API
+ * endpoint which carries no access token. The response discards everything
+ * written to it, hence the allocation rate reported by {@code -prof gc} is the
+ * one borne by the rejection path itself.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+	private static final FilterChain NO_OP_FILTER_CHAIN = (request, response) -> {
+	};
+
+	private HandlerMappingFixture handlerMappingFixture;
+	private JwtAuthenticationFilter jwtAuthenticationFilter;
+	private MockHttpServletRequest request;
+	private DiscardingHttpServletResponse response;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		handlerMappingFixture = new HandlerMappingFixture();
+		final var apiEndpointSecurityInspector = new ApiEndpointSecurityInspector(handlerMappingFixture.getRequestHandlerMapping(),
+				new OpenApiConfigurationProperties());
+		apiEndpointSecurityInspector.init();
+
+		final var jwtUtility = new JwtUtility("overseer", new TokenConfigurationProperties());
+		final var rateLimitMetrics = new RateLimitMetrics(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT));
+		jwtAuthenticationFilter = new JwtAuthenticationFilter(new ObjectMapper(), jwtUtility, rateLimitMetrics, apiEndpointSecurityInspector);
+		jwtAuthenticationFilter.afterPropertiesSet();
+
+		request = new MockHttpServletRequest("GET", "/api/v1/joke");
+		response = new DiscardingHttpServletResponse();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		handlerMappingFixture.close();
+	}
+
+	@Benchmark
+	public void rejectMissingToken() throws Exception {
+		jwtAuthenticationFilter.doFilterInternal(request, response, NO_OP_FILTER_CHAIN);
+	}
+
+}
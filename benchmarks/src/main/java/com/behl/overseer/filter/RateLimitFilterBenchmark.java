@@ -0,0 +1,123 @@
+package com.behl.overseer.filter;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.behl.overseer.benchmark.DiscardingHttpServletResponse;
+import com.behl.overseer.benchmark.HandlerMappingFixture;
+import com.behl.overseer.benchmark.RateLimitingServiceFixture;
+import com.behl.overseer.configuration.OpenApiConfigurationProperties;
+import com.behl.overseer.utility.ApiEndpointRateLimitInspector;
+import com.behl.overseer.utility.ApiEndpointSecurityInspector;
+import com.behl.overseer.utility.AuthenticatedUserIdProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.FilterChain;
+
+/**
+ * Measures {@link RateLimitFilter} evaluating a secured request of an
+ * authenticated user, both for a user within their rate limit and for a user
+ * who has exhausted it. The security context is populated on the benchmark
+ * thread, as {@link JwtAuthenticationFilter} would have done.
+ *
+ * The response discards everything written to it, hence the allocation rate
+ * reported by {@code -prof gc} for the {@code REJECTED} scenario is the one
+ * borne by the rejection path itself.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RateLimitFilterBenchmark {
+
+	private static final FilterChain NO_OP_FILTER_CHAIN = (request, response) -> {
+	};
+
+	@Param({ "ALLOWED", "REJECTED" })
+	private Scenario scenario;
+
+	private HandlerMappingFixture handlerMappingFixture;
+	private RateLimitFilter rateLimitFilter;
+	private MockHttpServletRequest request;
+	private DiscardingHttpServletResponse response;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		handlerMappingFixture = new HandlerMappingFixture();
+		final var requestHandlerMapping = handlerMappingFixture.getRequestHandlerMapping();
+
+		final var apiEndpointSecurityInspector = new ApiEndpointSecurityInspector(requestHandlerMapping, new OpenApiConfigurationProperties());
+		apiEndpointSecurityInspector.init();
+		final var apiEndpointRateLimitInspector = new ApiEndpointRateLimitInspector(requestHandlerMapping);
+		apiEndpointRateLimitInspector.init();
+
+		final var rateLimitingServiceFixture = new RateLimitingServiceFixture();
+		final var rateLimitingService = rateLimitingServiceFixture.getRateLimitingService();
+		final var userId = rateLimitingServiceFixture.registerUser(scenario.getLimitPerHour());
+		if (Scenario.REJECTED.equals(scenario)) {
+			rateLimitingService.getBucket(userId).tryConsumeAsMuchAsPossible();
+		}
+
+		rateLimitFilter = new RateLimitFilter(new ObjectMapper(), rateLimitingService, rateLimitingServiceFixture.getTokenWaitScheduler(),
+				new AuthenticatedUserIdProvider(), apiEndpointSecurityInspector, apiEndpointRateLimitInspector);
+		rateLimitFilter.afterPropertiesSet();
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(userId, null, null));
+
+		request = new MockHttpServletRequest("GET", "/api/v1/joke");
+		response = new DiscardingHttpServletResponse();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		SecurityContextHolder.clearContext();
+		handlerMappingFixture.close();
+	}
+
+	@Benchmark
+	public void doFilterInternal() throws Exception {
+		rateLimitFilter.doFilterInternal(request, response, NO_OP_FILTER_CHAIN);
+	}
+
+	public enum Scenario {
+
+		/**
+		 * User subscribed to a limit which is not exhausted during the benchmark.
+		 */
+		ALLOWED(Integer.MAX_VALUE),
+
+		/**
+		 * User who has exhausted their limit prior to the benchmark.
+		 */
+		REJECTED(1);
+
+		private final int limitPerHour;
+
+		Scenario(final int limitPerHour) {
+			this.limitPerHour = limitPerHour;
+		}
+
+		int getLimitPerHour() {
+			return limitPerHour;
+		}
+
+	}
+
+}
@@ -0,0 +1,203 @@
+package com.behl.overseer.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the lookup of a user's active plan against a MySQL instance migrated
+ * by the application, seeded on first run with {@value #USER_COUNT} users
+ * having {@value #MAPPINGS_PER_USER} plan mappings each, a single one of which
+ * is active. The instance is located through the {@code MYSQL_URL},
+ * {@code MYSQL_USERNAME} and {@code MYSQL_PASSWORD} environment variables used
+ * by the application.
+ *
+ * The statements issued are the ones resolved by Hibernate for
+ * {@link UserPlanMappingRepository}:
+ * <ul>
+ *   <li>{@code legacyLookup}: {@link UserPlanMappingRepository#getActivePlan}
+ *       selecting the whole mapping row, followed by the eager loads of its user,
+ *       plan and the plan's bandwidths.</li>
+ *   <li>{@code projectedLookup}: {@link UserPlanMappingRepository#findActivePlan}
+ *       joining the active mapping straight to its plan and bandwidths.</li>
+ * </ul>
+ *
+ * Without the covering index, the schema prior to its migration is restored
+ * for the trial, the mappings of a user being reachable only through the
+ * index backing the foreign key on {@code user_id}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserPlanMappingRepositoryBenchmark {
+
+	private static final int USER_COUNT = 100_000;
+	private static final int MAPPINGS_PER_USER = 10;
+	private static final String EMAIL_ID_PREFIX = "benchmark-";
+	private static final String COVERING_INDEX = "idx_user_plan_mappings_active_plan";
+	private static final String FOREIGN_KEY_INDEX = "idx_user_plan_mappings_user_id";
+
+	@Param({ "true", "false" })
+	private boolean coveringIndex;
+
+	private Connection connection;
+	private PreparedStatement activeMappingStatement;
+	private PreparedStatement userStatement;
+	private PreparedStatement planStatement;
+	private PreparedStatement bandwidthStatement;
+	private PreparedStatement activePlanStatement;
+	private byte[][] userIds;
+
+	@Setup(Level.Trial)
+	public void setup() throws SQLException {
+		connection = DriverManager.getConnection(System.getenv("MYSQL_URL"), System.getenv("MYSQL_USERNAME"),
+				System.getenv("MYSQL_PASSWORD"));
+		seed();
+		if (Boolean.FALSE.equals(coveringIndex)) {
+			execute("CREATE INDEX " + FOREIGN_KEY_INDEX + " ON user_plan_mappings (user_id)");
+			execute("DROP INDEX " + COVERING_INDEX + " ON user_plan_mappings");
+		}
+		execute("ANALYZE TABLE user_plan_mappings");
+
+		activeMappingStatement = connection.prepareStatement("""
+			SELECT * FROM user_plan_mappings
+			WHERE user_id = ? AND is_active = true
+			""");
+		userStatement = connection.prepareStatement("SELECT id, email_id, password, created_at FROM users WHERE id = ?");
+		planStatement = connection.prepareStatement("""
+			SELECT id, name, limit_per_hour, lease_size, lease_ttl_seconds, refill_strategy, created_at, updated_at
+			FROM plans WHERE id = ?
+			""");
+		bandwidthStatement = connection.prepareStatement("SELECT capacity, period_seconds FROM plan_bandwidths WHERE plan_id = ?");
+		activePlanStatement = connection.prepareStatement("""
+			SELECT plan.id, plan.name, plan.limit_per_hour, plan.lease_size, plan.lease_ttl_seconds, plan.refill_strategy,
+				plan.created_at, plan.updated_at, bandwidth.capacity, bandwidth.period_seconds
+			FROM user_plan_mappings mapping
+			JOIN plans plan ON plan.id = mapping.plan_id
+			LEFT JOIN plan_bandwidths bandwidth ON bandwidth.plan_id = plan.id
+			WHERE mapping.user_id = ? AND mapping.is_active = true
+			""");
+		userIds = fetchUserIds();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		if (Boolean.FALSE.equals(coveringIndex)) {
+			execute("CREATE INDEX " + COVERING_INDEX + " ON user_plan_mappings (user_id, is_active, plan_id)");
+			execute("DROP INDEX " + FOREIGN_KEY_INDEX + " ON user_plan_mappings");
+		}
+		connection.close();
+	}
+
+	@Benchmark
+	public void legacyLookup(final Blackhole blackhole) throws SQLException {
+		activeMappingStatement.setBytes(1, randomUserId());
+		byte[] userId;
+		byte[] planId;
+		try (final var mapping = activeMappingStatement.executeQuery()) {
+			mapping.next();
+			userId = mapping.getBytes("user_id");
+			planId = mapping.getBytes("plan_id");
+			blackhole.consume(mapping.getBytes("id"));
+			blackhole.consume(mapping.getBoolean("is_active"));
+			blackhole.consume(mapping.getTimestamp("created_at"));
+			blackhole.consume(mapping.getTimestamp("updated_at"));
+		}
+		consumeRows(userStatement, userId, blackhole);
+		consumeRows(planStatement, planId, blackhole);
+		consumeRows(bandwidthStatement, planId, blackhole);
+	}
+
+	@Benchmark
+	public void projectedLookup(final Blackhole blackhole) throws SQLException {
+		consumeRows(activePlanStatement, randomUserId(), blackhole);
+	}
+
+	private byte[] randomUserId() {
+		return userIds[ThreadLocalRandom.current().nextInt(userIds.length)];
+	}
+
+	private void consumeRows(final PreparedStatement statement, final byte[] id, final Blackhole blackhole) throws SQLException {
+		statement.setBytes(1, id);
+		try (final var resultSet = statement.executeQuery()) {
+			final var columnCount = resultSet.getMetaData().getColumnCount();
+			while (resultSet.next()) {
+				for (int column = 1; column <= columnCount; column++) {
+					blackhole.consume(resultSet.getObject(column));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Inserts the benchmark users along with their plan mappings unless present
+	 * from a previous run, all but the last mapping of each user being inactive.
+	 */
+	private void seed() throws SQLException {
+		try (final var statement = connection.prepareStatement("SELECT COUNT(*) FROM users WHERE email_id LIKE ?")) {
+			statement.setString(1, EMAIL_ID_PREFIX + "%");
+			try (final var resultSet = statement.executeQuery()) {
+				resultSet.next();
+				if (resultSet.getInt(1) >= USER_COUNT) {
+					return;
+				}
+			}
+		}
+
+		execute("SET SESSION cte_max_recursion_depth = " + USER_COUNT);
+		execute("""
+			INSERT INTO users (email_id, password)
+			WITH RECURSIVE numbers (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM numbers WHERE n < %d)
+			SELECT CONCAT('%s', n, '@overseer.test'), REPEAT('x', 60) FROM numbers
+			""".formatted(USER_COUNT, EMAIL_ID_PREFIX));
+		execute("""
+			INSERT INTO user_plan_mappings (user_id, plan_id, is_active)
+			WITH RECURSIVE numbers (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM numbers WHERE n < %d)
+			SELECT benchmark_user.id, (SELECT id FROM plans ORDER BY limit_per_hour LIMIT 1), numbers.n = %d
+			FROM users benchmark_user CROSS JOIN numbers
+			WHERE benchmark_user.email_id LIKE '%s%%'
+			""".formatted(MAPPINGS_PER_USER, MAPPINGS_PER_USER, EMAIL_ID_PREFIX));
+	}
+
+	private byte[][] fetchUserIds() throws SQLException {
+		final var fetchedUserIds = new ArrayList<byte[]>(USER_COUNT);
+		try (final var statement = connection.prepareStatement("SELECT id FROM users WHERE email_id LIKE ?")) {
+			statement.setString(1, EMAIL_ID_PREFIX + "%");
+			try (final var resultSet = statement.executeQuery()) {
+				while (resultSet.next()) {
+					fetchedUserIds.add(resultSet.getBytes(1));
+				}
+			}
+		}
+		return fetchedUserIds.toArray(byte[][]::new);
+	}
+
+	private void execute(final String sql) throws SQLException {
+		try (final var statement = connection.createStatement()) {
+			statement.execute(sql);
+		}
+	}
+
+}
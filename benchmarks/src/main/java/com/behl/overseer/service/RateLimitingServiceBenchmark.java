@@ -0,0 +1,62 @@
+package com.behl.overseer.service;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.behl.overseer.benchmark.InMemoryProxyManager;
+import com.behl.overseer.benchmark.RateLimitingServiceFixture;
+import com.behl.overseer.configuration.RateLimitConfigurationProperties.Backend;
+
+import io.github.bucket4j.ConsumptionProbe;
+
+/**
+ * Measures consumption of tokens from a user's bucket through
+ * {@link RateLimitingService}, backed either by the node-local buckets of the
+ * {@link Backend#LOCAL} backend or by an {@link InMemoryProxyManager} standing in
+ * for Redis to exclude network I/O from the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RateLimitingServiceBenchmark {
+
+	@Param({ "JCACHE", "LOCAL" })
+	private Backend backend;
+
+	private RateLimitingService rateLimitingService;
+	private UUID userId;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final var rateLimitingServiceFixture = new RateLimitingServiceFixture(backend);
+		rateLimitingService = rateLimitingServiceFixture.getRateLimitingService();
+		userId = rateLimitingServiceFixture.registerUser(Integer.MAX_VALUE);
+	}
+
+	@Benchmark
+	public ConsumptionProbe getBucketAndConsume() {
+		return rateLimitingService.getBucket(userId).tryConsumeAndReturnRemaining(1);
+	}
+
+	@Benchmark
+	public ConsumptionProbe tryConsume() {
+		return rateLimitingService.tryConsume(userId);
+	}
+
+}
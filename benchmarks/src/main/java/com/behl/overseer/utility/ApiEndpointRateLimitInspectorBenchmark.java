@@ -0,0 +1,89 @@
+package com.behl.overseer.utility;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import com.behl.overseer.benchmark.HandlerMappingFixture;
+import com.behl.overseer.configuration.BypassRateLimit;
+
+import lombok.SneakyThrows;
+
+/**
+ * Compares the per-request {@link BypassRateLimit} check performed through a
+ * full Spring MVC handler lookup against the startup-built index of
+ * {@link ApiEndpointRateLimitInspector}. Both approaches evaluate the request
+ * mappings of the application's controllers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApiEndpointRateLimitInspectorBenchmark {
+
+	@Param({ "PUT:/api/v1/plan", "GET:/api/v1/joke" })
+	private String endpoint;
+
+	private HandlerMappingFixture handlerMappingFixture;
+	private RequestMappingHandlerMapping requestHandlerMapping;
+	private ApiEndpointRateLimitInspector apiEndpointRateLimitInspector;
+	private MockHttpServletRequest request;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		handlerMappingFixture = new HandlerMappingFixture();
+		requestHandlerMapping = handlerMappingFixture.getRequestHandlerMapping();
+
+		apiEndpointRateLimitInspector = new ApiEndpointRateLimitInspector(requestHandlerMapping);
+		apiEndpointRateLimitInspector.init();
+
+		final var separatorIndex = endpoint.indexOf(':');
+		request = new MockHttpServletRequest(endpoint.substring(0, separatorIndex), endpoint.substring(separatorIndex + 1));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		handlerMappingFixture.close();
+	}
+
+	@Benchmark
+	public boolean handlerLookup() {
+		return isBypassedThroughHandlerLookup();
+	}
+
+	@Benchmark
+	public boolean startupIndex() {
+		return apiEndpointRateLimitInspector.isBypassed(request);
+	}
+
+	/**
+	 * Replica of the check previously performed by
+	 * {@link com.behl.overseer.filter.RateLimitFilter} on every secured request.
+	 */
+	@SneakyThrows
+	private boolean isBypassedThroughHandlerLookup() {
+		final var handlerChain = requestHandlerMapping.getHandler(request);
+		if (handlerChain != null && handlerChain.getHandler() instanceof HandlerMethod handlerMethod) {
+			return handlerMethod.getMethod().isAnnotationPresent(BypassRateLimit.class);
+		}
+		return Boolean.FALSE;
+	}
+
+}
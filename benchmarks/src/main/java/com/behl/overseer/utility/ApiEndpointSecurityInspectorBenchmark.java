@@ -0,0 +1,70 @@
+package com.behl.overseer.utility;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.behl.overseer.benchmark.HandlerMappingFixture;
+import com.behl.overseer.configuration.OpenApiConfigurationProperties;
+
+/**
+ * Measures inspection of incoming requests against the public endpoints of the
+ * application. The memoized outcome is cleared before every invocation so that
+ * each operation evaluates the compiled matcher.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApiEndpointSecurityInspectorBenchmark {
+
+	private static final String UNSECURE_REQUEST_ATTRIBUTE = ApiEndpointSecurityInspector.class.getName() + ".UNSECURE_REQUEST";
+
+	@Param({ "GET:/api/v1/plan", "GET:/api/v1/joke", "GET:/swagger-ui/index.html" })
+	private String endpoint;
+
+	private HandlerMappingFixture handlerMappingFixture;
+	private ApiEndpointSecurityInspector apiEndpointSecurityInspector;
+	private MockHttpServletRequest request;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		handlerMappingFixture = new HandlerMappingFixture();
+		final var openApiConfigurationProperties = new OpenApiConfigurationProperties();
+		openApiConfigurationProperties.getOpenApi().setEnabled(true);
+
+		apiEndpointSecurityInspector = new ApiEndpointSecurityInspector(handlerMappingFixture.getRequestHandlerMapping(),
+				openApiConfigurationProperties);
+		apiEndpointSecurityInspector.init();
+
+		final var separatorIndex = endpoint.indexOf(':');
+		request = new MockHttpServletRequest(endpoint.substring(0, separatorIndex), endpoint.substring(separatorIndex + 1));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		handlerMappingFixture.close();
+	}
+
+	@Benchmark
+	public boolean isUnsecureRequest() {
+		request.removeAttribute(UNSECURE_REQUEST_ATTRIBUTE);
+		return apiEndpointSecurityInspector.isUnsecureRequest(request);
+	}
+
+}
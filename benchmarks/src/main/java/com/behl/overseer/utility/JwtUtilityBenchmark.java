@@ -0,0 +1,58 @@
+package com.behl.overseer.utility;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.behl.overseer.configuration.TokenConfigurationProperties;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Encoders;
+
+/**
+ * Measures extraction of the user's ID from a valid access token, with and
+ * without the verified token cache of {@link JwtUtility}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilityBenchmark {
+
+	@Param({ "true", "false" })
+	private boolean cacheEnabled;
+
+	private JwtUtility jwtUtility;
+	private String accessToken;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final var tokenConfigurationProperties = new TokenConfigurationProperties();
+		tokenConfigurationProperties.setSecretKey(Encoders.BASE64.encode(Jwts.SIG.HS256.key().build().getEncoded()));
+		tokenConfigurationProperties.setValidity(120);
+		tokenConfigurationProperties.getCache().setEnabled(cacheEnabled);
+
+		jwtUtility = new JwtUtility("overseer", tokenConfigurationProperties);
+		accessToken = jwtUtility.generateAccessToken(UUID.randomUUID());
+	}
+
+	@Benchmark
+	public UUID getUserId() {
+		return jwtUtility.getUserId(accessToken);
+	}
+
+}
@@ -12,10 +12,13 @@ import java.lang.annotation.Target;
  * 
  * When applied to a controller method, requests to that method will not be
  * subject to rate limiting by the {@link com.behl.overseer.filter.RateLimitFilter}.
+ * When applied to a controller class, the same applies to all of its methods.
  * 
  * @see com.behl.overseer.filter.RateLimitFilter
+ * @see com.behl.overseer.filter.RateLimitWebFilter
+ * @see com.behl.overseer.utility.ApiEndpointRateLimitInspector
  */
-@Target(ElementType.METHOD)
+@Target({ ElementType.METHOD, ElementType.TYPE })
 @Retention(RetentionPolicy.RUNTIME)
 public @interface BypassRateLimit {
 
@@ -0,0 +1,63 @@
+package com.behl.overseer.configuration;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javax.cache.Caching;
+import javax.cache.configuration.MutableConfiguration;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.Duration;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.behl.overseer.entity.Plan;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Configuration class enabling Hibernate's second-level cache for entities
+ * annotated with {@link org.hibernate.annotations.Cache}, backed by node-local
+ * Caffeine caches accessed through the JCache API. The regions are created
+ * ahead of Hibernate's bootstrap with entries expiring post the time to live
+ * configured for the plan cache, bounding the staleness of plans updated
+ * directly in the datasource alike the active plans of users.
+ *
+ * The Caffeine provider is selected explicitly, as Redisson registers a JCache
+ * provider of its own backing the {@code jcache} rate limit backend.
+ *
+ * @see com.behl.overseer.configuration.RateLimitConfigurationProperties.PlanCache
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitConfigurationProperties.class)
+public class HibernateCacheConfiguration {
+
+	private static final List<String> CACHE_REGIONS = List.of(Plan.CACHE_REGION, Plan.BANDWIDTHS_CACHE_REGION);
+
+	@Bean
+	HibernatePropertiesCustomizer secondLevelCacheCustomizer(final RateLimitConfigurationProperties rateLimitConfigurationProperties) {
+		final var timeToLive = rateLimitConfigurationProperties.getPlanCache().getTimeToLive();
+		final var cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+		final var configuration = new MutableConfiguration<Object, Object>()
+				.setStoreByValue(false)
+				.setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(new Duration(TimeUnit.MILLISECONDS, timeToLive.toMillis())));
+
+		for (final var region : CACHE_REGIONS) {
+			final var isCacheCreated = Optional.ofNullable(cacheManager.getCache(region)).isPresent();
+			if (Boolean.FALSE.equals(isCacheCreated)) {
+				cacheManager.createCache(region, configuration);
+			}
+		}
+
+		return hibernateProperties -> {
+			hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, Boolean.TRUE);
+			hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+			hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+		};
+	}
+
+}
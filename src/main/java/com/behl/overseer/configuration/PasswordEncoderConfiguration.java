@@ -0,0 +1,24 @@
+package com.behl.overseer.configuration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Configuration class provisioning the {@link PasswordEncoder} used to hash and
+ * verify user credentials, shared by the servlet and reactive deployments of
+ * the application.
+ *
+ * @see com.behl.overseer.configuration.SecurityConfiguration
+ * @see com.behl.overseer.configuration.ReactiveSecurityConfiguration
+ */
+@Configuration
+public class PasswordEncoderConfiguration {
+
+	@Bean
+	public PasswordEncoder passwordEncoder() {
+		return new BCryptPasswordEncoder();
+	}
+
+}
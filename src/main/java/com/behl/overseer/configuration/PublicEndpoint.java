@@ -14,6 +14,7 @@ import java.lang.annotation.Target;
  * 
  * @see com.behl.overseer.configuration.SecurityConfiguration
  * @see com.behl.overseer.filter.JwtAuthenticationFilter
+ * @see com.behl.overseer.filter.JwtAuthenticationWebFilter
  */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
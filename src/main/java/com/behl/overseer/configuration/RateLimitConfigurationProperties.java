@@ -0,0 +1,386 @@
+package com.behl.overseer.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import io.github.bucket4j.TokensInheritanceStrategy;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Configuration properties governing how rate limit enforcement is carried out
+ * by the application. The configured values are referenced when consuming
+ * tokens from the user's rate limit bucket.
+ *
+ * @see com.behl.overseer.service.RateLimitingService
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "com.behl.overseer.rate-limit")
+public class RateLimitConfigurationProperties {
+
+	/**
+	 * The storage backend holding the distributed rate limit buckets of users.
+	 * Defaults to {@link Backend#JCACHE}.
+	 */
+	@NotNull
+	private Backend backend = Backend.JCACHE;
+
+	/**
+	 * The engine evaluating token consumption against the user's rate limit
+	 * bucket. Defaults to {@link Engine#BUCKET4J}.
+	 */
+	@NotNull
+	private Engine engine = Engine.BUCKET4J;
+
+	private TokenLeasing tokenLeasing = new TokenLeasing();
+
+	private DenyCache denyCache = new DenyCache();
+
+	private PlanCache planCache = new PlanCache();
+
+	private LocalBackend localBackend = new LocalBackend();
+
+	private RedisConnectionPool redisConnectionPool = new RedisConnectionPool();
+
+	private Pipelining pipelining = new Pipelining();
+
+	private Coalescing coalescing = new Coalescing();
+
+	private Waiting waiting = new Waiting();
+
+	private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+	private Reconfiguration reconfiguration = new Reconfiguration();
+
+	public enum Backend {
+
+		/**
+		 * Buckets are stored in a Redisson backed JCache, with every consumption
+		 * carried out through an entry processor.
+		 */
+		JCACHE,
+
+		/**
+		 * Buckets are stored directly in Redis through Redisson's native client, with
+		 * every consumption carried out as a compare-and-swap operation.
+		 */
+		REDISSON,
+
+		/**
+		 * Buckets are held in a bounded cache on the current node and consumed through
+		 * lock-free operations, with no dependency on Redis. Buckets are not shared
+		 * between nodes, hence only suitable for single-node deployments and tests.
+		 */
+		LOCAL
+
+	}
+
+	public enum Engine {
+
+		/**
+		 * Consumption is evaluated by Bucket4j against the bucket stored in the
+		 * configured {@link Backend}.
+		 */
+		BUCKET4J,
+
+		/**
+		 * Consumption is evaluated inside Redis by a Lua script operating on a compact
+		 * hash per user, refilling and consuming tokens in a single round trip. The
+		 * configured {@link Backend} and token leasing are not used for consumption
+		 * with this engine.
+		 */
+		LUA
+
+	}
+
+	public enum FallbackMode {
+
+		/**
+		 * Decisions are taken against a bucket held on the current node for each
+		 * user, sized at the user's plan limits divided by the expected number of
+		 * nodes.
+		 */
+		LOCAL,
+
+		/**
+		 * Every request is allowed.
+		 */
+		FAIL_OPEN,
+
+		/**
+		 * Every request is rejected.
+		 */
+		FAIL_CLOSED
+
+	}
+
+	@Getter
+	@Setter
+	public class TokenLeasing {
+
+		/**
+		 * Determines whether tokens are leased in batches from the distributed bucket
+		 * and served from a node-local counter, instead of consuming a single token
+		 * from the distributed bucket on every request. The lease size and lease
+		 * validity are governed by the user's current {@link com.behl.overseer.entity.Plan}.
+		 *
+		 * Disabled by default.
+		 */
+		private boolean enabled;
+
+	}
+
+	@Getter
+	@Setter
+	public class DenyCache {
+
+		/**
+		 * Determines whether users who have exhausted their rate limit are remembered
+		 * on the current node until their bucket is refilled, rejecting their
+		 * subsequent requests locally without contacting the distributed bucket.
+		 *
+		 * Enabled by default.
+		 */
+		private boolean enabled = true;
+
+		/**
+		 * The maximum number of rate limited users remembered on the current node.
+		 */
+		@Positive
+		private int maximumSize = 100_000;
+
+	}
+
+	@Getter
+	@Setter
+	public class PlanCache {
+
+		/**
+		 * The maximum number of users whose active plan is cached on the current node.
+		 */
+		@Positive
+		private int maximumSize = 100_000;
+
+		/**
+		 * Duration post which a cached active plan is fetched again from the
+		 * datasource, bounding staleness should an eviction be missed. Plans held in
+		 * Hibernate's second-level cache and the snapshot of available plans expire
+		 * post the same duration.
+		 */
+		@NotNull
+		private Duration timeToLive = Duration.ofMinutes(10);
+
+	}
+
+	@Getter
+	@Setter
+	public class LocalBackend {
+
+		/**
+		 * The maximum number of buckets held on the current node when
+		 * {@link Backend#LOCAL} is configured. Buckets of users who've been idle long
+		 * enough to be refilled completely are evicted regardless.
+		 */
+		@Positive
+		private int maximumSize = 1_000_000;
+
+	}
+
+	@Getter
+	@Setter
+	public class RedisConnectionPool {
+
+		/**
+		 * The maximum number of connections held by the Redisson client of the
+		 * {@link Backend#JCACHE} and {@link Backend#REDISSON} backends, bounding the
+		 * number of commands in flight. Requests beyond it wait for a connection to be
+		 * released, which is cheap for virtual threads, hence the pool is to be sized
+		 * for the throughput Redis can sustain rather than for the number of request
+		 * threads.
+		 */
+		@Positive
+		private int size = 64;
+
+		/**
+		 * The number of connections kept open while idle, sparing connection
+		 * establishment on bursts of requests.
+		 */
+		@Positive
+		private int minimumIdleSize = 24;
+
+	}
+
+	@Getter
+	@Setter
+	public class Pipelining {
+
+		/**
+		 * Determines whether concurrent consumptions of different users are gathered
+		 * on the current node and sent to Redis as a single pipelined batch, instead
+		 * of a round trip per request. Only applicable to {@link Engine#LUA}.
+		 *
+		 * Disabled by default.
+		 */
+		private boolean enabled;
+
+		/**
+		 * The maximum duration a consumption waits for others to join its batch,
+		 * bounding the latency added to each request. A batch is sent as soon as it
+		 * is full, without waiting for the window to elapse.
+		 */
+		@NotNull
+		private Duration window = Duration.ofNanos(200_000);
+
+		/**
+		 * The maximum number of consumptions sent to Redis in a single batch.
+		 */
+		@Positive
+		private int maximumBatchSize = 128;
+
+	}
+
+	@Getter
+	@Setter
+	public class Coalescing {
+
+		/**
+		 * Determines whether concurrent consumptions of the same user on the current
+		 * node are merged into a single remote consumption of multiple tokens, the
+		 * result of which is split among the merged requests. Not applicable to
+		 * tokens served from a node-local lease.
+		 *
+		 * Disabled by default.
+		 */
+		private boolean enabled;
+
+	}
+
+	@Getter
+	@Setter
+	public class Waiting {
+
+		/**
+		 * The maximum number of requests parked on the current node while waiting for
+		 * tokens to be refilled, bounding the memory held by waiting requests.
+		 * Requests arriving once the limit is reached are rejected right away.
+		 */
+		@Positive
+		private int maximumParkedRequests = 1_000;
+
+	}
+
+	@Getter
+	@Setter
+	public class CircuitBreaker {
+
+		/**
+		 * Determines whether consumptions against the distributed buckets are guarded
+		 * by a circuit breaker, with rate limit decisions falling back to the
+		 * configured {@link FallbackMode} while the breaker is open.
+		 *
+		 * Disabled by default.
+		 */
+		private boolean enabled;
+
+		/**
+		 * The maximum duration a request waits for a consumption against the
+		 * distributed bucket, post which the consumption is abandoned, recorded as a
+		 * failure and the fallback decision taken instead.
+		 */
+		@NotNull
+		private Duration callTimeout = Duration.ofMillis(250);
+
+		/**
+		 * The duration post which a consumption is considered slow, slow consumptions
+		 * opening the breaker alike failures once their rate exceeds the slow call
+		 * rate threshold.
+		 */
+		@NotNull
+		private Duration slowCallDurationThreshold = Duration.ofMillis(100);
+
+		/**
+		 * The percentage of failed consumptions, including timeouts, in the sliding
+		 * window post which the breaker opens.
+		 */
+		@Positive
+		@Max(100)
+		private float failureRateThreshold = 50;
+
+		/**
+		 * The percentage of slow consumptions in the sliding window post which the
+		 * breaker opens.
+		 */
+		@Positive
+		@Max(100)
+		private float slowCallRateThreshold = 50;
+
+		/**
+		 * The number of most recent consumptions the failure and slow call rates are
+		 * computed over.
+		 */
+		@Positive
+		private int slidingWindowSize = 100;
+
+		/**
+		 * The minimum number of consumptions recorded in the sliding window before
+		 * the failure and slow call rates are evaluated.
+		 */
+		@Positive
+		private int minimumNumberOfCalls = 20;
+
+		/**
+		 * The duration the breaker stays open before transitioning to half-open, in
+		 * which a limited number of probe consumptions decide whether it is closed or
+		 * opened again.
+		 */
+		@NotNull
+		private Duration waitDurationInOpenState = Duration.ofSeconds(10);
+
+		/**
+		 * The number of probe consumptions permitted while the breaker is half-open.
+		 */
+		@Positive
+		private int permittedNumberOfCallsInHalfOpenState = 10;
+
+		/**
+		 * The decision taken for requests while the breaker is open, or once a
+		 * consumption has failed or timed out. Defaults to {@link FallbackMode#LOCAL}.
+		 */
+		@NotNull
+		private FallbackMode fallbackMode = FallbackMode.LOCAL;
+
+		/**
+		 * The number of nodes the application is expected to be deployed on, the
+		 * limits of the user's plan being divided by it to size the node-local buckets
+		 * of {@link FallbackMode#LOCAL}.
+		 */
+		@Positive
+		private int expectedNodeCount = 1;
+
+	}
+
+	@Getter
+	@Setter
+	public class Reconfiguration {
+
+		/**
+		 * The manner in which tokens already consumed from a user's bucket are carried
+		 * over when the bucket is reconfigured, either following a change of the
+		 * user's plan or an update of the plan itself. Defaults to
+		 * {@link TokensInheritanceStrategy#PROPORTIONALLY}, preserving the fraction
+		 * of the quota consumed, so that switching plans back and forth does not
+		 * grant a fresh quota.
+		 */
+		@NotNull
+		private TokensInheritanceStrategy tokensInheritanceStrategy = TokensInheritanceStrategy.PROPORTIONALLY;
+
+	}
+
+}
@@ -0,0 +1,32 @@
+package com.behl.overseer.configuration;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation for pricing private API endpoints in tokens, allowing expensive
+ * endpoints to consume a larger share of the user's rate limit than the single
+ * token consumed by default.
+ * 
+ * When applied to a controller method, requests to that method consume the
+ * configured number of tokens through the {@link com.behl.overseer.filter.RateLimitFilter},
+ * atomically in a single consumption. When applied to a controller class, the
+ * same applies to all of its methods, unless overridden at method level.
+ * Endpoints annotated with {@link BypassRateLimit} are exempted regardless.
+ * 
+ * @see com.behl.overseer.filter.RateLimitFilter
+ * @see com.behl.overseer.filter.RateLimitWebFilter
+ * @see com.behl.overseer.utility.ApiEndpointRateLimitInspector
+ */
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimitCost {
+
+	/**
+	 * The number of tokens consumed by each request, must be positive.
+	 */
+	int tokens();
+
+}
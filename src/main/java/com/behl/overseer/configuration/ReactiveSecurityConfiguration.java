@@ -0,0 +1,92 @@
+package com.behl.overseer.configuration;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsConfigurationSource;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+
+import com.behl.overseer.filter.JwtAuthenticationWebFilter;
+import com.behl.overseer.filter.RateLimitWebFilter;
+import com.behl.overseer.service.RateLimitingService;
+import com.behl.overseer.utility.JwtUtility;
+import com.behl.overseer.utility.RateLimitMetrics;
+import com.behl.overseer.utility.ReactiveApiEndpointRateLimitInspector;
+import com.behl.overseer.utility.ReactiveApiEndpointSecurityInspector;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reactive counterpart of {@link SecurityConfiguration}, active when the
+ * application is deployed on WebFlux. It sets up the same public API endpoints
+ * and CORS settings, integrating {@link JwtAuthenticationWebFilter} at the
+ * authentication stage of the security web filter chain, followed by
+ * {@link RateLimitWebFilter}.
+ *
+ * No security context is persisted across requests, every private API request
+ * being authenticated by the access token it carries.
+ *
+ * @see com.behl.overseer.filter.JwtAuthenticationWebFilter
+ * @see com.behl.overseer.filter.RateLimitWebFilter
+ * @see com.behl.overseer.utility.ReactiveApiEndpointSecurityInspector
+ */
+@Configuration
+@EnableWebFluxSecurity
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveSecurityConfiguration {
+
+	private final ObjectMapper objectMapper;
+	private final JwtUtility jwtUtility;
+	private final RateLimitMetrics rateLimitMetrics;
+	private final RateLimitingService rateLimitingService;
+	private final ReactiveApiEndpointSecurityInspector apiEndpointSecurityInspector;
+	private final ReactiveApiEndpointRateLimitInspector apiEndpointRateLimitInspector;
+
+	@Bean
+	public SecurityWebFilterChain configure(final ServerHttpSecurity http) {
+		final var jwtAuthenticationWebFilter = new JwtAuthenticationWebFilter(objectMapper, jwtUtility, rateLimitMetrics, apiEndpointSecurityInspector);
+		final var rateLimitWebFilter = new RateLimitWebFilter(objectMapper, rateLimitingService, apiEndpointSecurityInspector, apiEndpointRateLimitInspector);
+
+		http
+			.cors(corsConfigurer -> corsConfigurer.configurationSource(corsConfigurationSource()))
+			.csrf(csrfConfigurer -> csrfConfigurer.disable())
+			.httpBasic(httpBasicConfigurer -> httpBasicConfigurer.disable())
+			.formLogin(formLoginConfigurer -> formLoginConfigurer.disable())
+			.securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+			.authorizeExchange(authManager -> {
+					authManager
+						.pathMatchers(HttpMethod.GET, apiEndpointSecurityInspector.getPublicGetEndpoints().toArray(String[]::new)).permitAll()
+						.pathMatchers(HttpMethod.POST, apiEndpointSecurityInspector.getPublicPostEndpoints().toArray(String[]::new)).permitAll()
+					.anyExchange().authenticated();
+				})
+			.addFilterAt(jwtAuthenticationWebFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+			.addFilterAfter(rateLimitWebFilter, SecurityWebFiltersOrder.AUTHENTICATION);
+
+		return http.build();
+	}
+
+	private CorsConfigurationSource corsConfigurationSource() {
+		final var corsConfiguration = new CorsConfiguration();
+		corsConfiguration.setAllowedOrigins(List.of("*"));
+		corsConfiguration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+		corsConfiguration.setAllowedHeaders(List.of("Authorization", "Origin", "Content-Type", "Accept"));
+		corsConfiguration.setExposedHeaders(List.of("Content-Type", "X-Rate-Limit-Retry-After-Seconds", "X-Rate-Limit-Remaining"));
+
+		final var corsConfigurationSource = new UrlBasedCorsConfigurationSource();
+		corsConfigurationSource.registerCorsConfiguration("/**", corsConfiguration);
+		return corsConfigurationSource;
+	}
+
+}
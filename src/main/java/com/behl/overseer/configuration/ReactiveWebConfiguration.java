@@ -0,0 +1,29 @@
+package com.behl.overseer.configuration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.web.reactive.config.BlockingExecutionConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * Configures the reactive deployment to invoke controller methods with blocking
+ * signatures on virtual threads, keeping the datasource calls made by them off
+ * the event loop. Rate limit enforcement itself completes ahead of the handler
+ * without holding any thread while Redis calls are in flight.
+ *
+ * @see com.behl.overseer.configuration.ReactiveSecurityConfiguration
+ */
+@Configuration
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveWebConfiguration implements WebFluxConfigurer {
+
+	private static final String BLOCKING_HANDLER_THREAD_PREFIX = "blocking-handler-";
+
+	@Override
+	public void configureBlockingExecution(final BlockingExecutionConfigurer configurer) {
+		configurer.setExecutor(new VirtualThreadTaskExecutor(BLOCKING_HANDLER_THREAD_PREFIX));
+	}
+
+}
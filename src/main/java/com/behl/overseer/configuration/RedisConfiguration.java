@@ -1,43 +1,146 @@
 package com.behl.overseer.configuration;
 
+import java.time.Duration;
 import java.util.Optional;
-import java.util.UUID;
 
 import javax.cache.CacheManager;
 import javax.cache.Caching;
 
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
+import org.redisson.jcache.JCachingProvider;
 import org.redisson.jcache.configuration.RedissonConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
+import com.behl.overseer.service.BucketProvider;
+import com.behl.overseer.service.DistributedBucketProvider;
+import com.behl.overseer.service.RateLimitResetListener;
+
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
 import io.github.bucket4j.distributed.proxy.ProxyManager;
 import io.github.bucket4j.grid.jcache.JCacheProxyManager;
+import io.github.bucket4j.redis.redisson.cas.RedissonBasedProxyManager;
 
+/**
+ * Configuration class responsible for provisioning the {@link ProxyManager}
+ * through which the distributed rate limit buckets of users are accessed. The
+ * backend is selected through the {@code com.behl.overseer.rate-limit.backend}
+ * property:
+ * <ul>
+ *   <li>{@code jcache} (default): buckets are stored in a Redisson backed JCache
+ *       and consumed through lock-based entry processing.</li>
+ *   <li>{@code redisson}: buckets are stored through Redisson's native client
+ *       and consumed through compare-and-swap operations, with support for
+ *       asynchronous consumption.</li>
+ * </ul>
+ *
+ * None of the beans are provisioned when the {@code local} backend is
+ * configured, in which case buckets are held on the current node by
+ * {@link com.behl.overseer.service.LocalBucketProvider}.
+ *
+ * Additionally, a subscription to {@link #RATE_LIMIT_RESET_CHANNEL} is
+ * registered to evict the node-local rate limit state of users whose rate limit
+ * has been reset on any node of the application.
+ *
+ * @see com.behl.overseer.configuration.RateLimitConfigurationProperties
+ * @see com.behl.overseer.service.RateLimitingService
+ * @see com.behl.overseer.service.RateLimitResetListener
+ */
 @Configuration
+@EnableConfigurationProperties(RateLimitConfigurationProperties.class)
+@ConditionalOnExpression("!'${com.behl.overseer.rate-limit.backend:jcache}'.equalsIgnoreCase('local')")
 public class RedisConfiguration {
 
+	public static final String RATE_LIMIT_RESET_CHANNEL = "rate-limit:reset";
+
 	private static final String CACHE_NAME = "rate-limit";
+	private static final String BACKEND_PROPERTY_PREFIX = "com.behl.overseer.rate-limit";
+	private static final String BACKEND_PROPERTY_NAME = "backend";
+
+	/**
+	 * Buckets are removed from Redis once they've been idle long enough to be
+	 * refilled completely, as a fresh bucket would be identical to the removed one.
+	 */
+	private static final Duration BUCKET_EXPIRATION = Duration.ofHours(1);
 
 	@Bean(name = "rate-limit-cache-manager")
-	public CacheManager cacheManager(final RedisProperties redisProperties) {
-		final var cacheManager = Caching.getCachingProvider().getCacheManager();
+	@ConditionalOnProperty(prefix = BACKEND_PROPERTY_PREFIX, name = BACKEND_PROPERTY_NAME, havingValue = "jcache", matchIfMissing = true)
+	public CacheManager cacheManager(final RedisProperties redisProperties,
+			final RateLimitConfigurationProperties rateLimitConfigurationProperties) {
+		final var cacheManager = Caching.getCachingProvider(JCachingProvider.class.getName()).getCacheManager();
 		final var isCacheCreated = Optional.ofNullable(cacheManager.getCache(CACHE_NAME)).isPresent();
-        
-		if (Boolean.FALSE.equals(isCacheCreated)) {
-			final var connectionUrl = String.format("redis://%s:%d", redisProperties.getHost(), redisProperties.getPort());
-			final var configuration = new Config();
-			configuration.useSingleServer().setPassword(redisProperties.getPassword()).setAddress(connectionUrl);
 
+		if (Boolean.FALSE.equals(isCacheCreated)) {
+			final var configuration = createRedissonConfig(redisProperties, rateLimitConfigurationProperties);
 			cacheManager.createCache(CACHE_NAME, RedissonConfiguration.fromConfig(configuration));
 		}
 		return cacheManager;
 	}
 
 	@Bean
-	ProxyManager<UUID> proxyManager(final CacheManager cacheManager) {
-		return new JCacheProxyManager<UUID>(cacheManager.getCache(CACHE_NAME));
+	@ConditionalOnProperty(prefix = BACKEND_PROPERTY_PREFIX, name = BACKEND_PROPERTY_NAME, havingValue = "jcache", matchIfMissing = true)
+	ProxyManager<String> proxyManager(final CacheManager cacheManager) {
+		return new JCacheProxyManager<String>(cacheManager.getCache(CACHE_NAME));
+	}
+
+	@Bean(destroyMethod = "shutdown")
+	@ConditionalOnProperty(prefix = BACKEND_PROPERTY_PREFIX, name = BACKEND_PROPERTY_NAME, havingValue = "redisson")
+	public RedissonClient redissonClient(final RedisProperties redisProperties,
+			final RateLimitConfigurationProperties rateLimitConfigurationProperties) {
+		final var configuration = createRedissonConfig(redisProperties, rateLimitConfigurationProperties);
+		return Redisson.create(configuration);
+	}
+
+	@Bean
+	@ConditionalOnProperty(prefix = BACKEND_PROPERTY_PREFIX, name = BACKEND_PROPERTY_NAME, havingValue = "redisson")
+	ProxyManager<String> redissonProxyManager(final RedissonClient redissonClient) {
+		final var commandExecutor = ((Redisson) redissonClient).getCommandExecutor();
+		return RedissonBasedProxyManager.builderFor(commandExecutor)
+				.withExpirationStrategy(ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(BUCKET_EXPIRATION))
+				.build();
+	}
+
+	@Bean
+	BucketProvider bucketProvider(final ProxyManager<String> proxyManager,
+			final RateLimitConfigurationProperties rateLimitConfigurationProperties) {
+		final var reconfiguration = rateLimitConfigurationProperties.getReconfiguration();
+		return new DistributedBucketProvider(proxyManager, reconfiguration.getTokensInheritanceStrategy());
+	}
+
+	@Bean
+	RedisMessageListenerContainer rateLimitResetListenerContainer(final RedisConnectionFactory redisConnectionFactory,
+			final RateLimitResetListener rateLimitResetListener) {
+		final var container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		container.addMessageListener(rateLimitResetListener, new ChannelTopic(RATE_LIMIT_RESET_CHANNEL));
+		return container;
+	}
+
+	/**
+	 * Constructs Redisson client configuration pointing to the Redis server
+	 * configured under {@code spring.data.redis}, with the connection pool sized
+	 * as per {@link RateLimitConfigurationProperties.RedisConnectionPool}.
+	 */
+	private Config createRedissonConfig(final RedisProperties redisProperties,
+			final RateLimitConfigurationProperties rateLimitConfigurationProperties) {
+		final var connectionPool = rateLimitConfigurationProperties.getRedisConnectionPool();
+		final var connectionUrl = String.format("redis://%s:%d", redisProperties.getHost(), redisProperties.getPort());
+		final var configuration = new Config();
+		configuration.useSingleServer()
+				.setPassword(redisProperties.getPassword())
+				.setAddress(connectionUrl)
+				.setConnectionPoolSize(connectionPool.getSize())
+				.setConnectionMinimumIdleSize(Math.min(connectionPool.getMinimumIdleSize(), connectionPool.getSize()));
+		return configuration;
 	}
 
-}
\ No newline at end of file
+}
@@ -40,4 +40,27 @@ public class TokenConfigurationProperties {
 	@Positive
 	private Integer validity;
 
+	private VerifiedTokenCache cache = new VerifiedTokenCache();
+
+	@Getter
+	@Setter
+	public class VerifiedTokenCache {
+
+		/**
+		 * Determines whether the outcome of verifying an access token is cached until
+		 * the token expires, allowing repeat requests bearing the same token to skip
+		 * signature verification and claim parsing.
+		 *
+		 * Enabled by default.
+		 */
+		private boolean enabled = true;
+
+		/**
+		 * The maximum number of verified access tokens cached on the current node.
+		 */
+		@Positive
+		private int maximumSize = 100_000;
+
+	}
+
 }
\ No newline at end of file
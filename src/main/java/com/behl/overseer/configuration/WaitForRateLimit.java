@@ -0,0 +1,36 @@
+package com.behl.overseer.configuration;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation for letting requests to specific private API endpoints wait for
+ * tokens to be refilled instead of being rejected right away, sparing callers
+ * which would otherwise retry from doubling the load on the application.
+ * 
+ * When applied to a controller method, requests to that method exceeding the
+ * user's rate limit are parked by the {@link com.behl.overseer.filter.RateLimitFilter}
+ * without holding a thread, provided the required tokens are refilled within
+ * the configured maximum wait, and resumed once the tokens are available.
+ * Requests whose tokens are not refilled in time, or exceeding the number of
+ * requests allowed to be parked on the node, are rejected as usual. When applied
+ * to a controller class, the same applies to all of its methods, unless
+ * overridden at method level.
+ * 
+ * @see com.behl.overseer.filter.RateLimitFilter
+ * @see com.behl.overseer.service.TokenWaitScheduler
+ * @see com.behl.overseer.utility.ApiEndpointRateLimitInspector
+ */
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface WaitForRateLimit {
+
+	/**
+	 * The maximum duration in milliseconds a request waits for its tokens to be
+	 * refilled, must be positive.
+	 */
+	long maximumWaitMillis();
+
+}
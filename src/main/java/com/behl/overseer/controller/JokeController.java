@@ -6,6 +6,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.behl.overseer.configuration.RateLimitCost;
 import com.behl.overseer.dto.ExceptionResponseDto;
 import com.behl.overseer.dto.JokeResponseDto;
 import com.behl.overseer.utility.JokeGenerator;
@@ -27,14 +28,15 @@ public class JokeController {
 
 	private final JokeGenerator jokeGenerator;
 
+	@RateLimitCost(tokens = 1)
 	@GetMapping(value = "/joke", produces = MediaType.APPLICATION_JSON_VALUE)
-	@Operation(summary = "Generates a random unfunny joke")
+	@Operation(summary = "Generates a random unfunny joke", description = "Each invocation consumes 1 token from the user's rate limit.")
 	@ApiResponses(value = { 
 			@ApiResponse(responseCode = "200", description = "Successfully generated random unfunny joke",
-					headers = @Header(name = "X-Rate-Limit-Remaining", description = "The number of remaining API invocations available with the user after processing the request.", required = true, 
+					headers = @Header(name = "X-Rate-Limit-Remaining", description = "The number of remaining tokens available with the user after processing the request, each invocation of this API endpoint consuming 1 token.", required = true, 
 							schema = @Schema(type = "integer"))),
 			@ApiResponse(responseCode = "429", description = "API rate limit exhausted",
-					headers = @Header(name = "X-Rate-Limit-Retry-After-Seconds", description = "Wait period in seconds before the user can invoke the API endpoint", required = true, 
+					headers = @Header(name = "X-Rate-Limit-Retry-After-Seconds", description = "Wait period in seconds before the user can invoke the API endpoint, requiring 1 token to be available", required = true, 
 							schema = @Schema(type = "integer")),
 					content = @Content(schema = @Schema(implementation = ExceptionResponseDto.class))) })
 	public ResponseEntity<JokeResponseDto> generate() {
@@ -1,10 +1,12 @@
 package com.behl.overseer.controller;
 
-import java.util.List;
+import java.util.UUID;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -16,9 +18,11 @@ import com.behl.overseer.configuration.PublicEndpoint;
 import com.behl.overseer.dto.ExceptionResponseDto;
 import com.behl.overseer.dto.PlanResponseDto;
 import com.behl.overseer.dto.PlanUpdationRequestDto;
+import com.behl.overseer.service.PlanCatalogue;
 import com.behl.overseer.service.PlanService;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -34,13 +38,22 @@ import lombok.RequiredArgsConstructor;
 public class PlanController {
 
 	private final PlanService planService;
+	private final PlanCatalogue planCatalogue;
 
 	@PublicEndpoint
 	@GetMapping(value = "/plan", produces = MediaType.APPLICATION_JSON_VALUE)
 	@Operation(summary = "Retrieves all available plans", description = "Retrieves the list of available plans in the system")
-	@ApiResponse(responseCode = "200", description = "Plans retrieved successfully")
-	public ResponseEntity<List<PlanResponseDto>> retrieve() {
-		return ResponseEntity.ok(planService.retrieve());
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Plans retrieved successfully",
+					content = @Content(array = @ArraySchema(schema = @Schema(implementation = PlanResponseDto.class)))),
+			@ApiResponse(responseCode = "304", description = "Plans unchanged since the ETag provided in If-None-Match",
+					content = @Content(schema = @Schema(implementation = Void.class)))})
+	public ResponseEntity<byte[]> retrieve() {
+		final var snapshot = planCatalogue.get();
+		return ResponseEntity.ok()
+				.eTag(snapshot.etag())
+				.cacheControl(CacheControl.noCache())
+				.body(snapshot.body());
 	}
 
 	@BypassRateLimit
@@ -55,8 +68,9 @@ public class PlanController {
 					content = @Content(schema = @Schema(implementation = ExceptionResponseDto.class))),
 			@ApiResponse(responseCode = "400", description = "Invalid request body",
 					content = @Content(schema = @Schema(implementation = ExceptionResponseDto.class)))})
-	public ResponseEntity<HttpStatus> update(@Valid @RequestBody final PlanUpdationRequestDto planUpdationRequest) {
-		planService.update(planUpdationRequest);
+	public ResponseEntity<HttpStatus> update(@AuthenticationPrincipal final UUID userId,
+			@Valid @RequestBody final PlanUpdationRequestDto planUpdationRequest) {
+		planService.update(userId, planUpdationRequest);
 		return ResponseEntity.ok().build();
 	}
 
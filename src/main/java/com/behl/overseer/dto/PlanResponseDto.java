@@ -1,7 +1,9 @@
 package com.behl.overseer.dto;
 
+import java.util.List;
 import java.util.UUID;
 
+import com.behl.overseer.entity.Plan.RefillStrategy;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 
@@ -20,5 +22,7 @@ public class PlanResponseDto {
 	private UUID id;
 	private String name;
 	private Integer limitPerHour;
+	private RefillStrategy refillStrategy;
+	private List<PlanBandwidthResponseDto> bandwidths;
 
 }
\ No newline at end of file
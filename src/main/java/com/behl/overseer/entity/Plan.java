@@ -2,11 +2,22 @@ package com.behl.overseer.entity;
 
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
@@ -14,9 +25,19 @@ import lombok.Getter;
 
 @Getter
 @Entity
+@Cacheable
 @Table(name = "plans")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Plan.CACHE_REGION)
 public class Plan {
 
+	/**
+	 * Regions of Hibernate's second-level cache holding plans and their
+	 * bandwidths, which rarely change and are looked up on every signup and plan
+	 * updation.
+	 */
+	public static final String CACHE_REGION = "plans";
+	public static final String BANDWIDTHS_CACHE_REGION = "plan-bandwidths";
+
 	@Id
 	@Column(name = "id", nullable = false, unique = true)
 	private UUID id;
@@ -27,12 +48,40 @@ public class Plan {
 	@Column(name = "limit_per_hour", nullable = false, unique = true)
 	private Integer limitPerHour;
 
+	@Column(name = "lease_size", nullable = false)
+	private Integer leaseSize;
+
+	@Column(name = "lease_ttl_seconds", nullable = false)
+	private Integer leaseTtlSeconds;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "refill_strategy", nullable = false)
+	private RefillStrategy refillStrategy;
+
+	@ElementCollection(fetch = FetchType.EAGER)
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Plan.BANDWIDTHS_CACHE_REGION)
+	@CollectionTable(name = "plan_bandwidths", joinColumns = @JoinColumn(name = "plan_id"))
+	private List<PlanBandwidth> bandwidths;
+
 	@Column(name = "created_at", nullable = false)
 	private LocalDateTime createdAt;
 
 	@Column(name = "updated_at", nullable = false)
 	private LocalDateTime updatedAt;
 
+	/**
+	 * Returns the version of the rate limit configuration derived from the plan,
+	 * being the epoch milliseconds of its last update. As {@code updated_at} is
+	 * refreshed on every update of the plan or its bandwidths, including ones
+	 * carried out directly against the datasource, the version only ever increases
+	 * across plans, letting buckets be reconfigured lazily on their next access.
+	 *
+	 * @return the configuration version of the plan.
+	 */
+	public long getConfigurationVersion() {
+		return updatedAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+	}
+
 	@PrePersist
 	void onCreate() {
 		this.id = UUID.randomUUID();
@@ -45,4 +94,22 @@ public class Plan {
 		this.updatedAt = LocalDateTime.now(ZoneOffset.UTC);
 	}
 
+	/**
+	 * Manner in which the hourly quota and bandwidths of a plan are refilled.
+	 */
+	public enum RefillStrategy {
+
+		/**
+		 * Tokens are added gradually, as soon as each of them is due, spreading the
+		 * refill of a period evenly across it.
+		 */
+		GREEDY,
+
+		/**
+		 * All tokens of a period are added at once when the period elapses.
+		 */
+		INTERVAL;
+
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.behl.overseer.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.Getter;
+
+/**
+ * A limit enforced on users subscribed to a {@link Plan} alongside its hourly
+ * quota, allowing up to the configured capacity of tokens to be consumed within
+ * the configured period. Typically used to cap short bursts, e.g. a handful of
+ * tokens per second.
+ */
+@Getter
+@Embeddable
+public class PlanBandwidth {
+
+	@Column(name = "capacity", nullable = false)
+	private Integer capacity;
+
+	@Column(name = "period_seconds", nullable = false)
+	private Integer periodSeconds;
+
+}
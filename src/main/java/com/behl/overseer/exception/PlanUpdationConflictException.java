@@ -0,0 +1,16 @@
+package com.behl.overseer.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import lombok.NonNull;
+
+public class PlanUpdationConflictException extends ResponseStatusException {
+
+	private static final long serialVersionUID = -3904815297340871652L;
+
+	public PlanUpdationConflictException(@NonNull final String reason) {
+		super(HttpStatus.CONFLICT, reason);
+	}
+
+}
@@ -0,0 +1,76 @@
+package com.behl.overseer.exception;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebInputException;
+
+import com.behl.overseer.dto.ExceptionResponseDto;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reactive counterpart of {@link ExceptionResponseHandler}, translating
+ * exceptions raised by controllers of the reactive deployment into the same
+ * {@link ExceptionResponseDto} error responses.
+ */
+@Slf4j
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveExceptionResponseHandler {
+
+	private static final String NOT_READABLE_REQUEST_ERROR_MESSAGE = "The request is malformed. Ensure the JSON structure is correct.";
+
+	@ExceptionHandler(WebExchangeBindException.class)
+	public ResponseEntity<ExceptionResponseDto<List<String>>> bindExceptionHandler(final WebExchangeBindException exception) {
+		logException(exception);
+		final var fieldErrors = exception.getBindingResult().getFieldErrors();
+		final var description = fieldErrors.stream().map(fieldError -> fieldError.getDefaultMessage()).collect(Collectors.toList());
+
+		final var exceptionResponse = new ExceptionResponseDto<List<String>>();
+		exceptionResponse.setStatus(HttpStatus.BAD_REQUEST.toString());
+		exceptionResponse.setDescription(description);
+		return ResponseEntity.badRequest().body(exceptionResponse);
+	}
+
+	@ExceptionHandler(ServerWebInputException.class)
+	public ResponseEntity<ExceptionResponseDto<String>> inputExceptionHandler(final ServerWebInputException exception) {
+		logException(exception);
+		final var exceptionResponse = new ExceptionResponseDto<String>();
+		exceptionResponse.setStatus(HttpStatus.BAD_REQUEST.toString());
+		exceptionResponse.setDescription(NOT_READABLE_REQUEST_ERROR_MESSAGE);
+		return ResponseEntity.badRequest().body(exceptionResponse);
+	}
+
+	@ExceptionHandler(ResponseStatusException.class)
+	public ResponseEntity<ExceptionResponseDto<String>> responseStatusExceptionHandler(final ResponseStatusException exception) {
+		logException(exception);
+		final var exceptionResponse = new ExceptionResponseDto<String>();
+		exceptionResponse.setStatus(exception.getStatusCode().toString());
+		exceptionResponse.setDescription(exception.getReason());
+		return ResponseEntity.status(exception.getStatusCode()).body(exceptionResponse);
+	}
+
+	@ExceptionHandler(Exception.class)
+	public ResponseEntity<ExceptionResponseDto<String>> serverExceptionHandler(final Exception exception) {
+		logException(exception);
+		final var exceptionResponse = new ExceptionResponseDto<String>();
+		exceptionResponse.setStatus(HttpStatus.NOT_IMPLEMENTED.toString());
+		exceptionResponse.setDescription("Something went wrong.");
+		return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).body(exceptionResponse);
+	}
+
+	private void logException(final @NonNull Exception exception) {
+		log.error("Exception encountered: {}", exception.getMessage(), exception);
+	}
+
+}
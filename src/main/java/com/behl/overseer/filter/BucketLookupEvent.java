@@ -0,0 +1,17 @@
+package com.behl.overseer.filter;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Resolution of the rate limit bucket of the authenticated user.
+ */
+@Name("com.behl.overseer.BucketLookup")
+@Label("Bucket Lookup")
+@Description("Resolution of the rate limit bucket of the authenticated user.")
+public class BucketLookupEvent extends RateLimitStageEvent {
+
+	public static final String RESOLVED = "resolved";
+
+}
@@ -0,0 +1,18 @@
+package com.behl.overseer.filter;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Check of the request against API endpoints bypassing rate limit enforcement.
+ */
+@Name("com.behl.overseer.BypassCheck")
+@Label("Bypass Check")
+@Description("Check of the request against API endpoints bypassing rate limit enforcement.")
+public class BypassCheckEvent extends RateLimitStageEvent {
+
+	public static final String BYPASSED = "bypassed";
+	public static final String ENFORCED = "enforced";
+
+}
@@ -1,6 +1,10 @@
 package com.behl.overseer.filter;
 
+import java.util.UUID;
+
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -12,6 +16,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import com.behl.overseer.dto.ExceptionResponseDto;
 import com.behl.overseer.utility.ApiEndpointSecurityInspector;
 import com.behl.overseer.utility.JwtUtility;
+import com.behl.overseer.utility.RateLimitMetrics;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.servlet.FilterChain;
@@ -37,23 +42,51 @@ import lombok.SneakyThrows;
  * @see com.behl.overseer.configuration.SecurityConfiguration
  * @see com.behl.overseer.utility.ApiEndpointSecurityInspector
  * @see com.behl.overseer.utility.JwtUtility
+ * @see com.behl.overseer.filter.JwtAuthenticationWebFilter
  */
 @Component
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = Type.SERVLET)
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 	private final ObjectMapper objectMapper;
 	private final JwtUtility jwtUtility;
+	private final RateLimitMetrics rateLimitMetrics;
 	private final ApiEndpointSecurityInspector apiEndpointSecurityInspector;
 	
 	private static final String AUTHORIZATION_HEADER = "Authorization";
 	private static final String BEARER_PREFIX = "Bearer ";
 	private static final String MISSING_TOKEN_ERROR_MESSAGE = "Authentication failure: Token missing, invalid or expired";
 
+	private byte[] authErrorResponseBody;
+
+	/**
+	 * Encodes the constant authentication error response body once on startup, so
+	 * that unauthenticated requests are served without any serialization.
+	 */
+	@Override
+	protected void initFilterBean() {
+		authErrorResponseBody = prepareErrorResponseBody();
+	}
+
+	/**
+	 * Requests parked by {@link RateLimitFilter} while waiting for tokens are
+	 * resumed through an async dispatch, on a thread without the security context
+	 * populated during the initial dispatch, hence the access token is verified
+	 * again for the dispatch.
+	 */
+	@Override
+	protected boolean shouldNotFilterAsyncDispatch() {
+		return false;
+	}
+
 	@Override
 	@SneakyThrows
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) {
+		final var inspectionEvent = new PublicEndpointInspectionEvent();
+		inspectionEvent.begin();
 		final var unsecuredApiBeingInvoked = apiEndpointSecurityInspector.isUnsecureRequest(request);
+		inspectionEvent.complete(unsecuredApiBeingInvoked ? PublicEndpointInspectionEvent.PUBLIC : PublicEndpointInspectionEvent.SECURED);
 		
 		if (Boolean.FALSE.equals(unsecuredApiBeingInvoked)) {
 			final var authorizationHeader = request.getHeader(AUTHORIZATION_HEADER);
@@ -61,7 +94,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 			if (StringUtils.isNotEmpty(authorizationHeader) && authorizationHeader.startsWith(BEARER_PREFIX) ) {
 				final var token = authorizationHeader.replace(BEARER_PREFIX, StringUtils.EMPTY);
 				
-				final var userId = jwtUtility.getUserId(token);
+				final var userId = getUserId(token);
 				final var authentication = new UsernamePasswordAuthenticationToken(userId, null, null);
 				authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 				SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -74,7 +107,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	}
 	
 	/**
-	 * Sets the authentication error details in the HTTP response. 
+	 * Extracts the user's ID from the provided access token, recording the time
+	 * spent on verification irrespective of its outcome, along with a
+	 * {@link JwtVerificationEvent}.
+	 */
+	private UUID getUserId(final String token) {
+		final var verificationEvent = new JwtVerificationEvent();
+		verificationEvent.begin();
+		final var verificationStart = System.nanoTime();
+		var outcome = JwtVerificationEvent.FAILED;
+		try {
+			final var userId = jwtUtility.getUserId(token);
+			outcome = JwtVerificationEvent.VERIFIED;
+			return userId;
+		} finally {
+			rateLimitMetrics.recordJwtVerification(System.nanoTime() - verificationStart);
+			verificationEvent.complete(outcome);
+		}
+	}
+
+	/**
+	 * Sets the authentication error details in the HTTP response. The pre-encoded
+	 * error response body is written directly to the response's output stream
+	 * along with its content length.
 	 * 
 	 * @param response instance of HttpServletResponse to which error response will be set.
 	 */
@@ -82,19 +137,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	private void setAuthErrorDetails(HttpServletResponse response) {
 		response.setStatus(HttpStatus.UNAUTHORIZED.value());
 		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-		final var errorResponse = prepareErrorResponseBody();
-		response.getWriter().write(errorResponse);
+		response.setContentLength(authErrorResponseBody.length);
+		response.getOutputStream().write(authErrorResponseBody);
 	}
 	
 	/**
-	 * Returns a JSON representation of the invalid token error response body.
+	 * Returns the UTF-8 encoded JSON representation of the invalid token error
+	 * response body.
 	 */
 	@SneakyThrows
-	private String prepareErrorResponseBody() {
+	private byte[] prepareErrorResponseBody() {
 		final var exceptionResponse = new ExceptionResponseDto<String>();
 		exceptionResponse.setStatus(HttpStatus.UNAUTHORIZED.toString());
 		exceptionResponse.setDescription(MISSING_TOKEN_ERROR_MESSAGE);
-		return objectMapper.writeValueAsString(exceptionResponse);
+		return objectMapper.writeValueAsBytes(exceptionResponse);
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,133 @@
+package com.behl.overseer.filter;
+
+import java.util.UUID;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import com.behl.overseer.dto.ExceptionResponseDto;
+import com.behl.overseer.utility.JwtUtility;
+import com.behl.overseer.utility.RateLimitMetrics;
+import com.behl.overseer.utility.ReactiveApiEndpointSecurityInspector;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.jsonwebtoken.JwtException;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link JwtAuthenticationFilter}, registered with the
+ * security web filter chain of the reactive deployment as defined in
+ * {@link com.behl.overseer.configuration.ReactiveSecurityConfiguration}.
+ *
+ * Requests to secured API endpoints are required to carry a valid access token,
+ * the user's unique identifier extracted from which is written to the reactive
+ * security context of the remaining chain. Requests without a valid token are
+ * rejected with the same pre-encoded error response as the servlet filter.
+ *
+ * The filter is intentionally not a bean, as WebFlux would otherwise register it
+ * with the application's web filter chain as well.
+ *
+ * @see com.behl.overseer.configuration.ReactiveSecurityConfiguration
+ * @see com.behl.overseer.utility.ReactiveApiEndpointSecurityInspector
+ * @see com.behl.overseer.utility.JwtUtility
+ */
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+	private final JwtUtility jwtUtility;
+	private final RateLimitMetrics rateLimitMetrics;
+	private final ReactiveApiEndpointSecurityInspector apiEndpointSecurityInspector;
+	private final byte[] authErrorResponseBody;
+
+	private static final String BEARER_PREFIX = "Bearer ";
+	private static final String MISSING_TOKEN_ERROR_MESSAGE = "Authentication failure: Token missing, invalid or expired";
+
+	public JwtAuthenticationWebFilter(@NonNull final ObjectMapper objectMapper, @NonNull final JwtUtility jwtUtility,
+			@NonNull final RateLimitMetrics rateLimitMetrics,
+			@NonNull final ReactiveApiEndpointSecurityInspector apiEndpointSecurityInspector) {
+		this.jwtUtility = jwtUtility;
+		this.rateLimitMetrics = rateLimitMetrics;
+		this.apiEndpointSecurityInspector = apiEndpointSecurityInspector;
+		this.authErrorResponseBody = prepareErrorResponseBody(objectMapper);
+	}
+
+	@Override
+	public Mono<Void> filter(final ServerWebExchange exchange, final WebFilterChain chain) {
+		final var inspectionEvent = new PublicEndpointInspectionEvent();
+		inspectionEvent.begin();
+		final var unsecuredApiBeingInvoked = apiEndpointSecurityInspector.isUnsecureRequest(exchange);
+		inspectionEvent.complete(unsecuredApiBeingInvoked ? PublicEndpointInspectionEvent.PUBLIC : PublicEndpointInspectionEvent.SECURED);
+		if (Boolean.TRUE.equals(unsecuredApiBeingInvoked)) {
+			return chain.filter(exchange);
+		}
+
+		final var authorizationHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+		if (StringUtils.isEmpty(authorizationHeader) || Boolean.FALSE.equals(authorizationHeader.startsWith(BEARER_PREFIX))) {
+			return setAuthErrorDetails(exchange.getResponse());
+		}
+
+		final UUID userId;
+		try {
+			userId = getUserId(authorizationHeader.substring(BEARER_PREFIX.length()));
+		} catch (final JwtException exception) {
+			return setAuthErrorDetails(exchange.getResponse());
+		}
+		final var authentication = new UsernamePasswordAuthenticationToken(userId, null, null);
+		return chain.filter(exchange).contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+	}
+
+	/**
+	 * Extracts the user's ID from the provided access token, recording the time
+	 * spent on verification irrespective of its outcome, along with a
+	 * {@link JwtVerificationEvent}.
+	 */
+	private UUID getUserId(final String token) {
+		final var verificationEvent = new JwtVerificationEvent();
+		verificationEvent.begin();
+		final var verificationStart = System.nanoTime();
+		var outcome = JwtVerificationEvent.FAILED;
+		try {
+			final var userId = jwtUtility.getUserId(token);
+			outcome = JwtVerificationEvent.VERIFIED;
+			return userId;
+		} finally {
+			rateLimitMetrics.recordJwtVerification(System.nanoTime() - verificationStart);
+			verificationEvent.complete(outcome);
+		}
+	}
+
+	/**
+	 * Sets the authentication error details in the HTTP response, writing the
+	 * pre-encoded error response body along with its content length.
+	 *
+	 * @param response the response to which error response will be written.
+	 */
+	private Mono<Void> setAuthErrorDetails(final ServerHttpResponse response) {
+		response.setStatusCode(HttpStatus.UNAUTHORIZED);
+		response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+		response.getHeaders().setContentLength(authErrorResponseBody.length);
+		return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(authErrorResponseBody)));
+	}
+
+	/**
+	 * Returns the UTF-8 encoded JSON representation of the invalid token error
+	 * response body.
+	 */
+	@SneakyThrows
+	private byte[] prepareErrorResponseBody(final ObjectMapper objectMapper) {
+		final var exceptionResponse = new ExceptionResponseDto<String>();
+		exceptionResponse.setStatus(HttpStatus.UNAUTHORIZED.toString());
+		exceptionResponse.setDescription(MISSING_TOKEN_ERROR_MESSAGE);
+		return objectMapper.writeValueAsBytes(exceptionResponse);
+	}
+
+}
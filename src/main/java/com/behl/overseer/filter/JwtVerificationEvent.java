@@ -0,0 +1,18 @@
+package com.behl.overseer.filter;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Parsing and verification of the access token carried by the request.
+ */
+@Name("com.behl.overseer.JwtVerification")
+@Label("JWT Verification")
+@Description("Parsing and verification of the access token carried by the request.")
+public class JwtVerificationEvent extends RateLimitStageEvent {
+
+	public static final String VERIFIED = "verified";
+	public static final String FAILED = "failed";
+
+}
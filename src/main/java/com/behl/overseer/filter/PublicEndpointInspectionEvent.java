@@ -0,0 +1,18 @@
+package com.behl.overseer.filter;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Inspection of the request against the public API endpoints of the application.
+ */
+@Name("com.behl.overseer.PublicEndpointInspection")
+@Label("Public Endpoint Inspection")
+@Description("Inspection of the request against the public API endpoints of the application.")
+public class PublicEndpointInspectionEvent extends RateLimitStageEvent {
+
+	public static final String PUBLIC = "public";
+	public static final String SECURED = "secured";
+
+}
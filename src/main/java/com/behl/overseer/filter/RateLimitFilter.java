@@ -1,27 +1,35 @@
 package com.behl.overseer.filter;
 
+import java.time.Duration;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.method.HandlerMethod;
-import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
-import com.behl.overseer.configuration.BypassRateLimit;
 import com.behl.overseer.dto.ExceptionResponseDto;
 import com.behl.overseer.service.RateLimitingService;
+import com.behl.overseer.service.TokenWaitScheduler;
+import com.behl.overseer.utility.ApiEndpointRateLimitInspector;
 import com.behl.overseer.utility.ApiEndpointSecurityInspector;
 import com.behl.overseer.utility.AuthenticatedUserIdProvider;
+import com.behl.overseer.utility.HeaderValueFormatter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.github.bucket4j.ConsumptionProbe;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * RateLimitFilter is a custom filter registered with the spring security filter
@@ -43,24 +51,55 @@ import lombok.SneakyThrows;
  * 
  * Additionally, the rate limit enforcement can be bypassed for specific private
  * API endpoints by annotating the corresponding controller methods with
- * {@link com.behl.overseer.configuration.BypassRateLimit} annotation.
+ * {@link com.behl.overseer.configuration.BypassRateLimit} annotation, and
+ * requests to API endpoints annotated with
+ * {@link com.behl.overseer.configuration.RateLimitCost} consume the configured
+ * number of tokens at once instead of a single one.
+ * 
+ * Requests to API endpoints annotated with
+ * {@link com.behl.overseer.configuration.WaitForRateLimit} exceeding the user's
+ * rate limit are parked through servlet async processing instead of being
+ * rejected, if their tokens are refilled within the configured maximum wait.
+ * Parked requests hold no thread, and are resumed through an async dispatch
+ * once their tokens are consumed, which this filter does not evaluate again.
  * 
  * @see com.behl.overseer.configuration.BypassRateLimit
+ * @see com.behl.overseer.configuration.RateLimitCost
+ * @see com.behl.overseer.configuration.WaitForRateLimit
+ * @see com.behl.overseer.service.TokenWaitScheduler
+ * @see com.behl.overseer.utility.ApiEndpointRateLimitInspector
  * @see com.behl.overseer.service.RateLimitingService
  * @see com.behl.overseer.utility.ApiEndpointSecurityInspector
+ * @see com.behl.overseer.filter.RateLimitWebFilter
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = Type.SERVLET)
 public class RateLimitFilter extends OncePerRequestFilter {
 
 	private final ObjectMapper objectMapper;
 	private final RateLimitingService rateLimitingService;
-	private final RequestMappingHandlerMapping requestHandlerMapping;
+	private final TokenWaitScheduler tokenWaitScheduler;
 	private final AuthenticatedUserIdProvider authenticatedUserIdProvider;
 	private final ApiEndpointSecurityInspector apiEndpointSecurityInspector;
+	private final ApiEndpointRateLimitInspector apiEndpointRateLimitInspector;
 
 	private static final String RATE_LIMIT_ERROR_MESSAGE = "API request limit linked to your current plan has been exhausted.";
 	private static final HttpStatus RATE_LIMIT_ERROR_STATUS = HttpStatus.TOO_MANY_REQUESTS;
+	private static final Duration ASYNC_TIMEOUT_MARGIN = Duration.ofSeconds(5);
+	private static final long REMAINING_TOKENS_AFTER_WAIT = 0;
+
+	private byte[] rateLimitErrorResponseBody;
+
+	/**
+	 * Encodes the constant rate limit error response body once on startup, so
+	 * that rejected requests are served without any serialization.
+	 */
+	@Override
+	protected void initFilterBean() {
+		rateLimitErrorResponseBody = prepareErrorResponseBody();
+	}
 
 	@Override
 	@SneakyThrows
@@ -68,47 +107,121 @@ public class RateLimitFilter extends OncePerRequestFilter {
 		final var unsecuredApiBeingInvoked = apiEndpointSecurityInspector.isUnsecureRequest(request);
 
 		if (Boolean.FALSE.equals(unsecuredApiBeingInvoked) && authenticatedUserIdProvider.isAvailable()) {
-			final var isRequestBypassed = isBypassed(request);
+			final var bypassCheckEvent = new BypassCheckEvent();
+			bypassCheckEvent.begin();
+			final var tokenCost = apiEndpointRateLimitInspector.getTokenCost(request);
+			final var isRequestBypassed = tokenCost == 0;
+			bypassCheckEvent.complete(isRequestBypassed ? BypassCheckEvent.BYPASSED : BypassCheckEvent.ENFORCED);
 
 			if (Boolean.FALSE.equals(isRequestBypassed)) {
 				final var userId = authenticatedUserIdProvider.getUserId();
-				final var bucket = rateLimitingService.getBucket(userId);
-				final var consumptionProbe = bucket.tryConsumeAndReturnRemaining(1);
+				final var maximumWait = apiEndpointRateLimitInspector.getMaximumWait(request);
+				final var consumptionProbe = rateLimitingService.tryConsume(userId, tokenCost, maximumWait);
 				final var isConsumptionPassed = consumptionProbe.isConsumed();
 
 				if (Boolean.FALSE.equals(isConsumptionPassed)) {
+					if (RateLimitingService.isRefilledWithin(consumptionProbe, maximumWait)) {
+						awaitTokens(request, response, filterChain, userId, tokenCost, maximumWait, consumptionProbe);
+						return;
+					}
 					setRateLimitErrorDetails(response, consumptionProbe);
 					return;
 				}
 
 				final var remainingTokens = consumptionProbe.getRemainingTokens();
-				response.setHeader("X-Rate-Limit-Remaining", String.valueOf(remainingTokens));
+				response.setHeader("X-Rate-Limit-Remaining", HeaderValueFormatter.format(remainingTokens));
 			}
 		}
 		filterChain.doFilter(request, response);
 	}
 
 	/**
-	 * Checks if the controller method corresponding to current request is annotated
-	 * with {@link BypassRateLimit} annotation, indicating that rate limit
-	 * enforcement should be bypassed.
+	 * Waits for the tokens of the provided request to be refilled. When the outcome
+	 * is known right away, the request is resumed or rejected on the current
+	 * thread. Otherwise the request is parked through servlet async processing,
+	 * and either dispatched again once its tokens are consumed, or rejected with
+	 * the wait period reported by the initial consumption.
 	 *
-	 * @param request HttpServletRequest representing the incoming HTTP request
-	 * @return {@code true} if the request is to be bypassed, {@code false} otherwise
+	 * Should the async timeout elapse first, the request is rejected by the
+	 * registered {@link AsyncListener}, and the outcome of the wait arriving later
+	 * is discarded, as the async context is no longer usable by then. Tokens
+	 * consumed for a request rejected by then are returned to the user's bucket.
+	 *
+	 * The rate limit decision of the request is recorded once the outcome is
+	 * known, the initial rejection having been left unrecorded.
 	 */
 	@SneakyThrows
-	private boolean isBypassed(HttpServletRequest request) {
-		var handlerChain = requestHandlerMapping.getHandler(request);
-		if (handlerChain != null && handlerChain.getHandler() instanceof HandlerMethod handlerMethod) {
-			return handlerMethod.getMethod().isAnnotationPresent(BypassRateLimit.class);
+	private void awaitTokens(final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain,
+			final UUID userId, final int tokenCost, final Duration maximumWait, final ConsumptionProbe consumptionProbe) {
+		final var admission = tokenWaitScheduler.tryConsume(userId, tokenCost, maximumWait);
+		if (admission.isDone()) {
+			final var isAdmitted = Boolean.TRUE.equals(admission.join());
+			rateLimitingService.recordDecision(userId, isAdmitted);
+			if (isAdmitted) {
+				response.setHeader("X-Rate-Limit-Remaining", HeaderValueFormatter.format(REMAINING_TOKENS_AFTER_WAIT));
+				filterChain.doFilter(request, response);
+			} else {
+				setRateLimitErrorDetails(response, consumptionProbe);
+			}
+			return;
 		}
-		return Boolean.FALSE;
+
+		final var asyncContext = request.startAsync(request, response);
+		asyncContext.setTimeout(maximumWait.plus(ASYNC_TIMEOUT_MARGIN).toMillis());
+		final var isResumed = new AtomicBoolean();
+		asyncContext.addListener(new AsyncListener() {
+
+			@Override
+			public void onTimeout(final AsyncEvent event) {
+				if (isResumed.compareAndSet(false, true)) {
+					log.warn("Timed out waiting for tokens of user {}, rejecting request", userId);
+					rateLimitingService.recordDecision(userId, Boolean.FALSE);
+					setRateLimitErrorDetails(response, consumptionProbe);
+					asyncContext.complete();
+				}
+			}
+
+			@Override
+			public void onError(final AsyncEvent event) {
+				isResumed.set(true);
+			}
+
+			@Override
+			public void onStartAsync(final AsyncEvent event) {
+			}
+
+			@Override
+			public void onComplete(final AsyncEvent event) {
+			}
+
+		});
+		admission.whenComplete((admitted, exception) -> {
+			if (Boolean.FALSE.equals(isResumed.compareAndSet(false, true))) {
+				if (Boolean.TRUE.equals(admitted)) {
+					// consumed on behalf of a request already rejected or failed, hence of use to the user's next requests
+					rateLimitingService.returnTokens(userId, tokenCost);
+				}
+				return;
+			}
+			rateLimitingService.recordDecision(userId, Boolean.TRUE.equals(admitted));
+			if (Boolean.TRUE.equals(admitted)) {
+				response.setHeader("X-Rate-Limit-Remaining", HeaderValueFormatter.format(REMAINING_TOKENS_AFTER_WAIT));
+				asyncContext.dispatch();
+				return;
+			}
+			if (exception != null) {
+				log.error("Failed to wait for tokens of user {}, rejecting request", userId, exception);
+			}
+			setRateLimitErrorDetails(response, consumptionProbe);
+			asyncContext.complete();
+		});
 	}
 
 	/**
 	 * Sets the rate limit error details in the HTTP response. This method is
 	 * invoked when the user has exceeded their configured rate limit for API
-	 * requests.
+	 * requests. The pre-encoded error response body is written directly to the
+	 * response's output stream along with its content length.
 	 * 
 	 * @param response instance of HttpServletResponse to which the rate limit error response will be set.
 	 * @param consumptionProbe ConsumptionProbe object representing the rate limit consumption information.
@@ -118,23 +231,24 @@ public class RateLimitFilter extends OncePerRequestFilter {
 		response.setStatus(RATE_LIMIT_ERROR_STATUS.value());
 		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
 
+		response.setContentLength(rateLimitErrorResponseBody.length);
+
 		final var waitPeriod = TimeUnit.NANOSECONDS.toSeconds(consumptionProbe.getNanosToWaitForRefill());
-		response.setHeader("X-Rate-Limit-Retry-After-Seconds", String.valueOf(waitPeriod));
+		response.setHeader("X-Rate-Limit-Retry-After-Seconds", HeaderValueFormatter.format(waitPeriod));
 
-		final var errorResponse = prepareErrorResponseBody();
-		response.getWriter().write(errorResponse);
+		response.getOutputStream().write(rateLimitErrorResponseBody);
 	}
 
 	/**
-	 * Returns a JSON representation of the rate limit exhaustion error response
-	 * body.
+	 * Returns the UTF-8 encoded JSON representation of the rate limit exhaustion
+	 * error response body.
 	 */
 	@SneakyThrows
-	private String prepareErrorResponseBody() {
+	private byte[] prepareErrorResponseBody() {
 		final var exceptionResponse = new ExceptionResponseDto<String>();
 		exceptionResponse.setStatus(RATE_LIMIT_ERROR_STATUS.toString());
 		exceptionResponse.setDescription(RATE_LIMIT_ERROR_MESSAGE);
-		return objectMapper.writeValueAsString(exceptionResponse);
+		return objectMapper.writeValueAsBytes(exceptionResponse);
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.behl.overseer.filter;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base of the Java Flight Recorder events attributing time to the stages of
+ * request evaluation. Events are disabled by default, in which case
+ * {@link #complete(String)} costs no more than a flag check, and can be enabled
+ * through the bundled {@code jfr/overseer.jfc} settings file.
+ *
+ * Events are expected to be used as below, recording the duration between
+ * construction and completion along with the outcome of the stage:
+ *
+ * <pre>
+ * final var event = new BypassCheckEvent();
+ * event.begin();
+ * final var isRequestBypassed = apiEndpointRateLimitInspector.isBypassed(request);
+ * event.complete(isRequestBypassed ? BypassCheckEvent.BYPASSED : BypassCheckEvent.ENFORCED);
+ * </pre>
+ */
+@Enabled(false)
+@StackTrace(false)
+@Category({ "Overseer", "Request Stages" })
+public abstract class RateLimitStageEvent extends Event {
+
+	// inherited fields are only recorded by JFR if not declared private
+	@Label("Outcome")
+	protected String outcome;
+
+	/**
+	 * Ends the event and commits it with the provided outcome, if the event is
+	 * enabled and its duration exceeds the configured threshold.
+	 *
+	 * @param outcome outcome of the stage.
+	 */
+	public void complete(final String outcome) {
+		end();
+		if (shouldCommit()) {
+			this.outcome = outcome;
+			commit();
+		}
+	}
+
+}
@@ -0,0 +1,146 @@
+package com.behl.overseer.filter;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import com.behl.overseer.dto.ExceptionResponseDto;
+import com.behl.overseer.service.RateLimitingService;
+import com.behl.overseer.utility.HeaderValueFormatter;
+import com.behl.overseer.utility.ReactiveApiEndpointRateLimitInspector;
+import com.behl.overseer.utility.ReactiveApiEndpointSecurityInspector;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.bucket4j.ConsumptionProbe;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Reactive counterpart of {@link RateLimitFilter}, registered with the security
+ * web filter chain of the reactive deployment after
+ * {@link JwtAuthenticationWebFilter}, as defined in
+ * {@link com.behl.overseer.configuration.ReactiveSecurityConfiguration}.
+ *
+ * Tokens are consumed through {@link RateLimitingService#tryConsumeAsync(UUID, long)}
+ * when the configured backend supports asynchronous mode, holding no thread
+ * while the remote call is in flight. Otherwise consumption is carried out on
+ * a thread dedicated to blocking work, keeping the event loop free. The
+ * response headers and rejection response are identical to the servlet filter,
+ * API endpoints annotated with
+ * {@link com.behl.overseer.configuration.BypassRateLimit} are bypassed alike,
+ * and those annotated with {@link com.behl.overseer.configuration.RateLimitCost}
+ * consume the configured number of tokens.
+ *
+ * The filter is intentionally not a bean, as WebFlux would otherwise register it
+ * with the application's web filter chain as well.
+ *
+ * @see com.behl.overseer.service.RateLimitingService
+ * @see com.behl.overseer.utility.ReactiveApiEndpointRateLimitInspector
+ */
+public class RateLimitWebFilter implements WebFilter {
+
+	private final RateLimitingService rateLimitingService;
+	private final ReactiveApiEndpointSecurityInspector apiEndpointSecurityInspector;
+	private final ReactiveApiEndpointRateLimitInspector apiEndpointRateLimitInspector;
+	private final byte[] rateLimitErrorResponseBody;
+
+	private static final String RATE_LIMIT_ERROR_MESSAGE = "API request limit linked to your current plan has been exhausted.";
+	private static final HttpStatus RATE_LIMIT_ERROR_STATUS = HttpStatus.TOO_MANY_REQUESTS;
+
+	public RateLimitWebFilter(@NonNull final ObjectMapper objectMapper, @NonNull final RateLimitingService rateLimitingService,
+			@NonNull final ReactiveApiEndpointSecurityInspector apiEndpointSecurityInspector,
+			@NonNull final ReactiveApiEndpointRateLimitInspector apiEndpointRateLimitInspector) {
+		this.rateLimitingService = rateLimitingService;
+		this.apiEndpointSecurityInspector = apiEndpointSecurityInspector;
+		this.apiEndpointRateLimitInspector = apiEndpointRateLimitInspector;
+		this.rateLimitErrorResponseBody = prepareErrorResponseBody(objectMapper);
+	}
+
+	@Override
+	public Mono<Void> filter(final ServerWebExchange exchange, final WebFilterChain chain) {
+		final var unsecuredApiBeingInvoked = apiEndpointSecurityInspector.isUnsecureRequest(exchange);
+		if (Boolean.TRUE.equals(unsecuredApiBeingInvoked)) {
+			return chain.filter(exchange);
+		}
+
+		final var bypassCheckEvent = new BypassCheckEvent();
+		bypassCheckEvent.begin();
+		final var tokenCost = apiEndpointRateLimitInspector.getTokenCost(exchange.getRequest());
+		final var isRequestBypassed = tokenCost == 0;
+		bypassCheckEvent.complete(isRequestBypassed ? BypassCheckEvent.BYPASSED : BypassCheckEvent.ENFORCED);
+		if (Boolean.TRUE.equals(isRequestBypassed)) {
+			return chain.filter(exchange);
+		}
+
+		return ReactiveSecurityContextHolder.getContext()
+				.mapNotNull(SecurityContext::getAuthentication)
+				.map(Authentication::getPrincipal)
+				.ofType(UUID.class)
+				.map(Optional::of)
+				.defaultIfEmpty(Optional.empty())
+				.flatMap(userId -> userId.isPresent() ? enforce(exchange, chain, userId.get(), tokenCost) : chain.filter(exchange));
+	}
+
+	private Mono<Void> enforce(final ServerWebExchange exchange, final WebFilterChain chain, final UUID userId, final int tokenCost) {
+		return tryConsume(userId, tokenCost).flatMap(consumptionProbe -> {
+			final var isConsumptionPassed = consumptionProbe.isConsumed();
+			if (Boolean.FALSE.equals(isConsumptionPassed)) {
+				return setRateLimitErrorDetails(exchange.getResponse(), consumptionProbe);
+			}
+
+			final var remainingTokens = consumptionProbe.getRemainingTokens();
+			exchange.getResponse().getHeaders().set("X-Rate-Limit-Remaining", HeaderValueFormatter.format(remainingTokens));
+			return chain.filter(exchange);
+		});
+	}
+
+	private Mono<ConsumptionProbe> tryConsume(final UUID userId, final int tokenCost) {
+		if (rateLimitingService.isAsyncModeSupported()) {
+			return Mono.fromFuture(() -> rateLimitingService.tryConsumeAsync(userId, tokenCost));
+		}
+		return Mono.fromCallable(() -> rateLimitingService.tryConsume(userId, tokenCost)).subscribeOn(Schedulers.boundedElastic());
+	}
+
+	/**
+	 * Sets the rate limit error details in the HTTP response, writing the
+	 * pre-encoded error response body along with its content length.
+	 *
+	 * @param response the response to which the rate limit error response will be written.
+	 * @param consumptionProbe ConsumptionProbe object representing the rate limit consumption information.
+	 */
+	private Mono<Void> setRateLimitErrorDetails(final ServerHttpResponse response, final ConsumptionProbe consumptionProbe) {
+		response.setStatusCode(RATE_LIMIT_ERROR_STATUS);
+		response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+		response.getHeaders().setContentLength(rateLimitErrorResponseBody.length);
+
+		final var waitPeriod = TimeUnit.NANOSECONDS.toSeconds(consumptionProbe.getNanosToWaitForRefill());
+		response.getHeaders().set("X-Rate-Limit-Retry-After-Seconds", HeaderValueFormatter.format(waitPeriod));
+
+		return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(rateLimitErrorResponseBody)));
+	}
+
+	/**
+	 * Returns the UTF-8 encoded JSON representation of the rate limit exhaustion
+	 * error response body.
+	 */
+	@SneakyThrows
+	private byte[] prepareErrorResponseBody(final ObjectMapper objectMapper) {
+		final var exceptionResponse = new ExceptionResponseDto<String>();
+		exceptionResponse.setStatus(RATE_LIMIT_ERROR_STATUS.toString());
+		exceptionResponse.setDescription(RATE_LIMIT_ERROR_MESSAGE);
+		return objectMapper.writeValueAsBytes(exceptionResponse);
+	}
+
+}
@@ -0,0 +1,30 @@
+package com.behl.overseer.filter;
+
+import io.github.bucket4j.ConsumptionProbe;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Consumption of tokens from the rate limit bucket of the authenticated user,
+ * including the round trip to the configured backend.
+ */
+@Name("com.behl.overseer.RemoteConsumption")
+@Label("Remote Consumption")
+@Description("Consumption of tokens from the rate limit bucket of the authenticated user, including the round trip to the configured backend.")
+public class RemoteConsumptionEvent extends RateLimitStageEvent {
+
+	public static final String CONSUMED = "consumed";
+	public static final String REJECTED = "rejected";
+
+	/**
+	 * Returns the outcome corresponding to the provided consumption probe.
+	 *
+	 * @param consumptionProbe result of the consumption.
+	 * @return {@link #CONSUMED} if tokens were consumed, {@link #REJECTED} otherwise.
+	 */
+	public static String outcomeOf(final ConsumptionProbe consumptionProbe) {
+		return consumptionProbe.isConsumed() ? CONSUMED : REJECTED;
+	}
+
+}
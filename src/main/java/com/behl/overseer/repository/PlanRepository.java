@@ -1,8 +1,11 @@
 package com.behl.overseer.repository;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.behl.overseer.entity.Plan;
@@ -10,4 +13,15 @@ import com.behl.overseer.entity.Plan;
 @Repository
 public interface PlanRepository extends JpaRepository<Plan, UUID> {
 
-}
\ No newline at end of file
+	/**
+	 * Retrieves the latest {@code updated_at} across all plans, which is refreshed
+	 * on every change to a plan or its bandwidths, hence changing whenever any plan
+	 * does. Queried against the datasource directly, bypassing the second-level
+	 * cache holding plans.
+	 *
+	 * @return latest update timestamp of plans, empty if no plan exists.
+	 */
+	@Query("SELECT MAX(plan.updatedAt) FROM Plan plan")
+	Optional<LocalDateTime> findLatestUpdatedAt();
+
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import com.behl.overseer.entity.Plan;
 import com.behl.overseer.entity.UserPlanMapping;
 
 import jakarta.transaction.Transactional;
@@ -28,6 +29,25 @@ public interface UserPlanMappingRepository extends JpaRepository<UserPlanMapping
         """)
     void deactivateCurrentPlan(final UUID userId);
 
+    /**
+     * Deactivates the current plan for the specified user, unless it is the
+     * specified plan. As at most a single plan is active per user, the updated
+     * row is locked until the enclosing transaction completes, serializing
+     * concurrent plan updations of the same user.
+     * 
+     * @param userId The unique identifier of the user
+     * @param planId The unique identifier of the plan to be activated
+     * @return the number of deactivated plans, 0 if the specified plan is already active
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(nativeQuery = true, value = """
+        UPDATE user_plan_mappings
+        SET is_active = false
+        WHERE user_id = ?1 AND is_active = true AND plan_id <> ?2
+        """)
+    int deactivateCurrentPlan(final UUID userId, final UUID planId);
+
     /**
      * Retrieves the active plan for the specified user.
      * 
@@ -40,6 +60,25 @@ public interface UserPlanMappingRepository extends JpaRepository<UserPlanMapping
         """)
     UserPlanMapping getActivePlan(final UUID userId);
 
+    /**
+     * Retrieves the plan currently active for the specified user along with its
+     * bandwidths in a single query, joining the user's active mapping straight to
+     * its plan. Unlike {@link #getActivePlan(UUID)}, neither the mapping nor the
+     * user are loaded, and the mapping is resolved through the
+     * {@code (user_id, is_active, plan_id)} covering index without reading the
+     * table rows.
+     *
+     * @param userId The unique identifier of the user
+     * @return The active plan of the user, <code>null</code> if none exists
+     */
+    @Query(value = """
+        SELECT DISTINCT plan FROM UserPlanMapping mapping
+        JOIN mapping.plan plan
+        LEFT JOIN FETCH plan.bandwidths
+        WHERE mapping.userId = ?1 AND mapping.isActive = true
+        """)
+    Plan findActivePlan(final UUID userId);
+
     /**
      * Checks if the specified plan is active for the given user.
      * 
@@ -0,0 +1,78 @@
+package com.behl.overseer.service;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.distributed.AsyncBucketProxy;
+
+/**
+ * Provides access to the rate limit buckets of users, abstracting the backend
+ * in which the buckets are stored. Implementations are selected through the
+ * {@code com.behl.overseer.rate-limit.backend} property.
+ *
+ * Buckets are retrieved along with the version of the configuration they are
+ * expected to hold. Buckets holding an older version are reconfigured in place
+ * on access, carrying consumed tokens over as per the configured
+ * {@link io.github.bucket4j.TokensInheritanceStrategy}.
+ *
+ * @see com.behl.overseer.service.DistributedBucketProvider
+ * @see com.behl.overseer.service.LocalBucketProvider
+ */
+public interface BucketProvider {
+
+	/**
+	 * Retrieves the bucket of the specified user, creating it through the provided
+	 * configuration supplier if it doesn't exist, or reconfiguring it if it holds a
+	 * configuration older than the provided version.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @param configurationVersion version of the configuration supplied.
+	 * @param configurationSupplier supplier of the configuration, invoked only when the bucket is to be created or reconfigured.
+	 * @return The rate-limiting {@link Bucket} associated with the user.
+	 */
+	Bucket getBucket(UUID userId, long configurationVersion, Supplier<BucketConfiguration> configurationSupplier);
+
+	/**
+	 * Checks whether buckets can be consumed asynchronously through
+	 * {@link #getAsyncBucket(UUID, long, Supplier)}.
+	 */
+	boolean isAsyncModeSupported();
+
+	/**
+	 * Retrieves the asynchronous view of the bucket of the specified user, creating
+	 * or reconfiguring it as described in {@link #getBucket(UUID, long, Supplier)}.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @param configurationVersion version of the configuration supplied.
+	 * @param configurationSupplier supplier of the configuration, invoked only when the bucket is to be created or reconfigured.
+	 * @return The {@link AsyncBucketProxy} associated with the user.
+	 * @throws UnsupportedOperationException if asynchronous mode is not supported.
+	 */
+	AsyncBucketProxy getAsyncBucket(UUID userId, long configurationVersion,
+			Supplier<CompletableFuture<BucketConfiguration>> configurationSupplier);
+
+	/**
+	 * Replaces the configuration of the bucket of the specified user with the
+	 * provided one irrespective of the version it holds, retaining its consumed
+	 * tokens as per the configured {@link io.github.bucket4j.TokensInheritanceStrategy}.
+	 * If no bucket exists for the user, one is created with the provided
+	 * configuration.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @param configurationVersion version of the provided configuration.
+	 * @param configuration configuration to be enforced by the user's bucket.
+	 */
+	void replaceConfiguration(UUID userId, long configurationVersion, BucketConfiguration configuration);
+
+	/**
+	 * Removes the bucket of the specified user, if present. A fresh bucket is
+	 * created on the subsequent retrieval.
+	 *
+	 * @param userId unique identifier of the user.
+	 */
+	void removeBucket(UUID userId);
+
+}
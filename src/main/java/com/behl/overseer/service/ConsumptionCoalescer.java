@@ -0,0 +1,261 @@
+package com.behl.overseer.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongFunction;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.behl.overseer.configuration.RateLimitConfigurationProperties;
+
+import io.github.bucket4j.ConsumptionProbe;
+import lombok.NonNull;
+
+/**
+ * Merges concurrent consumptions of the same user on the current node into a
+ * single remote consumption of multiple tokens, sparing bursty clients from
+ * contending with their own requests over the same bucket.
+ *
+ * The first request of a user consumes its tokens right away. Requests of the
+ * user arriving while a remote consumption is in flight are queued, and the
+ * first of them consumes tokens for the whole queue once the in-flight
+ * consumption completes, hence a request waits for at most one remote
+ * consumption other than its own. The result is split among the queued
+ * requests in order of arrival, each receiving the remaining tokens as if the
+ * requests had been evaluated one after the other.
+ *
+ * Should fewer tokens be available than requested, the tokens of the longest
+ * run of earliest requests fitting into whatever remains are consumed instead
+ * and granted to them. The tokens of the earliest of the rest are then
+ * requested on their own, its rejection reporting the wait for the bucket to
+ * refill a single request's tokens rather than those of the whole queue, which
+ * the rest are rejected with. The wait hence remains fit for the deny cache and
+ * the retry-after header of each request.
+ *
+ * @see com.behl.overseer.service.RateLimitingService
+ * @see com.behl.overseer.configuration.RateLimitConfigurationProperties.Coalescing
+ */
+@Component
+@EnableConfigurationProperties(RateLimitConfigurationProperties.class)
+public class ConsumptionCoalescer {
+
+	/**
+	 * Attempts made to consume the tokens remaining in a bucket which could not
+	 * serve the whole queue, each attempt being made against the remaining tokens
+	 * reported by the previous one, as they could have been consumed by another
+	 * node in the meantime.
+	 */
+	private static final int PARTIAL_CONSUMPTION_ATTEMPTS = 3;
+
+	private final boolean enabled;
+	private final Map<UUID, List<QueuedConsumption>> queuedConsumptions = new ConcurrentHashMap<>();
+
+	public ConsumptionCoalescer(final RateLimitConfigurationProperties rateLimitConfigurationProperties) {
+		this.enabled = rateLimitConfigurationProperties.getCoalescing().isEnabled();
+	}
+
+	/**
+	 * Consumes the specified number of tokens on behalf of the provided user,
+	 * merged with the concurrent consumptions of the same user if coalescing is
+	 * enabled. The provided function carries out the remote consumption of the
+	 * given number of tokens and is invoked on the thread of one of the merged
+	 * requests.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @param tokens number of tokens to consume, must be positive.
+	 * @param remoteConsumption consumes the given number of tokens from the user's bucket.
+	 * @return {@link ConsumptionProbe} describing the result of consumption of the tokens.
+	 * @throws IllegalArgumentException if any provided argument is <code>null</code>.
+	 */
+	public ConsumptionProbe tryConsume(@NonNull final UUID userId, final long tokens,
+			@NonNull final LongFunction<ConsumptionProbe> remoteConsumption) {
+		if (Boolean.FALSE.equals(enabled)) {
+			return remoteConsumption.apply(tokens);
+		}
+
+		final var queuedConsumption = new QueuedConsumption(tokens);
+		final var inFlight = new AtomicBoolean();
+		queuedConsumptions.compute(userId, (id, queue) -> {
+			if (queue == null) {
+				return new ArrayList<>();
+			}
+			inFlight.set(true);
+			queue.add(queuedConsumption);
+			return queue;
+		});
+
+		if (Boolean.FALSE.equals(inFlight.get())) {
+			return consume(userId, List.of(queuedConsumption), remoteConsumption);
+		}
+		try {
+			final var outcome = queuedConsumption.outcome().join();
+			if (outcome.batch() != null) {
+				return consume(userId, outcome.batch(), remoteConsumption);
+			}
+			return outcome.consumptionProbe();
+		} catch (final CompletionException exception) {
+			if (exception.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw exception;
+		}
+	}
+
+	/**
+	 * Consumes tokens for the provided batch of queued consumptions, the first of
+	 * which belongs to the invoking thread. Once the remote consumption completes,
+	 * the consumptions queued in the meantime are handed over to the first of
+	 * them, and the results of the rest of the batch are completed.
+	 */
+	private ConsumptionProbe consume(final UUID userId, final List<QueuedConsumption> batch,
+			final LongFunction<ConsumptionProbe> remoteConsumption) {
+		final List<ConsumptionProbe> consumptionProbes;
+		try {
+			consumptionProbes = split(batch, remoteConsumption);
+		} catch (final RuntimeException exception) {
+			handOver(userId);
+			batch.stream().skip(1).forEach(queuedConsumption -> queuedConsumption.outcome().completeExceptionally(exception));
+			throw exception;
+		}
+
+		handOver(userId);
+		for (int i = 1; i < batch.size(); i++) {
+			batch.get(i).outcome().complete(Outcome.of(consumptionProbes.get(i)));
+		}
+		return consumptionProbes.get(0);
+	}
+
+	/**
+	 * Hands the consumptions of the specified user queued while a remote
+	 * consumption was in flight over to the first of them, or marks no remote
+	 * consumption to be in flight for the user if none were queued.
+	 */
+	private void handOver(final UUID userId) {
+		final var nextBatch = new AtomicReference<List<QueuedConsumption>>();
+		queuedConsumptions.compute(userId, (id, queue) -> {
+			if (queue.isEmpty()) {
+				return null;
+			}
+			nextBatch.set(queue);
+			return new ArrayList<>();
+		});
+
+		final var batch = nextBatch.get();
+		if (batch != null) {
+			batch.get(0).outcome().complete(Outcome.lead(batch));
+		}
+	}
+
+	/**
+	 * Consumes the tokens of the provided batch through the provided function and
+	 * splits the result into a {@link ConsumptionProbe} per queued consumption, in
+	 * order of arrival of the corresponding requests.
+	 */
+	private List<ConsumptionProbe> split(final List<QueuedConsumption> batch, final LongFunction<ConsumptionProbe> remoteConsumption) {
+		final var tokens = batch.stream().mapToLong(QueuedConsumption::tokens).sum();
+		final var consumptionProbe = remoteConsumption.apply(tokens);
+		if (consumptionProbe.isConsumed()) {
+			return granted(batch, batch.size(), consumptionProbe.getRemainingTokens(), consumptionProbe);
+		}
+
+		var grantedConsumptions = 0;
+		var remainingTokens = consumptionProbe.getRemainingTokens();
+		var rejectedConsumptionProbe = consumptionProbe;
+		var rejectedTokens = tokens;
+		for (int attempt = 0; attempt < PARTIAL_CONSUMPTION_ATTEMPTS && grantedConsumptions < batch.size(); attempt++) {
+			// at least the earliest pending consumption is attempted, so that its rejection reports the wait for its own tokens
+			final var pendingConsumptions = batch.subList(grantedConsumptions, batch.size());
+			final var fittingConsumptions = Math.max(1, countFitting(pendingConsumptions, remainingTokens));
+			final var fittingTokens = pendingConsumptions.stream().limit(fittingConsumptions).mapToLong(QueuedConsumption::tokens).sum();
+			if (fittingTokens == rejectedTokens) {
+				break;
+			}
+			final var partialConsumptionProbe = remoteConsumption.apply(fittingTokens);
+			remainingTokens = partialConsumptionProbe.getRemainingTokens();
+			if (partialConsumptionProbe.isConsumed()) {
+				grantedConsumptions += fittingConsumptions;
+				rejectedTokens = 0;
+			} else {
+				rejectedConsumptionProbe = partialConsumptionProbe;
+				rejectedTokens = fittingTokens;
+			}
+		}
+		return granted(batch, grantedConsumptions, remainingTokens, rejectedConsumptionProbe);
+	}
+
+	/**
+	 * Returns the number of earliest queued consumptions whose tokens fit into the
+	 * provided available tokens altogether.
+	 */
+	private int countFitting(final List<QueuedConsumption> batch, final long availableTokens) {
+		var fittingConsumptions = 0;
+		var fittingTokens = 0L;
+		for (final var queuedConsumption : batch) {
+			fittingTokens += queuedConsumption.tokens();
+			if (fittingTokens > availableTokens) {
+				break;
+			}
+			fittingConsumptions++;
+		}
+		return fittingConsumptions;
+	}
+
+	/**
+	 * Returns a {@link ConsumptionProbe} per queued consumption, the first of which
+	 * are consumed up to the granted consumptions with the remaining tokens counted
+	 * down towards the remaining tokens of the bucket, and the rest rejected with
+	 * the wait periods of the last rejected remote consumption, which requested
+	 * the tokens of the earliest rejected consumption alone. The wait for the
+	 * next refill is carried over as is rather than the wait for a complete reset,
+	 * which can be far longer for greedy refill or multiple bandwidths.
+	 */
+	private List<ConsumptionProbe> granted(final List<QueuedConsumption> batch, final int grantedConsumptions,
+			final long remainingTokens, final ConsumptionProbe rejectedConsumptionProbe) {
+		final var consumptionProbes = new ArrayList<ConsumptionProbe>(batch.size());
+		var tokensGrantedAfter = batch.stream().limit(grantedConsumptions).mapToLong(QueuedConsumption::tokens).sum();
+		for (int i = 0; i < batch.size(); i++) {
+			if (i < grantedConsumptions) {
+				tokensGrantedAfter -= batch.get(i).tokens();
+				consumptionProbes.add(ConsumptionProbe.consumed(remainingTokens + tokensGrantedAfter, 0));
+			} else {
+				consumptionProbes.add(ConsumptionProbe.rejected(remainingTokens, rejectedConsumptionProbe.getNanosToWaitForRefill(),
+						rejectedConsumptionProbe.getNanosToWaitForReset()));
+			}
+		}
+		return consumptionProbes;
+	}
+
+	/**
+	 * A consumption queued while a remote consumption of the same user was in
+	 * flight, completed either with its result or with the batch it is to consume
+	 * tokens for.
+	 */
+	private record QueuedConsumption(long tokens, CompletableFuture<Outcome> outcome) {
+
+		QueuedConsumption(final long tokens) {
+			this(tokens, new CompletableFuture<>());
+		}
+
+	}
+
+	private record Outcome(ConsumptionProbe consumptionProbe, List<QueuedConsumption> batch) {
+
+		static Outcome of(final ConsumptionProbe consumptionProbe) {
+			return new Outcome(consumptionProbe, null);
+		}
+
+		static Outcome lead(final List<QueuedConsumption> batch) {
+			return new Outcome(null, batch);
+		}
+
+	}
+
+}
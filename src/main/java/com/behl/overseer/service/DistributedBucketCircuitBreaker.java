@@ -0,0 +1,362 @@
+package com.behl.overseer.service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+
+import com.behl.overseer.configuration.RateLimitConfigurationProperties;
+import com.behl.overseer.configuration.RateLimitConfigurationProperties.FallbackMode;
+import com.behl.overseer.utility.RateLimitMetrics;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker.State;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig.SlidingWindowType;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Circuit breaker guarding calls against the distributed buckets of users,
+ * ensuring a stalled Redis does not stall the request threads, and with them the
+ * whole API. Besides consumptions, reservations of requests waiting for tokens
+ * and updates of buckets (returned lease tokens, plan reconfigurations) are
+ * guarded alike.
+ *
+ * Every call is bounded by a strict timeout, post which it is abandoned and
+ * recorded as a failure. Once the rate of failed or slow consumptions in the
+ * sliding window exceeds the configured thresholds, the breaker opens and
+ * decisions are taken as per the configured {@link FallbackMode} without
+ * contacting Redis. After the configured wait, a limited number of probe
+ * consumptions are let through, closing the breaker again if they succeed.
+ * Node-local buckets of {@link FallbackMode#LOCAL} are discarded once the breaker
+ * closes, the distributed buckets being authoritative again.
+ *
+ * Abandoning a call does not stop the command already sent to Redis, which may
+ * still be carried out. A consumption timing out is hence not charged to the
+ * node-local bucket of {@link FallbackMode#LOCAL}, being allowed as with
+ * {@link FallbackMode#FAIL_OPEN} instead, so that a user is never charged both
+ * remotely and locally for the same request. Consumptions failing otherwise are
+ * known not to have been carried out, and are charged locally.
+ *
+ * The state of the breaker and its call outcomes are bound to the meter
+ * registry under the name {@value #CIRCUIT_BREAKER_NAME}, whereas the fallback
+ * decisions taken are recorded through {@link RateLimitMetrics}.
+ *
+ * @see com.behl.overseer.service.RateLimitingService
+ * @see com.behl.overseer.configuration.RateLimitConfigurationProperties.CircuitBreaker
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(RateLimitConfigurationProperties.class)
+public class DistributedBucketCircuitBreaker implements MeterBinder {
+
+	private static final String CIRCUIT_BREAKER_NAME = "distributed-bucket";
+	private static final Duration LOCAL_BUCKET_IDLE_TIMEOUT = Duration.ofHours(1);
+
+	private final boolean enabled;
+	private final Duration callTimeout;
+	private final long nanosToWaitInOpenState;
+	private final FallbackMode fallbackMode;
+	private final RateLimitMetrics rateLimitMetrics;
+	private final CircuitBreakerRegistry circuitBreakerRegistry;
+	private final CircuitBreaker circuitBreaker;
+	private final Cache<UUID, Bucket> localBuckets;
+	private final ExecutorService callExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+	public DistributedBucketCircuitBreaker(final RateLimitMetrics rateLimitMetrics,
+			final RateLimitConfigurationProperties rateLimitConfigurationProperties) {
+		final var circuitBreakerProperties = rateLimitConfigurationProperties.getCircuitBreaker();
+		this.enabled = circuitBreakerProperties.isEnabled();
+		this.callTimeout = circuitBreakerProperties.getCallTimeout();
+		this.nanosToWaitInOpenState = circuitBreakerProperties.getWaitDurationInOpenState().toNanos();
+		this.fallbackMode = circuitBreakerProperties.getFallbackMode();
+		this.rateLimitMetrics = rateLimitMetrics;
+
+		final var circuitBreakerConfig = CircuitBreakerConfig.custom()
+				.slidingWindowType(SlidingWindowType.COUNT_BASED)
+				.slidingWindowSize(circuitBreakerProperties.getSlidingWindowSize())
+				.minimumNumberOfCalls(circuitBreakerProperties.getMinimumNumberOfCalls())
+				.failureRateThreshold(circuitBreakerProperties.getFailureRateThreshold())
+				.slowCallRateThreshold(circuitBreakerProperties.getSlowCallRateThreshold())
+				.slowCallDurationThreshold(circuitBreakerProperties.getSlowCallDurationThreshold())
+				.waitDurationInOpenState(circuitBreakerProperties.getWaitDurationInOpenState())
+				.permittedNumberOfCallsInHalfOpenState(circuitBreakerProperties.getPermittedNumberOfCallsInHalfOpenState())
+				.recordExceptions(Throwable.class)
+				.build();
+		this.circuitBreakerRegistry = CircuitBreakerRegistry.of(circuitBreakerConfig);
+		this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME);
+		this.localBuckets = Caffeine.newBuilder()
+				.maximumSize(rateLimitConfigurationProperties.getLocalBackend().getMaximumSize())
+				.expireAfterAccess(LOCAL_BUCKET_IDLE_TIMEOUT)
+				.build();
+
+		circuitBreaker.getEventPublisher().onStateTransition(event -> {
+			log.warn("Circuit breaker guarding distributed buckets transitioned {}", event.getStateTransition());
+			if (State.CLOSED.equals(event.getStateTransition().getToState())) {
+				localBuckets.invalidateAll();
+			}
+		});
+	}
+
+	@Override
+	public void bindTo(@NonNull final MeterRegistry meterRegistry) {
+		TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+	}
+
+	@PreDestroy
+	public void stop() {
+		callExecutor.shutdownNow();
+	}
+
+	/**
+	 * Carries out the provided consumption against the distributed bucket of the
+	 * specified user, guarded by the circuit breaker if enabled. The consumption is
+	 * carried out on a virtual thread, which is interrupted and abandoned should
+	 * the configured call timeout elapse, in which case the fallback decision is
+	 * returned instead, without charging the node-local bucket.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @param tokens number of tokens to consume.
+	 * @param remoteConsumption consumes the tokens from the user's distributed bucket.
+	 * @param localConfigurationSupplier supplies the configuration of the user's
+	 *        node-local bucket, only invoked if one is to be created.
+	 * @return {@link ConsumptionProbe} describing the result of consumption.
+	 * @throws IllegalArgumentException if any provided argument is <code>null</code>.
+	 */
+	public ConsumptionProbe tryConsume(@NonNull final UUID userId, final long tokens,
+			@NonNull final Supplier<ConsumptionProbe> remoteConsumption,
+			@NonNull final Supplier<BucketConfiguration> localConfigurationSupplier) {
+		return call(userId, remoteConsumption, cause -> fallback(userId, tokens, cause, localConfigurationSupplier));
+	}
+
+	/**
+	 * Carries out the provided reservation of tokens against the distributed bucket
+	 * of the specified user, on behalf of a request willing to wait for them to be
+	 * refilled, guarded by the circuit breaker as with
+	 * {@link #tryConsume(UUID, long, Supplier, Supplier)}. Should the reservation
+	 * not be carried out, the request is admitted or rejected right away as per the
+	 * fallback decision for the tokens, with no waiting.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @param tokens number of tokens to consume.
+	 * @param remoteReservation reserves the tokens from the user's distributed
+	 *        bucket, returning the future completed once they are due.
+	 * @param localConfigurationSupplier supplies the configuration of the user's
+	 *        node-local bucket, only invoked if one is to be created.
+	 * @return {@link CompletableFuture} completed with {@code true} once the tokens
+	 *         are consumed, or with {@code false} if the request is to be rejected.
+	 * @throws IllegalArgumentException if any provided argument is <code>null</code>.
+	 */
+	public CompletableFuture<Boolean> tryConsumeWithin(@NonNull final UUID userId, final long tokens,
+			@NonNull final Supplier<CompletableFuture<Boolean>> remoteReservation,
+			@NonNull final Supplier<BucketConfiguration> localConfigurationSupplier) {
+		return call(userId, remoteReservation,
+				cause -> CompletableFuture.completedFuture(fallback(userId, tokens, cause, localConfigurationSupplier).isConsumed()));
+	}
+
+	/**
+	 * Carries out the provided update of the distributed bucket of the specified
+	 * user, guarded by the circuit breaker if enabled. The update is skipped while
+	 * the breaker is open, and abandoned should the configured call timeout elapse.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @param remoteUpdate updates the user's distributed bucket.
+	 * @return {@code true} if the update was carried out, {@code false} otherwise.
+	 * @throws IllegalArgumentException if any provided argument is <code>null</code>.
+	 */
+	public boolean tryUpdate(@NonNull final UUID userId, @NonNull final Runnable remoteUpdate) {
+		return call(userId, () -> {
+			remoteUpdate.run();
+			return Boolean.TRUE;
+		}, cause -> Boolean.FALSE);
+	}
+
+	/**
+	 * Asynchronous counterpart of
+	 * {@link #tryConsume(UUID, long, Supplier, Supplier)}, the returned future being
+	 * completed with the fallback decision should the provided consumption fail or
+	 * not complete within the configured call timeout.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @param tokens number of tokens to consume.
+	 * @param remoteConsumption consumes the tokens from the user's distributed bucket.
+	 * @param localConfigurationSupplier supplies the configuration of the user's
+	 *        node-local bucket, only invoked if one is to be created.
+	 * @return {@link CompletableFuture} completed with the {@link ConsumptionProbe}
+	 *         describing the result of consumption.
+	 * @throws IllegalArgumentException if any provided argument is <code>null</code>.
+	 */
+	public CompletableFuture<ConsumptionProbe> tryConsumeAsync(@NonNull final UUID userId, final long tokens,
+			@NonNull final Supplier<CompletableFuture<ConsumptionProbe>> remoteConsumption,
+			@NonNull final Supplier<CompletableFuture<BucketConfiguration>> localConfigurationSupplier) {
+		if (Boolean.FALSE.equals(enabled)) {
+			return remoteConsumption.get();
+		}
+		if (Boolean.FALSE.equals(circuitBreaker.tryAcquirePermission())) {
+			return fallbackAsync(userId, tokens, null, localConfigurationSupplier);
+		}
+
+		final var callStart = System.nanoTime();
+		return remoteConsumption.get()
+				.orTimeout(callTimeout.toNanos(), TimeUnit.NANOSECONDS)
+				.handle((consumptionProbe, exception) -> {
+					if (exception == null) {
+						circuitBreaker.onSuccess(System.nanoTime() - callStart, TimeUnit.NANOSECONDS);
+						return CompletableFuture.completedFuture(consumptionProbe);
+					}
+					circuitBreaker.onError(System.nanoTime() - callStart, TimeUnit.NANOSECONDS, exception);
+					log.debug("Consumption against distributed bucket of user {} failed, falling back", userId, exception);
+					return fallbackAsync(userId, tokens, exception, localConfigurationSupplier);
+				})
+				.thenCompose(Function.identity());
+	}
+
+	/**
+	 * Carries out the provided call against the distributed bucket of the specified
+	 * user on a virtual thread, which is interrupted and abandoned should the
+	 * configured call timeout elapse. The provided fallback is applied to the cause
+	 * of failure and returned instead once the call fails, or applied to
+	 * {@code null} while the breaker is open.
+	 */
+	private <T> T call(final UUID userId, final Supplier<T> remoteCall, final Function<Throwable, T> fallback) {
+		if (Boolean.FALSE.equals(enabled)) {
+			return remoteCall.get();
+		}
+		if (Boolean.FALSE.equals(circuitBreaker.tryAcquirePermission())) {
+			return fallback.apply(null);
+		}
+
+		final var callStart = System.nanoTime();
+		final var call = callExecutor.submit(remoteCall::get);
+		try {
+			final var result = call.get(callTimeout.toNanos(), TimeUnit.NANOSECONDS);
+			circuitBreaker.onSuccess(System.nanoTime() - callStart, TimeUnit.NANOSECONDS);
+			return result;
+		} catch (final TimeoutException | ExecutionException exception) {
+			call.cancel(true);
+			final var cause = exception instanceof ExecutionException ? exception.getCause() : exception;
+			circuitBreaker.onError(System.nanoTime() - callStart, TimeUnit.NANOSECONDS, cause);
+			log.debug("Call against distributed bucket of user {} failed, falling back", userId, cause);
+			return fallback.apply(cause);
+		} catch (final InterruptedException exception) {
+			call.cancel(true);
+			circuitBreaker.releasePermission();
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while calling distributed bucket of user " + userId, exception);
+		}
+	}
+
+	/**
+	 * Returns the current state of the circuit breaker.
+	 */
+	State getState() {
+		return circuitBreaker.getState();
+	}
+
+	/**
+	 * Takes the decision for the specified consumption as per the configured
+	 * {@link FallbackMode}, without contacting Redis. Consumptions timed out
+	 * against Redis are allowed rather than charged to the node-local bucket of
+	 * {@link FallbackMode#LOCAL}, as they may have been carried out regardless.
+	 */
+	private ConsumptionProbe fallback(final UUID userId, final long tokens, final Throwable cause,
+			final Supplier<BucketConfiguration> localConfigurationSupplier) {
+		if (FallbackMode.LOCAL.equals(fallbackMode) && Boolean.FALSE.equals(isTimeout(cause))) {
+			return consumeLocally(getLocalBucket(userId, localConfigurationSupplier), tokens);
+		}
+		final var consumptionProbe = FallbackMode.FAIL_CLOSED.equals(fallbackMode)
+				? ConsumptionProbe.rejected(0, nanosToWaitInOpenState, nanosToWaitInOpenState)
+				: ConsumptionProbe.consumed(0, 0);
+		final var decisionMode = FallbackMode.LOCAL.equals(fallbackMode) ? FallbackMode.FAIL_OPEN : fallbackMode;
+		rateLimitMetrics.recordFallbackDecision(decisionMode.name(), consumptionProbe.isConsumed());
+		return consumptionProbe;
+	}
+
+	/**
+	 * Asynchronous counterpart of {@link #fallback(UUID, long, Throwable, Supplier)},
+	 * resolving the configuration of a node-local bucket to be created without
+	 * blocking the invoking thread. The node-local bucket is looked up once and
+	 * consumed from as is, as it may be discarded concurrently on the breaker
+	 * closing.
+	 */
+	private CompletableFuture<ConsumptionProbe> fallbackAsync(final UUID userId, final long tokens, final Throwable cause,
+			final Supplier<CompletableFuture<BucketConfiguration>> localConfigurationSupplier) {
+		if (Boolean.FALSE.equals(FallbackMode.LOCAL.equals(fallbackMode)) || isTimeout(cause)) {
+			return CompletableFuture.completedFuture(fallback(userId, tokens, cause, null));
+		}
+		final var localBucket = localBuckets.getIfPresent(userId);
+		if (localBucket != null) {
+			return CompletableFuture.completedFuture(consumeLocally(localBucket, tokens));
+		}
+		return localConfigurationSupplier.get()
+				.thenApply(configuration -> fallback(userId, tokens, cause, () -> configuration));
+	}
+
+	/**
+	 * Consumes the specified number of tokens from the provided node-local bucket,
+	 * recording the decision taken.
+	 */
+	private ConsumptionProbe consumeLocally(final Bucket localBucket, final long tokens) {
+		final var consumptionProbe = localBucket.tryConsumeAndReturnRemaining(tokens);
+		rateLimitMetrics.recordFallbackDecision(FallbackMode.LOCAL.name(), consumptionProbe.isConsumed());
+		return consumptionProbe;
+	}
+
+	/**
+	 * Checks whether the provided cause of failure, or any of its causes, is a
+	 * timeout, following which the command sent to Redis may still be carried out.
+	 */
+	private boolean isTimeout(final Throwable cause) {
+		for (var throwable = cause; throwable != null; throwable = throwable.getCause()) {
+			if (throwable instanceof TimeoutException || throwable instanceof QueryTimeoutException
+					|| throwable instanceof RedisCommandTimeoutException) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Retrieves the node-local bucket of the specified user, creating it through the
+	 * provided configuration supplier if it doesn't exist. The configuration is
+	 * resolved outside of the cache's computation, as the supplier may block on the
+	 * datasource.
+	 */
+	private Bucket getLocalBucket(final UUID userId, final Supplier<BucketConfiguration> localConfigurationSupplier) {
+		final var localBucket = localBuckets.getIfPresent(userId);
+		if (localBucket != null) {
+			return localBucket;
+		}
+
+		final var configuration = localConfigurationSupplier.get();
+		return localBuckets.get(userId, key -> {
+			final var bucketBuilder = Bucket.builder();
+			Arrays.stream(configuration.getBandwidths()).forEach(bucketBuilder::addLimit);
+			return bucketBuilder.build();
+		});
+	}
+
+}
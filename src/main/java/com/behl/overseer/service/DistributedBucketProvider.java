@@ -0,0 +1,77 @@
+package com.behl.overseer.service;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.TokensInheritanceStrategy;
+import io.github.bucket4j.distributed.AsyncBucketProxy;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link BucketProvider} storing the buckets of users in Redis through the
+ * provisioned {@link ProxyManager}, sharing them between all nodes of the
+ * application.
+ *
+ * The version of the configuration held by each bucket is stored alongside it
+ * in Redis, with buckets holding an older version reconfigured as part of the
+ * same round trip which consumes tokens from them, sparing any bulk reset of
+ * buckets when a plan is updated.
+ *
+ * @see com.behl.overseer.configuration.RedisConfiguration
+ */
+@RequiredArgsConstructor
+public class DistributedBucketProvider implements BucketProvider {
+
+	private final ProxyManager<String> proxyManager;
+	private final TokensInheritanceStrategy tokensInheritanceStrategy;
+
+	@Override
+	public Bucket getBucket(@NonNull final UUID userId, final long configurationVersion,
+			@NonNull final Supplier<BucketConfiguration> configurationSupplier) {
+		return proxyManager.builder()
+				.withImplicitConfigurationReplacement(configurationVersion, tokensInheritanceStrategy)
+				.build(getBucketKey(userId), configurationSupplier);
+	}
+
+	@Override
+	public boolean isAsyncModeSupported() {
+		return proxyManager.isAsyncModeSupported();
+	}
+
+	@Override
+	public AsyncBucketProxy getAsyncBucket(@NonNull final UUID userId, final long configurationVersion,
+			@NonNull final Supplier<CompletableFuture<BucketConfiguration>> configurationSupplier) {
+		return proxyManager.asAsync().builder()
+				.withImplicitConfigurationReplacement(configurationVersion, tokensInheritanceStrategy)
+				.build(getBucketKey(userId), configurationSupplier);
+	}
+
+	/**
+	 * {@inheritDoc} The configuration is pushed to Redis in a single round trip,
+	 * creating the bucket from it if absent.
+	 */
+	@Override
+	public void replaceConfiguration(@NonNull final UUID userId, final long configurationVersion,
+			@NonNull final BucketConfiguration configuration) {
+		getBucket(userId, configurationVersion, () -> configuration).replaceConfiguration(configuration, tokensInheritanceStrategy);
+	}
+
+	@Override
+	public void removeBucket(@NonNull final UUID userId) {
+		proxyManager.removeProxy(getBucketKey(userId));
+	}
+
+	/**
+	 * Returns the key against which the bucket of the specified user is stored in
+	 * Redis.
+	 */
+	private String getBucketKey(final UUID userId) {
+		return userId.toString();
+	}
+
+}
@@ -0,0 +1,177 @@
+package com.behl.overseer.service;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.behl.overseer.configuration.RateLimitConfigurationProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.TokensInheritanceStrategy;
+import io.github.bucket4j.distributed.AsyncBucketProxy;
+import lombok.NonNull;
+
+/**
+ * {@link BucketProvider} holding lock-free buckets of users in a bounded,
+ * node-local cache, allowing the application to enforce rate limits without
+ * Redis. Suitable for single-node deployments and tests, as buckets are not
+ * shared between nodes.
+ *
+ * A bucket is evicted once it has been idle long enough to be refilled
+ * completely, as a fresh bucket would be identical to the evicted one, keeping
+ * the memory held proportional to the number of active users. Should the
+ * configured maximum size be reached, buckets of least recently active users
+ * are evicted early.
+ *
+ * Buckets holding a configuration older than the version requested are
+ * reconfigured in place, their expiration being recomputed from the new
+ * configuration.
+ *
+ * @see com.behl.overseer.configuration.RateLimitConfigurationProperties.Backend#LOCAL
+ */
+@Component
+@EnableConfigurationProperties(RateLimitConfigurationProperties.class)
+@ConditionalOnProperty(prefix = "com.behl.overseer.rate-limit", name = "backend", havingValue = "local")
+public class LocalBucketProvider implements BucketProvider {
+
+	private final Cache<UUID, CachedBucket> buckets;
+	private final TokensInheritanceStrategy tokensInheritanceStrategy;
+
+	public LocalBucketProvider(final RateLimitConfigurationProperties rateLimitConfigurationProperties) {
+		final var localBackendProperties = rateLimitConfigurationProperties.getLocalBackend();
+		this.tokensInheritanceStrategy = rateLimitConfigurationProperties.getReconfiguration().getTokensInheritanceStrategy();
+		this.buckets = Caffeine.newBuilder()
+				.maximumSize(localBackendProperties.getMaximumSize())
+				.expireAfter(new CompleteRefillExpiry())
+				.build();
+	}
+
+	@Override
+	public Bucket getBucket(@NonNull final UUID userId, final long configurationVersion,
+			@NonNull final Supplier<BucketConfiguration> configurationSupplier) {
+		final var cachedBucket = buckets.getIfPresent(userId);
+		if (cachedBucket != null && cachedBucket.configurationVersion() >= configurationVersion) {
+			return cachedBucket.bucket();
+		}
+
+		// the configuration supplier may block on the datasource, hence it's resolved
+		// outside of the cache's computation which holds a monitor, pinning the
+		// carrier of a virtual thread
+		final var configuration = configurationSupplier.get();
+		return buckets.asMap().compute(userId, (key, currentBucket) -> {
+			if (currentBucket == null) {
+				return createBucket(configurationVersion, configuration);
+			}
+			if (currentBucket.configurationVersion() < configurationVersion) {
+				return reconfigureBucket(currentBucket, configurationVersion, configuration);
+			}
+			return currentBucket;
+		}).bucket();
+	}
+
+	@Override
+	public boolean isAsyncModeSupported() {
+		return false;
+	}
+
+	@Override
+	public AsyncBucketProxy getAsyncBucket(final UUID userId, final long configurationVersion,
+			final Supplier<CompletableFuture<BucketConfiguration>> configurationSupplier) {
+		throw new UnsupportedOperationException("Asynchronous mode is not supported by local backend");
+	}
+
+	@Override
+	public void replaceConfiguration(@NonNull final UUID userId, final long configurationVersion,
+			@NonNull final BucketConfiguration configuration) {
+		buckets.asMap().compute(userId, (key, currentBucket) -> currentBucket == null
+				? createBucket(configurationVersion, configuration)
+				: reconfigureBucket(currentBucket, configurationVersion, configuration));
+	}
+
+	@Override
+	public void removeBucket(@NonNull final UUID userId) {
+		buckets.invalidate(userId);
+	}
+
+	/**
+	 * Constructs a lock-free bucket, an instance of {@code LockFreeBucket}, enforcing the limits of the provided
+	 * configuration.
+	 */
+	private CachedBucket createBucket(final long configurationVersion, final BucketConfiguration configuration) {
+		final var bucketBuilder = Bucket.builder();
+		Arrays.stream(configuration.getBandwidths()).forEach(bucketBuilder::addLimit);
+		return new CachedBucket(bucketBuilder.build(), configurationVersion, getNanosToRefillCompletely(configuration));
+	}
+
+	/**
+	 * Replaces the configuration of the provided bucket in place, returning the
+	 * cache entry to be stored in place of the current one so that its expiration
+	 * is recomputed.
+	 */
+	private CachedBucket reconfigureBucket(final CachedBucket cachedBucket, final long configurationVersion,
+			final BucketConfiguration configuration) {
+		cachedBucket.bucket().replaceConfiguration(configuration, tokensInheritanceStrategy);
+		return new CachedBucket(cachedBucket.bucket(), configurationVersion, getNanosToRefillCompletely(configuration));
+	}
+
+	/**
+	 * Computes the duration in nanoseconds in which a bucket enforcing the provided
+	 * configuration is refilled from empty to its capacity.
+	 */
+	private long getNanosToRefillCompletely(final BucketConfiguration configuration) {
+		return Arrays.stream(configuration.getBandwidths())
+				.mapToLong(this::getNanosToRefillCompletely)
+				.max()
+				.orElse(0);
+	}
+
+	/**
+	 * Computes the duration in nanoseconds in which the provided bandwidth is
+	 * refilled from empty to its capacity.
+	 */
+	private long getNanosToRefillCompletely(final Bandwidth bandwidth) {
+		final var refillsRequired = (bandwidth.getCapacity() + bandwidth.getRefillTokens() - 1) / bandwidth.getRefillTokens();
+		return refillsRequired * bandwidth.getRefillPeriodNanos();
+	}
+
+	/**
+	 * Bucket of a user along with the version of the configuration it holds, and
+	 * the idle duration post which it is refilled completely.
+	 */
+	private record CachedBucket(Bucket bucket, long configurationVersion, long nanosToRefillCompletely) {
+	}
+
+	/**
+	 * Expires cache entries once idle for the duration required to refill the
+	 * bucket completely, with every access postponing the expiration.
+	 */
+	private static class CompleteRefillExpiry implements Expiry<UUID, CachedBucket> {
+
+		@Override
+		public long expireAfterCreate(final UUID userId, final CachedBucket cachedBucket, final long currentTime) {
+			return cachedBucket.nanosToRefillCompletely();
+		}
+
+		@Override
+		public long expireAfterUpdate(final UUID userId, final CachedBucket cachedBucket, final long currentTime, final long currentDuration) {
+			return cachedBucket.nanosToRefillCompletely();
+		}
+
+		@Override
+		public long expireAfterRead(final UUID userId, final CachedBucket cachedBucket, final long currentTime, final long currentDuration) {
+			return cachedBucket.nanosToRefillCompletely();
+		}
+
+	}
+
+}
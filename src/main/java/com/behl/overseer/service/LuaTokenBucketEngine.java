@@ -0,0 +1,202 @@
+package com.behl.overseer.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.behl.overseer.entity.Plan;
+
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.TokensInheritanceStrategy;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import jakarta.annotation.PostConstruct;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Token bucket engine evaluating consumption inside Redis through a Lua script,
+ * refilling and consuming tokens in a single {@code EVALSHA} round trip. Each
+ * user's bucket is kept as a compact Redis hash of plain numeric fields, with no
+ * serialized Java objects stored, and is expired once the user goes idle long
+ * enough for the bucket to be refilled completely.
+ *
+ * Buckets enforce the hourly quota of the user's plan along with its additional
+ * bandwidths, tokens being consumed only if available in all of them, and are
+ * refilled as per the plan's {@link Plan.RefillStrategy}, matching the buckets
+ * configured through Bucket4j.
+ *
+ * The script is loaded into Redis on startup. Should Redis lose it (restart or
+ * {@code SCRIPT FLUSH}), the resulting {@code NOSCRIPT} error is handled by
+ * re-sending the script, which loads it again for subsequent invocations.
+ *
+ * Existing buckets are reconfigured in place with the bandwidths of another plan
+ * through {@link #reconfigure(UUID, Plan, TokensInheritanceStrategy)}, carrying
+ * their available tokens over alike Bucket4j's {@code replaceConfiguration}.
+ *
+ * Invocations can also be issued on a connection whose commands are flushed in
+ * batches through {@link #tryConsumeExisting(RedisAsyncCommands, UUID, long)},
+ * as done by {@link PipelinedConsumptionDispatcher}.
+ *
+ * @see com.behl.overseer.service.RateLimitingService
+ * @see com.behl.overseer.configuration.RateLimitConfigurationProperties.Engine#LUA
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "com.behl.overseer.rate-limit", name = "engine", havingValue = "lua")
+public class LuaTokenBucketEngine {
+
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> TOKEN_BUCKET_SCRIPT = RedisScript.of(new ClassPathResource("scripts/token-bucket.lua"), List.class);
+	private static final RedisScript<Long> RECONFIGURATION_SCRIPT = RedisScript.of(new ClassPathResource("scripts/token-bucket-reconfiguration.lua"), Long.class);
+
+	private static final String KEY_PREFIX = "rate-limit:";
+	private static final String UNKNOWN_REFILL_STRATEGY = "";
+	private static final long BUCKET_NOT_FOUND = -1;
+	private static final long CONSUMED = 1;
+	private static final String HOURLY_REFILL_PERIOD_MILLIS = String.valueOf(Duration.ofHours(1).toMillis());
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	/**
+	 * Loads the token bucket script into Redis's script cache, so that invocations
+	 * only transmit its SHA1 digest.
+	 */
+	@PostConstruct
+	public void loadScript() {
+		final var script = TOKEN_BUCKET_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+		final var sha = stringRedisTemplate.execute((RedisCallback<String>) connection -> connection.scriptingCommands().scriptLoad(script));
+		log.info("Loaded token bucket script into Redis with SHA1 digest {}", sha);
+	}
+
+	/**
+	 * Attempts to consume the specified number of tokens from the bucket of the
+	 * provided user. If no bucket exists for the user, a full bucket is created
+	 * with the bandwidths of the plan returned by the provided supplier, which is
+	 * only invoked in such case.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @param tokens number of tokens to consume.
+	 * @param planSupplier supplies the user's current plan.
+	 * @return {@link ConsumptionProbe} describing the result of consumption.
+	 * @throws IllegalArgumentException if any provided argument is <code>null</code>.
+	 */
+	public ConsumptionProbe tryConsume(@NonNull final UUID userId, final long tokens, @NonNull final Supplier<Plan> planSupplier) {
+		final var keys = List.of(getKey(userId));
+		var result = execute(keys, tokens, List.of(UNKNOWN_REFILL_STRATEGY));
+		if (result.get(0) == BUCKET_NOT_FOUND) {
+			result = execute(keys, tokens, getBucketArguments(planSupplier.get()));
+		}
+
+		return toConsumptionProbe(result);
+	}
+
+	/**
+	 * Issues consumption of the specified number of tokens from the existing bucket
+	 * of the provided user on the given connection, by the SHA1 digest of the
+	 * loaded script. The command is not flushed, allowing the caller to pipeline
+	 * invocations for many users and flush them together. No bucket is created if
+	 * none exists for the user.
+	 *
+	 * @param commands asynchronous commands of the connection to issue the invocation on.
+	 * @param userId unique identifier of the user.
+	 * @param tokens number of tokens to consume.
+	 * @return {@link CompletableFuture} completed with the {@link ConsumptionProbe}
+	 *         describing the result of consumption, or an empty optional if no
+	 *         bucket exists for the user. Completed exceptionally with
+	 *         {@code NOSCRIPT} if Redis has lost the script.
+	 * @throws IllegalArgumentException if any provided argument is <code>null</code>.
+	 */
+	public CompletableFuture<Optional<ConsumptionProbe>> tryConsumeExisting(@NonNull final RedisAsyncCommands<String, String> commands,
+			@NonNull final UUID userId, final long tokens) {
+		final var keys = new String[] { getKey(userId) };
+		return commands.<List<Long>>evalsha(TOKEN_BUCKET_SCRIPT.getSha1(), ScriptOutputType.MULTI, keys, String.valueOf(tokens), UNKNOWN_REFILL_STRATEGY)
+				.toCompletableFuture()
+				.thenApply(result -> result.get(0) == BUCKET_NOT_FOUND ? Optional.empty() : Optional.of(toConsumptionProbe(result)));
+	}
+
+	/**
+	 * Reconfigures the existing bucket of the specified user in place with the
+	 * bandwidths of the provided plan, carrying the available tokens over as per
+	 * the given strategy, so that a plan change does not grant a fresh quota.
+	 * Bandwidths are matched by position, the hourly quota being the first of them,
+	 * with bandwidths new to the bucket starting full. No bucket is created if none
+	 * exists for the user, the next consumption creating it from the provided plan.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @param plan plan whose bandwidths are to be enforced by the bucket.
+	 * @param tokensInheritanceStrategy manner in which available tokens are carried over.
+	 * @throws IllegalArgumentException if any provided argument is <code>null</code>.
+	 */
+	public void reconfigure(@NonNull final UUID userId, @NonNull final Plan plan,
+			@NonNull final TokensInheritanceStrategy tokensInheritanceStrategy) {
+		final var arguments = new ArrayList<String>();
+		arguments.add(tokensInheritanceStrategy.name());
+		arguments.addAll(getBucketArguments(plan));
+		stringRedisTemplate.execute(RECONFIGURATION_SCRIPT, List.of(getKey(userId)), arguments.toArray());
+	}
+
+	/**
+	 * Removes the bucket of the specified user, a new bucket being created on
+	 * subsequent consumption.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
+	 */
+	public void reset(@NonNull final UUID userId) {
+		stringRedisTemplate.delete(getKey(userId));
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Long> execute(final List<String> keys, final long tokens, final List<String> bucketArguments) {
+		final var arguments = new ArrayList<String>(bucketArguments.size() + 1);
+		arguments.add(String.valueOf(tokens));
+		arguments.addAll(bucketArguments);
+		return stringRedisTemplate.execute(TOKEN_BUCKET_SCRIPT, keys, arguments.toArray());
+	}
+
+	/**
+	 * Returns the script arguments describing a bucket for the provided plan, being
+	 * its refill strategy followed by the capacity and refill period in milliseconds
+	 * of the hourly quota and of each additional bandwidth.
+	 */
+	private List<String> getBucketArguments(final Plan plan) {
+		final var arguments = new ArrayList<String>();
+		arguments.add(plan.getRefillStrategy().name());
+		arguments.add(String.valueOf(plan.getLimitPerHour()));
+		arguments.add(HOURLY_REFILL_PERIOD_MILLIS);
+		for (final var bandwidth : plan.getBandwidths()) {
+			arguments.add(String.valueOf(bandwidth.getCapacity()));
+			arguments.add(String.valueOf(Duration.ofSeconds(bandwidth.getPeriodSeconds()).toMillis()));
+		}
+		return arguments;
+	}
+
+	private ConsumptionProbe toConsumptionProbe(final List<Long> result) {
+		final long remainingTokens = result.get(1);
+		if (result.get(0) == CONSUMED) {
+			return ConsumptionProbe.consumed(remainingTokens, 0);
+		}
+		final long nanosToWaitForRefill = result.get(2);
+		return ConsumptionProbe.rejected(remainingTokens, nanosToWaitForRefill, nanosToWaitForRefill);
+	}
+
+	private String getKey(final UUID userId) {
+		return KEY_PREFIX + userId;
+	}
+
+}
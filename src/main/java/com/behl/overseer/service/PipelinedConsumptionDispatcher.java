@@ -0,0 +1,265 @@
+package com.behl.overseer.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.stereotype.Component;
+
+import com.behl.overseer.configuration.RateLimitConfigurationProperties;
+import com.behl.overseer.entity.Plan;
+import com.behl.overseer.utility.RateLimitMetrics;
+
+import io.github.bucket4j.ConsumptionProbe;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisNoScriptException;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.StringCodec;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Gathers concurrent consumptions of different users on the current node into
+ * batches, sent to Redis as pipelined invocations of the token bucket script of
+ * {@link LuaTokenBucketEngine}. Request threads hand their consumption over to a
+ * single dispatcher thread and wait for their own {@link ConsumptionProbe},
+ * while the dispatcher writes each batch to a dedicated connection with a single
+ * flush, cutting down the syscalls and packets exchanged with Redis.
+ *
+ * A batch is sent once the configured window has elapsed since its first
+ * consumption was submitted, or as soon as it is full, whichever comes first.
+ * The dispatcher does not wait for a batch to complete before gathering the next
+ * one, hence the latency added to a request is bounded by the window. The time
+ * spent waiting and the size of each batch are recorded through
+ * {@link RateLimitMetrics}.
+ *
+ * Consumptions known not to have been carried out by Redis are evaluated
+ * individually on the request thread through
+ * {@link LuaTokenBucketEngine#tryConsume(UUID, long, Supplier)}, which creates
+ * the bucket and reloads the script should Redis have lost it. Such is the case
+ * for users without a bucket in Redis, consumptions rejected with
+ * {@code NOSCRIPT}, and those never flushed to Redis, e.g. submitted once the
+ * dispatcher is stopped. Consumptions whose outcome is unknown, having failed
+ * or not completed within the window and the Redis command timeout once
+ * flushed, are failed instead, as they may have been carried out regardless and
+ * evaluating them again would charge the user twice. The failure is handled by
+ * {@link DistributedBucketCircuitBreaker} as with any other failed consumption.
+ *
+ * @see com.behl.overseer.configuration.RateLimitConfigurationProperties.Pipelining
+ * @see com.behl.overseer.service.RateLimitingService
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(RateLimitConfigurationProperties.class)
+@ConditionalOnExpression("'${com.behl.overseer.rate-limit.engine:bucket4j}'.equalsIgnoreCase('lua') && ${com.behl.overseer.rate-limit.pipelining.enabled:false}")
+public class PipelinedConsumptionDispatcher {
+
+	private static final String DISPATCHER_THREAD_NAME = "consumption-dispatcher";
+
+	private final LuaTokenBucketEngine luaTokenBucketEngine;
+	private final LettuceConnectionFactory lettuceConnectionFactory;
+	private final RateLimitMetrics rateLimitMetrics;
+	private final RateLimitConfigurationProperties rateLimitConfigurationProperties;
+
+	private final BlockingQueue<PendingConsumption> pendingConsumptions = new LinkedBlockingQueue<>();
+	private StatefulRedisConnection<String, String> connection;
+	private Thread dispatcherThread;
+	private Duration resultTimeout;
+	private volatile boolean running;
+
+	/**
+	 * Opens the connection dedicated to pipelined batches, with automatic flushing
+	 * of commands disabled, and starts the dispatcher thread. The connection is
+	 * only written to by the dispatcher thread.
+	 */
+	@PostConstruct
+	public void start() {
+		final var nativeClient = lettuceConnectionFactory.getRequiredNativeClient();
+		if (Boolean.FALSE.equals(nativeClient instanceof RedisClient)) {
+			throw new IllegalStateException("Pipelined consumption is only supported against a standalone Redis server");
+		}
+		connection = ((RedisClient) nativeClient).connect(StringCodec.UTF8);
+		connection.setAutoFlushCommands(false);
+
+		final var commandTimeout = lettuceConnectionFactory.getClientConfiguration().getCommandTimeout();
+		resultTimeout = rateLimitConfigurationProperties.getPipelining().getWindow().plus(commandTimeout);
+
+		running = true;
+		dispatcherThread = Thread.ofPlatform().name(DISPATCHER_THREAD_NAME).daemon().start(this::dispatch);
+	}
+
+	/**
+	 * Stops the dispatcher thread, failing consumptions yet to be sent so that their
+	 * callers fall back to individual evaluation, and closes the connection.
+	 */
+	@PreDestroy
+	public void stop() throws InterruptedException {
+		running = false;
+		dispatcherThread.interrupt();
+		dispatcherThread.join();
+		failPending(drainPending(), new UnsentConsumptionException("Consumption dispatcher has been stopped", null));
+		connection.close();
+	}
+
+	/**
+	 * Attempts to consume the specified number of tokens on behalf of the provided
+	 * user, as part of the next pipelined batch. The invoking thread waits for the batch to be
+	 * sent and for its own result to be received, for no longer than the window
+	 * and the Redis command timeout combined. The consumption is evaluated
+	 * individually only if known not to have been carried out by Redis.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @param tokens number of tokens to consume.
+	 * @param planSupplier supplies the user's current plan, only invoked if no
+	 *        bucket exists for the user.
+	 * @return {@link ConsumptionProbe} describing the result of consumption.
+	 * @throws IllegalArgumentException if any provided argument is <code>null</code>.
+	 * @throws IllegalStateException if the outcome of the flushed consumption is unknown.
+	 */
+	public ConsumptionProbe tryConsume(@NonNull final UUID userId, final long tokens, @NonNull final Supplier<Plan> planSupplier) {
+		if (Boolean.FALSE.equals(running)) {
+			return luaTokenBucketEngine.tryConsume(userId, tokens, planSupplier);
+		}
+
+		final var pendingConsumption = new PendingConsumption(userId, tokens, System.nanoTime(), new CompletableFuture<>());
+		pendingConsumptions.add(pendingConsumption);
+		if (Boolean.FALSE.equals(running)) {
+			// queued past the drain of a concurrent stop, hence never to be sent
+			failPending(drainPending(), new UnsentConsumptionException("Consumption dispatcher has been stopped", null));
+		}
+
+		try {
+			// bounded, as a consumption lost along with its batch is never completed otherwise
+			final var consumptionProbe = pendingConsumption.result().orTimeout(resultTimeout.toNanos(), TimeUnit.NANOSECONDS).join();
+			if (consumptionProbe.isPresent()) {
+				return consumptionProbe.get();
+			}
+		} catch (final CompletionException exception) {
+			final var cause = exception.getCause();
+			if (Boolean.FALSE.equals(cause instanceof UnsentConsumptionException || cause instanceof RedisNoScriptException)) {
+				throw new IllegalStateException("Outcome of pipelined consumption is unknown for user " + userId, cause);
+			}
+			log.debug("Pipelined consumption not carried out for user {}, evaluating individually", userId, cause);
+		}
+		return luaTokenBucketEngine.tryConsume(userId, tokens, planSupplier);
+	}
+
+	/**
+	 * Gathers pending consumptions into batches until stopped. The first
+	 * consumption of a batch is awaited indefinitely, following which others are
+	 * awaited until the window measured from its submission elapses or the batch
+	 * is full. Consumptions already queued are taken into the batch without
+	 * waiting, even past the window.
+	 */
+	private void dispatch() {
+		final var window = rateLimitConfigurationProperties.getPipelining().getWindow().toNanos();
+		final var maximumBatchSize = rateLimitConfigurationProperties.getPipelining().getMaximumBatchSize();
+		final var batch = new ArrayList<PendingConsumption>(maximumBatchSize);
+
+		while (running) {
+			try {
+				batch.add(pendingConsumptions.take());
+				final var deadline = batch.get(0).submittedAt() + window;
+				while (batch.size() < maximumBatchSize) {
+					final var remainingWindow = deadline - System.nanoTime();
+					final var pendingConsumption = remainingWindow > 0
+							? pendingConsumptions.poll(remainingWindow, TimeUnit.NANOSECONDS)
+							: pendingConsumptions.poll();
+					if (pendingConsumption == null) {
+						break;
+					}
+					batch.add(pendingConsumption);
+				}
+				send(batch);
+			} catch (final InterruptedException exception) {
+				failPending(batch, new UnsentConsumptionException("Consumption dispatcher has been interrupted", exception));
+				Thread.currentThread().interrupt();
+				return;
+			} catch (final RuntimeException exception) {
+				log.error("Failed to send pipelined batch of {} consumptions", batch.size(), exception);
+				failPending(batch, exception);
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	/**
+	 * Issues the consumptions of the provided batch on the dedicated connection and
+	 * flushes them to Redis together. Each consumption's future is completed as its
+	 * reply is received, without waiting for the rest of the batch. Consumptions
+	 * failing to be issued are never flushed, and are failed as not sent.
+	 */
+	private void send(final List<PendingConsumption> batch) {
+		final var sentAt = System.nanoTime();
+		final var commands = connection.async();
+		for (final var pendingConsumption : batch) {
+			rateLimitMetrics.recordPipelineWait(sentAt - pendingConsumption.submittedAt());
+			try {
+				luaTokenBucketEngine.tryConsumeExisting(commands, pendingConsumption.userId(), pendingConsumption.tokens()).whenComplete((consumptionProbe, exception) -> {
+					if (exception != null) {
+						pendingConsumption.result().completeExceptionally(exception);
+					} else {
+						pendingConsumption.result().complete(consumptionProbe);
+					}
+				});
+			} catch (final RuntimeException exception) {
+				pendingConsumption.result().completeExceptionally(new UnsentConsumptionException("Failed to issue pipelined consumption", exception));
+			}
+		}
+		connection.flushCommands();
+		rateLimitMetrics.recordPipelineBatch(batch.size());
+	}
+
+	private List<PendingConsumption> drainPending() {
+		final var remaining = new ArrayList<PendingConsumption>();
+		pendingConsumptions.drainTo(remaining);
+		return remaining;
+	}
+
+	private void failPending(final List<PendingConsumption> batch, final Throwable cause) {
+		batch.forEach(pendingConsumption -> pendingConsumption.result().completeExceptionally(cause));
+	}
+
+	/**
+	 * A consumption submitted by a request thread, awaiting its result.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @param tokens number of tokens to consume.
+	 * @param submittedAt {@link System#nanoTime()} at the time of submission.
+	 * @param result future completed with the result of consumption, or an empty
+	 *        optional if no bucket exists for the user.
+	 */
+	private record PendingConsumption(UUID userId, long tokens, long submittedAt, CompletableFuture<Optional<ConsumptionProbe>> result) {
+	}
+
+	/**
+	 * Failure of a consumption which was never flushed to Redis, and is hence safe
+	 * to be evaluated again.
+	 */
+	private static class UnsentConsumptionException extends RuntimeException {
+
+		private static final long serialVersionUID = 2851302117839162745L;
+
+		UnsentConsumptionException(final String message, final Throwable cause) {
+			super(message, cause);
+		}
+
+	}
+
+}
@@ -0,0 +1,117 @@
+package com.behl.overseer.service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.SessionFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import com.behl.overseer.configuration.RateLimitConfigurationProperties;
+import com.behl.overseer.entity.Plan;
+import com.behl.overseer.repository.PlanRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Node-local snapshot of the plans available in the system, held as the JSON
+ * encoded response body along with a strong ETag derived from it. Requests
+ * retrieving the plans are served the pre-encoded bytes, or a
+ * {@code 304 Not Modified} when presenting the current ETag, without any
+ * datasource or serialization work.
+ *
+ * Plans are only ever changed directly in the datasource, hence every node
+ * polls the latest {@code updated_at} of plans, which is refreshed on every
+ * change to a plan or its bandwidths, and discards its snapshot along with the
+ * plans held in Hibernate's second-level cache once it changes. The snapshot
+ * otherwise expires post the time to live configured for the plan cache.
+ * Concurrent requests post invalidation are collapsed into a single rebuild.
+ *
+ * @see com.behl.overseer.repository.PlanRepository#findLatestUpdatedAt()
+ */
+@Component
+@EnableConfigurationProperties(RateLimitConfigurationProperties.class)
+public class PlanCatalogue {
+
+	private static final String SNAPSHOT_KEY = "plans";
+
+	private final PlanService planService;
+	private final PlanRepository planRepository;
+	private final EntityManagerFactory entityManagerFactory;
+	private final ObjectMapper objectMapper;
+	private final LoadingCache<String, Snapshot> snapshots;
+	private final AtomicReference<Optional<LocalDateTime>> latestUpdatedAt = new AtomicReference<>();
+
+	public PlanCatalogue(final PlanService planService, final PlanRepository planRepository, final EntityManagerFactory entityManagerFactory,
+			final ObjectMapper objectMapper, final RateLimitConfigurationProperties rateLimitConfigurationProperties) {
+		this.planService = planService;
+		this.planRepository = planRepository;
+		this.entityManagerFactory = entityManagerFactory;
+		this.objectMapper = objectMapper;
+		this.snapshots = Caffeine.newBuilder()
+				.maximumSize(1)
+				.expireAfterWrite(rateLimitConfigurationProperties.getPlanCache().getTimeToLive())
+				.build(key -> createSnapshot());
+	}
+
+	/**
+	 * Returns the current snapshot of available plans, building it from the
+	 * datasource if absent.
+	 *
+	 * @return snapshot of available plans.
+	 */
+	public Snapshot get() {
+		return snapshots.get(SNAPSHOT_KEY);
+	}
+
+	/**
+	 * Checks the datasource for changes to plans since the previous check,
+	 * invalidating the snapshot and cached plans on the current node if any. The
+	 * first check only records the latest update of plans.
+	 */
+	@Scheduled(fixedDelay = 5000)
+	public void refresh() {
+		final var updatedAt = planRepository.findLatestUpdatedAt();
+		final var previousUpdatedAt = latestUpdatedAt.getAndSet(updatedAt);
+		if (previousUpdatedAt != null && Boolean.FALSE.equals(previousUpdatedAt.equals(updatedAt))) {
+			invalidate();
+		}
+	}
+
+	/**
+	 * Discards the snapshot along with the plans and bandwidths held in Hibernate's
+	 * second-level cache on the current node, the next retrieval building the
+	 * snapshot afresh from the datasource.
+	 */
+	private void invalidate() {
+		final var cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+		cache.evictRegion(Plan.CACHE_REGION);
+		cache.evictRegion(Plan.BANDWIDTHS_CACHE_REGION);
+		snapshots.invalidateAll();
+	}
+
+	private Snapshot createSnapshot() {
+		try {
+			final var body = objectMapper.writeValueAsBytes(planService.retrieve());
+			final var etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+			return new Snapshot(body, etag);
+		} catch (final JsonProcessingException exception) {
+			throw new IllegalStateException("Unable to encode available plans", exception);
+		}
+	}
+
+	/**
+	 * JSON encoded list of available plans, along with the strong ETag identifying
+	 * the exact bytes.
+	 */
+	public record Snapshot(byte[] body, String etag) {
+	}
+
+}
@@ -1,16 +1,22 @@
 package com.behl.overseer.service;
 
 import java.util.List;
+import java.util.UUID;
 
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.behl.overseer.dto.PlanBandwidthResponseDto;
 import com.behl.overseer.dto.PlanResponseDto;
 import com.behl.overseer.dto.PlanUpdationRequestDto;
 import com.behl.overseer.entity.UserPlanMapping;
 import com.behl.overseer.exception.InvalidPlanException;
+import com.behl.overseer.exception.PlanUpdationConflictException;
 import com.behl.overseer.repository.PlanRepository;
 import com.behl.overseer.repository.UserPlanMappingRepository;
-import com.behl.overseer.utility.AuthenticatedUserIdProvider;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -22,41 +28,74 @@ public class PlanService {
 	private final PlanRepository planRepository;
 	private final RateLimitingService rateLimitingService;
 	private final UserPlanMappingRepository userPlanMappingRepository;
-	private final AuthenticatedUserIdProvider authenticatedUserIdProvider;
+	private final TransactionTemplate transactionTemplate;
 
 	/**
 	 * Updates the subscription plan for a user and deactivates their current plan
-	 * in the system. The rate-limit corresponding to the previous plan is cleared
-	 * on successful plan updation.
+	 * in the system. The user's rate-limit bucket is reconfigured in place on
+	 * successful plan updation, retaining the tokens already consumed.
 	 * 
 	 * If the provided plan-id to update matches the user's current plan-id, then no
 	 * changes in the datasource is performed and method execution is halted.
 	 *
+	 * The current plan is deactivated through a single guarded update, skipping
+	 * users already subscribed to the provided plan, and the new plan is inserted
+	 * in the same transaction. Users left without any active plan are subscribed
+	 * to the provided plan alike. The unique constraint on the active plan of a user
+	 * ensures concurrent updations never leave a user with multiple active plans,
+	 * whereas the lock held on the deactivated row serializes them. The bucket is
+	 * reconfigured once the transaction is committed, keeping the Redis call out
+	 * of it.
+	 *
+	 * An updation rolled back for conflicting with a concurrent one, e.g. both
+	 * subscribing a user without any active plan, is attempted once again against
+	 * the outcome of the concurrent updation.
+	 *
+	 * @param userId unique identifier of the authenticated user.
 	 * @param planUpdationRequest containing user's new plan details.
 	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
 	 * @throws InvalidPlanException if no plan exists with provided-id.
+	 * @throws PlanUpdationConflictException if the updation conflicts with concurrent ones on retry as well.
 	 */
-	public void update(@NonNull final PlanUpdationRequestDto planUpdationRequest) {
+	public void update(@NonNull final UUID userId, @NonNull final PlanUpdationRequestDto planUpdationRequest) {
 		final var planId = planUpdationRequest.getPlanId();
-		final var isPlanIdValid = planRepository.existsById(planId);
-		if (Boolean.FALSE.equals(isPlanIdValid)) {
-			throw new InvalidPlanException("No plan exists in the system with provided-id");
-		}
+		final var plan = planRepository.findById(planId)
+				.orElseThrow(() -> new InvalidPlanException("No plan exists in the system with provided-id"));
 
-		final var userId = authenticatedUserIdProvider.getUserId();
-		final var isExistingUserPlan = userPlanMappingRepository.isActivePlan(userId, planId);
-		if (Boolean.TRUE.equals(isExistingUserPlan)) {
-			return;
-		}
+		final TransactionCallback<Boolean> planUpdation = status -> {
+			final var deactivatedPlans = userPlanMappingRepository.deactivateCurrentPlan(userId, planId);
+			if (deactivatedPlans == 0 && userPlanMappingRepository.isActivePlan(userId, planId)) {
+				return Boolean.FALSE;
+			}
 
-		userPlanMappingRepository.deactivateCurrentPlan(userId);
+			final var newPlan = new UserPlanMapping();
+			newPlan.setUserId(userId);
+			newPlan.setPlanId(planId);
+			userPlanMappingRepository.save(newPlan);
+			return Boolean.TRUE;
+		};
 
-		final var newPlan = new UserPlanMapping();
-		newPlan.setUserId(userId);
-		newPlan.setPlanId(planId);
-		userPlanMappingRepository.save(newPlan);
+		final var isPlanUpdated = executeWithRetry(planUpdation);
+		if (Boolean.TRUE.equals(isPlanUpdated)) {
+			rateLimitingService.applyPlan(userId, plan);
+		}
+	}
 
-		rateLimitingService.reset(userId);
+	/**
+	 * Executes the provided plan updation in a transaction, executing it once
+	 * again in a new transaction if rolled back for violating the unique active
+	 * plan constraint or losing a lock to a concurrent updation.
+	 */
+	private Boolean executeWithRetry(@NonNull final TransactionCallback<Boolean> planUpdation) {
+		try {
+			return transactionTemplate.execute(planUpdation);
+		} catch (final DataIntegrityViolationException | ConcurrencyFailureException exception) {
+			try {
+				return transactionTemplate.execute(planUpdation);
+			} catch (final DataIntegrityViolationException | ConcurrencyFailureException retryException) {
+				throw new PlanUpdationConflictException("Plan updation conflicts with a concurrent one, please retry");
+			}
+		}
 	}
 
 	/**
@@ -71,6 +110,13 @@ public class PlanService {
 						.id(plan.getId())
 						.name(plan.getName())
 						.limitPerHour(plan.getLimitPerHour())
+						.refillStrategy(plan.getRefillStrategy())
+						.bandwidths(plan.getBandwidths().stream()
+								.map(bandwidth -> PlanBandwidthResponseDto.builder()
+										.capacity(bandwidth.getCapacity())
+										.periodSeconds(bandwidth.getPeriodSeconds())
+										.build())
+								.toList())
 						.build())
 				.toList();
 	}
@@ -0,0 +1,112 @@
+package com.behl.overseer.service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.behl.overseer.configuration.RateLimitConfigurationProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.github.bucket4j.ConsumptionProbe;
+import lombok.NonNull;
+
+/**
+ * Node-local, bounded cache of users who have exhausted their rate limit, each
+ * entry expiring at the instant the user's bucket is known to be refilled.
+ * Requests from such users are rejected locally until then, ensuring traffic
+ * which is bound to be rejected costs no network I/O.
+ *
+ * Entries are to be invalidated whenever the user's bucket is reset.
+ *
+ * @see com.behl.overseer.service.RateLimitingService
+ */
+@Component
+@EnableConfigurationProperties(RateLimitConfigurationProperties.class)
+public class RateLimitDenyCache {
+
+	private final boolean enabled;
+	private final Cache<UUID, Long> deniedUntil;
+
+	public RateLimitDenyCache(final RateLimitConfigurationProperties rateLimitConfigurationProperties) {
+		final var denyCacheProperties = rateLimitConfigurationProperties.getDenyCache();
+		this.enabled = denyCacheProperties.isEnabled();
+		this.deniedUntil = Caffeine.newBuilder()
+				.maximumSize(denyCacheProperties.getMaximumSize())
+				.expireAfter(new RefillInstantExpiry())
+				.build();
+	}
+
+	/**
+	 * Returns a rejected {@link ConsumptionProbe} if the specified user is known
+	 * to have exhausted their rate limit, with the wait period computed against
+	 * the remembered refill instant.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @return Optional containing the rejection, or empty if the user is not denied.
+	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
+	 */
+	public Optional<ConsumptionProbe> getRejection(@NonNull final UUID userId) {
+		if (Boolean.FALSE.equals(enabled)) {
+			return Optional.empty();
+		}
+		final var refillInstant = deniedUntil.getIfPresent(userId);
+		if (refillInstant == null) {
+			return Optional.empty();
+		}
+		final var nanosToWaitForRefill = refillInstant - System.nanoTime();
+		if (nanosToWaitForRefill <= 0) {
+			return Optional.empty();
+		}
+		return Optional.of(ConsumptionProbe.rejected(0, nanosToWaitForRefill, nanosToWaitForRefill));
+	}
+
+	/**
+	 * Remembers the specified user as rate limited until their bucket is refilled.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @param nanosToWaitForRefill duration in nanoseconds until the user's bucket is refilled.
+	 * @throws IllegalArgumentException if provided userId is <code>null</code>.
+	 */
+	public void deny(@NonNull final UUID userId, final long nanosToWaitForRefill) {
+		if (Boolean.TRUE.equals(enabled) && nanosToWaitForRefill > 0) {
+			deniedUntil.put(userId, System.nanoTime() + nanosToWaitForRefill);
+		}
+	}
+
+	/**
+	 * Removes the specified user from the cache, if present.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
+	 */
+	public void invalidate(@NonNull final UUID userId) {
+		deniedUntil.invalidate(userId);
+	}
+
+	/**
+	 * Expires cache entries at the remembered refill instant.
+	 */
+	private static class RefillInstantExpiry implements Expiry<UUID, Long> {
+
+		@Override
+		public long expireAfterCreate(final UUID userId, final Long refillInstant, final long currentTime) {
+			return Math.max(refillInstant - currentTime, 0);
+		}
+
+		@Override
+		public long expireAfterUpdate(final UUID userId, final Long refillInstant, final long currentTime, final long currentDuration) {
+			return Math.max(refillInstant - currentTime, 0);
+		}
+
+		@Override
+		public long expireAfterRead(final UUID userId, final Long refillInstant, final long currentTime, final long currentDuration) {
+			return currentDuration;
+		}
+
+	}
+
+}
@@ -0,0 +1,52 @@
+package com.behl.overseer.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Listener subscribed to {@link com.behl.overseer.configuration.RedisConfiguration#RATE_LIMIT_RESET_CHANNEL},
+ * evicting the node-local rate limit state of users whose rate limit has been
+ * reset on any other node of the application, e.g. following a plan updation.
+ *
+ * Messages carry the user-id along with the identifier of the publishing node,
+ * whose own state is updated before publishing and is hence left untouched.
+ *
+ * @see com.behl.overseer.service.RateLimitingService#reset(UUID)
+ * @see com.behl.overseer.service.RateLimitingService#applyPlan(UUID, com.behl.overseer.entity.Plan)
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitResetListener implements MessageListener {
+
+	private static final String MESSAGE_DELIMITER = ":";
+
+	private final RateLimitingService rateLimitingService;
+
+	@Override
+	public void onMessage(final Message message, final byte[] pattern) {
+		final var body = new String(message.getBody(), StandardCharsets.UTF_8);
+		final var delimiterIndex = body.indexOf(MESSAGE_DELIMITER);
+		final var userId = UUID.fromString(body.substring(0, delimiterIndex));
+		final var originNodeId = body.substring(delimiterIndex + 1);
+		rateLimitingService.onReset(userId, originNodeId);
+	}
+
+	/**
+	 * Creates the message announcing the rate limit reset of the specified user
+	 * by the provided node.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @param originNodeId identifier of the node publishing the reset.
+	 * @return message to be published on the reset channel.
+	 */
+	static String createMessage(final UUID userId, final String originNodeId) {
+		return userId + MESSAGE_DELIMITER + originNodeId;
+	}
+
+}
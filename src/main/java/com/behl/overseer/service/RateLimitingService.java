@@ -1,62 +1,665 @@
 package com.behl.overseer.service;
 
 import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Supplier;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import com.behl.overseer.repository.UserPlanMappingRepository;
+import com.behl.overseer.configuration.RateLimitConfigurationProperties;
+import com.behl.overseer.configuration.RateLimitConfigurationProperties.Backend;
+import com.behl.overseer.configuration.RateLimitConfigurationProperties.Engine;
+import com.behl.overseer.configuration.RedisConfiguration;
+import com.behl.overseer.entity.Plan;
+import com.behl.overseer.entity.Plan.RefillStrategy;
+import com.behl.overseer.filter.BucketLookupEvent;
+import com.behl.overseer.filter.RemoteConsumptionEvent;
+import com.behl.overseer.utility.RateLimitMetrics;
 
 import io.github.bucket4j.Bucket;
 import io.github.bucket4j.BucketConfiguration;
-import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.ConfigurationBuilder;
+import io.github.bucket4j.ConsumptionProbe;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
+@EnableConfigurationProperties(RateLimitConfigurationProperties.class)
 public class RateLimitingService {
 
-	private final ProxyManager<UUID> proxyManager;
-	private final UserPlanMappingRepository userPlanMappingRepository;
+	private final BucketProvider bucketProvider;
+	private final Optional<LuaTokenBucketEngine> luaTokenBucketEngine;
+	private final Optional<PipelinedConsumptionDispatcher> pipelinedConsumptionDispatcher;
+	private final UserPlanCache userPlanCache;
+	private final RateLimitDenyCache rateLimitDenyCache;
+	private final ConsumptionCoalescer consumptionCoalescer;
+	private final DistributedBucketCircuitBreaker distributedBucketCircuitBreaker;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RateLimitMetrics rateLimitMetrics;
+	private final RateLimitConfigurationProperties rateLimitConfigurationProperties;
+
+	private final Map<UUID, TokenLease> tokenLeases = new ConcurrentHashMap<>();
+	private final Map<UUID, VersionedBucketConfiguration> bucketConfigurations = new ConcurrentHashMap<>();
+	private final String nodeId = UUID.randomUUID().toString();
 
 	/**
 	 * Retrieves the stored rate-limiting bucket for the specified user. If no
 	 * bucket is found for the user, a new one is created and stored in the
-	 * provisioned cache based on the user's current subscription plan.
+	 * provisioned cache based on the user's current subscription plan. Buckets
+	 * created from an earlier version of the plan are reconfigured in place.
 	 *
 	 * @param userId unique identifier of the user.
 	 * @return The rate-limiting {@link Bucket} associated with the user.
 	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
 	 */
 	public Bucket getBucket(@NonNull final UUID userId) {
-		return proxyManager.builder().build(userId, () -> createBucketConfiguration(userId));
+		final var plan = userPlanCache.get(userId);
+		return bucketProvider.getBucket(userId, plan.getConfigurationVersion(), () -> createBucketConfiguration(plan));
+	}
+
+	/**
+	 * Attempts to consume a single token on behalf of the specified user.
+	 *
+	 * Users known to have exhausted their rate limit are rejected locally through
+	 * {@link RateLimitDenyCache} until their bucket is refilled, without
+	 * contacting the configured backend.
+	 *
+	 * When the Lua engine is configured, consumption is evaluated inside Redis by
+	 * {@link LuaTokenBucketEngine} in a single round trip. With pipelining
+	 * enabled, the round trip is shared with concurrent consumptions of other users
+	 * through {@link PipelinedConsumptionDispatcher}.
+	 *
+	 * Otherwise when token leasing is enabled, the token is served from the
+	 * node-local lease held for the user, and the distributed bucket is only
+	 * contacted when the lease is exhausted or has expired. The remaining tokens
+	 * reported in such case are an approximation combining the distributed
+	 * bucket's state at the time of leasing and the tokens left in the local lease.
+	 *
+	 * Unless the token is served from a node-local lease, concurrent consumptions
+	 * of the same user are merged into a single remote consumption through
+	 * {@link ConsumptionCoalescer} if coalescing is enabled.
+	 *
+	 * Remote consumptions are guarded by {@link DistributedBucketCircuitBreaker} if
+	 * enabled, decisions being taken as per the configured fallback mode when Redis
+	 * is failing or slow to respond.
+	 *
+	 * Every decision is recorded through {@link RateLimitMetrics}, tagged with the
+	 * name of the user's active plan.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @return {@link ConsumptionProbe} describing the result of consumption.
+	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
+	 */
+	public ConsumptionProbe tryConsume(@NonNull final UUID userId) {
+		return tryConsume(userId, 1);
+	}
+
+	/**
+	 * Attempts to consume the specified number of tokens on behalf of the provided
+	 * user atomically, either all of them being consumed or none, as described in
+	 * {@link #tryConsume(UUID)}. Only rejections of a single token are remembered
+	 * through {@link RateLimitDenyCache}, as a rejection of multiple tokens does not
+	 * imply the bucket to be exhausted.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @param tokens number of tokens to consume, must be positive.
+	 * @return {@link ConsumptionProbe} describing the result of consumption.
+	 * @throws IllegalArgumentException if provided user-id is <code>null</code>.
+	 */
+	public ConsumptionProbe tryConsume(@NonNull final UUID userId, final long tokens) {
+		return tryConsume(userId, tokens, Duration.ZERO);
+	}
+
+	/**
+	 * Attempts to consume the specified number of tokens on behalf of the provided
+	 * user, as described in {@link #tryConsume(UUID, long)}, for a request willing
+	 * to wait up to the provided maximum wait for them to be refilled. Rejections
+	 * whose tokens are refilled within the maximum wait are not recorded, the
+	 * decision being known only once the request has waited for them, and is to be
+	 * recorded through {@link #recordDecision(UUID, boolean)} by the caller.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @param tokens number of tokens to consume, must be positive.
+	 * @param maximumWait maximum duration the request is willing to wait for the tokens to be refilled.
+	 * @return {@link ConsumptionProbe} describing the result of consumption.
+	 * @throws IllegalArgumentException if any provided argument is <code>null</code>.
+	 * @see #isRefilledWithin(ConsumptionProbe, Duration)
+	 */
+	public ConsumptionProbe tryConsume(@NonNull final UUID userId, final long tokens, @NonNull final Duration maximumWait) {
+		final var rejection = rateLimitDenyCache.getRejection(userId);
+		if (rejection.isPresent()) {
+			if (Boolean.FALSE.equals(isRefilledWithin(rejection.get(), maximumWait))) {
+				recordDecision(userId, Boolean.FALSE);
+			}
+			return rejection.get();
+		}
+
+		final var consumptionProbe = consume(userId, tokens);
+		if (Boolean.FALSE.equals(consumptionProbe.isConsumed()) && tokens == 1) {
+			rateLimitDenyCache.deny(userId, consumptionProbe.getNanosToWaitForRefill());
+		}
+		if (consumptionProbe.isConsumed() || Boolean.FALSE.equals(isRefilledWithin(consumptionProbe, maximumWait))) {
+			recordDecision(userId, consumptionProbe.isConsumed());
+		}
+		return consumptionProbe;
+	}
+
+	/**
+	 * Checks whether the tokens of the provided rejected consumption are refilled
+	 * within the provided maximum wait, in which case the request may wait for
+	 * them through {@link #tryConsumeWithin(UUID, long, Duration, ScheduledExecutorService)}.
+	 * Requests not willing to wait i.e. with no maximum wait, never do.
+	 *
+	 * @param consumptionProbe result of the rejected consumption.
+	 * @param maximumWait maximum duration the request is willing to wait for the tokens to be refilled.
+	 * @return {@code true} if the request is to wait for its tokens, {@code false} otherwise.
+	 * @throws IllegalArgumentException if any provided argument is <code>null</code>.
+	 */
+	public static boolean isRefilledWithin(@NonNull final ConsumptionProbe consumptionProbe, @NonNull final Duration maximumWait) {
+		return maximumWait.isPositive() && consumptionProbe.getNanosToWaitForRefill() <= maximumWait.toNanos();
 	}
 
 	/**
-	 * Resets the rate limiting for the specified user-id.
+	 * Asynchronously attempts to consume a single token on behalf of the specified
+	 * user, without blocking the invoking thread on the remote call. Falls back to
+	 * synchronous consumption through {@link #tryConsume(UUID)} if the configured
+	 * backend does not support asynchronous mode.
+	 *
+	 * Users known to have exhausted their rate limit are rejected locally through
+	 * {@link RateLimitDenyCache}, as with synchronous consumption. The active plan
+	 * of the user is resolved through {@link UserPlanCache#getAsync(UUID)},
+	 * ensuring the invoking thread is not blocked on the datasource either.
+	 *
+	 * Tokens consumed asynchronously are always taken from the distributed bucket
+	 * directly, irrespective of token leasing being enabled.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @return {@link CompletableFuture} completed with the {@link ConsumptionProbe}
+	 *         describing the result of consumption.
+	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
+	 */
+	public CompletableFuture<ConsumptionProbe> tryConsumeAsync(@NonNull final UUID userId) {
+		return tryConsumeAsync(userId, 1);
+	}
+
+	/**
+	 * Asynchronous counterpart of {@link #tryConsume(UUID, long)}, as described in
+	 * {@link #tryConsumeAsync(UUID)}.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @param tokens number of tokens to consume, must be positive.
+	 * @return {@link CompletableFuture} completed with the {@link ConsumptionProbe}
+	 *         describing the result of consumption.
+	 * @throws IllegalArgumentException if provided user-id is <code>null</code>.
+	 */
+	public CompletableFuture<ConsumptionProbe> tryConsumeAsync(@NonNull final UUID userId, final long tokens) {
+		if (Boolean.FALSE.equals(isAsyncModeSupported())) {
+			return CompletableFuture.completedFuture(tryConsume(userId, tokens));
+		}
+
+		final var rejection = rateLimitDenyCache.getRejection(userId);
+		if (rejection.isPresent()) {
+			recordDecision(userId, Boolean.FALSE);
+			return CompletableFuture.completedFuture(rejection.get());
+		}
+
+		final var consumptionStart = System.nanoTime();
+		return distributedBucketCircuitBreaker.tryConsumeAsync(userId, tokens,
+				() -> userPlanCache.getAsync(userId).thenCompose(plan -> bucketProvider
+						.getAsyncBucket(userId, plan.getConfigurationVersion(), () -> CompletableFuture.completedFuture(createBucketConfiguration(plan)))
+						.tryConsumeAndReturnRemaining(tokens)),
+				() -> userPlanCache.getAsync(userId).thenApply(this::createLocalBucketConfiguration))
+				.thenApply(consumptionProbe -> {
+					rateLimitMetrics.recordConsumption(System.nanoTime() - consumptionStart);
+					if (Boolean.FALSE.equals(consumptionProbe.isConsumed()) && tokens == 1) {
+						rateLimitDenyCache.deny(userId, consumptionProbe.getNanosToWaitForRefill());
+					}
+					recordDecision(userId, consumptionProbe.isConsumed());
+					return consumptionProbe;
+				});
+	}
+
+	/**
+	 * Checks whether tokens are consumed without blocking the invoking thread
+	 * through {@link #tryConsumeAsync(UUID)}, which is the case when the configured
+	 * backend supports asynchronous mode and the Lua engine is not configured.
+	 *
+	 * @return {@code true} if asynchronous consumption is supported, {@code false} otherwise.
+	 */
+	public boolean isAsyncModeSupported() {
+		final var engine = rateLimitConfigurationProperties.getEngine();
+		return Boolean.FALSE.equals(Engine.LUA.equals(engine)) && bucketProvider.isAsyncModeSupported();
+	}
+
+	/**
+	 * Resets the rate limiting for the specified user-id. The node-local state held
+	 * for the user is evicted on every node of the application, through a message
+	 * published on {@link RedisConfiguration#RATE_LIMIT_RESET_CHANNEL}, unless the
+	 * single-node {@link Backend#LOCAL} backend is configured.
 	 *
 	 * @param userId unique identifier of the user.
 	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
 	 */
 	public void reset(@NonNull final UUID userId) {
-		proxyManager.removeProxy(userId);
+		evictLocalState(userId);
+		luaTokenBucketEngine.ifPresent(engine -> engine.reset(userId));
+		bucketProvider.removeBucket(userId);
+		publishReset(userId);
+	}
+
+	/**
+	 * Applies the provided plan to the bucket of the specified user following a
+	 * change of the user's active plan. The bucket is reconfigured in place,
+	 * carrying the consumed tokens over as per the configured
+	 * {@link io.github.bucket4j.TokensInheritanceStrategy} rather than granting a
+	 * fresh quota, with the new configuration pushed to the configured backend
+	 * right away. The plan is cached as the user's active plan, sparing a
+	 * datasource lookup on the user's next request.
+	 *
+	 * Unused tokens of the user's lease on the current node are returned to the
+	 * bucket before it is reconfigured, whereas the node-local state held on other
+	 * nodes is evicted as with {@link #reset(UUID)}. Buckets of {@link Engine#LUA}
+	 * are reconfigured alike through {@link LuaTokenBucketEngine}.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @param plan the user's new active plan.
+	 * @throws IllegalArgumentException if any provided argument is <code>null</code>.
+	 */
+	public void applyPlan(@NonNull final UUID userId, @NonNull final Plan plan) {
+		final var tokenLease = tokenLeases.remove(userId);
+		if (tokenLease != null) {
+			returnUnusedTokens(userId, tokenLease);
+		}
+		rateLimitDenyCache.invalidate(userId);
+		userPlanCache.put(userId, plan);
+
+		final var engine = rateLimitConfigurationProperties.getEngine();
+		if (Engine.LUA.equals(engine)) {
+			final var tokensInheritanceStrategy = rateLimitConfigurationProperties.getReconfiguration().getTokensInheritanceStrategy();
+			luaTokenBucketEngine.ifPresent(luaEngine -> distributedBucketCircuitBreaker.tryUpdate(userId,
+					() -> luaEngine.reconfigure(userId, plan, tokensInheritanceStrategy)));
+		} else {
+			// a bucket left unconfigured is reconfigured lazily on its next consumption, carrying the newer version
+			distributedBucketCircuitBreaker.tryUpdate(userId,
+					() -> bucketProvider.replaceConfiguration(userId, plan.getConfigurationVersion(), getBucketConfiguration(plan)));
+		}
+		publishReset(userId);
+	}
+
+	/**
+	 * Evicts the state held on the current node for the specified user i.e. the
+	 * cached active plan, token lease and deny cache entry.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
+	 */
+	public void evictLocalState(@NonNull final UUID userId) {
+		userPlanCache.evict(userId);
+		tokenLeases.remove(userId);
+		rateLimitDenyCache.invalidate(userId);
+	}
+
+	/**
+	 * Evicts the state held on the current node for the specified user, provided
+	 * the rate limit reset was published by another node, the state of the current
+	 * node having already been updated by the publisher.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @param originNodeId identifier of the node which published the reset.
+	 * @throws IllegalArgumentException if any provided argument is <code>null</code>.
+	 */
+	public void onReset(@NonNull final UUID userId, @NonNull final String originNodeId) {
+		if (Boolean.FALSE.equals(nodeId.equals(originNodeId))) {
+			evictLocalState(userId);
+		}
+	}
+
+	/**
+	 * Returns unused tokens of expired leases back to their corresponding
+	 * distributed buckets, ensuring tokens leased by users who have gone idle are
+	 * not withheld from other nodes, and that the held leases remain proportional
+	 * to the number of active users.
+	 */
+	@Scheduled(fixedDelay = 5000)
+	public void returnExpiredTokenLeases() {
+		tokenLeases.forEach((userId, tokenLease) -> {
+			if (tokenLease.isExpired() && tokenLeases.remove(userId, tokenLease)) {
+				returnUnusedTokens(userId, tokenLease);
+			}
+		});
+	}
+
+	/**
+	 * Attempts to consume the specified number of tokens on behalf of the provided
+	 * user, waiting for them to be refilled if they are not available right away.
+	 * The tokens are reserved up front if they are refilled within the provided
+	 * maximum wait, and the returned future is completed once they are due through
+	 * the provided scheduler, with no thread being held in the meantime. The
+	 * reservation is guarded by {@link DistributedBucketCircuitBreaker}, the
+	 * request being admitted or rejected right away as per the fallback decision
+	 * should it not be carried out. Waiting is not supported by
+	 * {@link Engine#LUA}, for which the returned future is completed with
+	 * {@code false} right away.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @param tokens number of tokens to consume, must be positive.
+	 * @param maximumWait maximum duration to wait for the tokens to be refilled.
+	 * @param scheduler scheduler completing the returned future once the tokens are due.
+	 * @return {@link CompletableFuture} completed with {@code true} once the tokens
+	 *         are consumed, or with {@code false} if they are not refilled in time.
+	 * @throws IllegalArgumentException if any provided argument is <code>null</code>.
+	 */
+	public CompletableFuture<Boolean> tryConsumeWithin(@NonNull final UUID userId, final long tokens,
+			@NonNull final Duration maximumWait, @NonNull final ScheduledExecutorService scheduler) {
+		if (Engine.LUA.equals(rateLimitConfigurationProperties.getEngine())) {
+			return CompletableFuture.completedFuture(Boolean.FALSE);
+		}
+		return distributedBucketCircuitBreaker.tryConsumeWithin(userId, tokens,
+				() -> lookupBucket(userId).asScheduler().tryConsume(tokens, maximumWait, scheduler),
+				() -> createLocalBucketConfiguration(userPlanCache.get(userId)));
+	}
+
+	/**
+	 * Adds the specified number of tokens back to the distributed bucket of the
+	 * provided user, e.g. tokens reserved through
+	 * {@link #tryConsumeWithin(UUID, long, Duration, ScheduledExecutorService)} for
+	 * a request rejected before they were due. Tokens are not returned to buckets
+	 * of {@link Engine#LUA}, which do not support waiting, nor while Redis is
+	 * unavailable.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @param tokens number of tokens to return, must be positive.
+	 * @throws IllegalArgumentException if provided user-id is <code>null</code>.
+	 */
+	public void returnTokens(@NonNull final UUID userId, final long tokens) {
+		if (Engine.LUA.equals(rateLimitConfigurationProperties.getEngine())) {
+			return;
+		}
+		distributedBucketCircuitBreaker.tryUpdate(userId, () -> getBucket(userId).addTokens(tokens));
+	}
+
+	/**
+	 * Consumes the specified number of tokens on behalf of the provided user
+	 * through the configured engine, guarding every remote consumption with
+	 * {@link DistributedBucketCircuitBreaker}.
+	 */
+	private ConsumptionProbe consume(@NonNull final UUID userId, final long tokens) {
+		final var engine = rateLimitConfigurationProperties.getEngine();
+		if (Engine.LUA.equals(engine)) {
+			return consumptionCoalescer.tryConsume(userId, tokens, remoteTokens -> consumeGuarded(userId, remoteTokens,
+					() -> consumeThroughLuaEngine(userId, remoteTokens)));
+		}
+
+		final var tokenLeasingEnabled = rateLimitConfigurationProperties.getTokenLeasing().isEnabled();
+		if (Boolean.FALSE.equals(tokenLeasingEnabled)) {
+			return consumptionCoalescer.tryConsume(userId, tokens, remoteTokens -> consumeGuarded(userId, remoteTokens,
+					() -> consume(lookupBucket(userId), remoteTokens)));
+		}
+
+		final var tokenLease = tokenLeases.get(userId);
+		if (tokenLease != null) {
+			final var leasedTokensRemaining = tokenLease.tryAcquire(tokens);
+			if (leasedTokensRemaining >= 0) {
+				return ConsumptionProbe.consumed(tokenLease.getRemoteRemainingTokens() + leasedTokensRemaining, 0);
+			}
+		}
+		return consumeGuarded(userId, tokens, () -> renewTokenLease(userId, tokenLease, tokens));
+	}
+
+	/**
+	 * Carries out the provided remote consumption through
+	 * {@link DistributedBucketCircuitBreaker}, node-local buckets of the fallback
+	 * being configured from the user's active plan.
+	 */
+	private ConsumptionProbe consumeGuarded(@NonNull final UUID userId, final long tokens,
+			@NonNull final Supplier<ConsumptionProbe> remoteConsumption) {
+		return distributedBucketCircuitBreaker.tryConsume(userId, tokens, remoteConsumption,
+				() -> createLocalBucketConfiguration(userPlanCache.get(userId)));
+	}
+
+	/**
+	 * Leases a new batch of tokens from the distributed bucket of the specified
+	 * user, consuming the requested tokens out of it for the current request. If
+	 * fewer tokens than the configured lease size are available, whatever remains
+	 * in the distributed bucket is leased instead, provided it covers the requested
+	 * tokens.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @param previousTokenLease exhausted or expired lease to be replaced, can be {@code null}.
+	 * @param tokens number of tokens requested by the current request.
+	 * @return {@link ConsumptionProbe} describing the result of consumption.
+	 */
+	private ConsumptionProbe renewTokenLease(@NonNull final UUID userId, final TokenLease previousTokenLease, final long tokens) {
+		int leaseSize;
+		int leaseTtlSeconds;
+		if (previousTokenLease != null) {
+			leaseSize = previousTokenLease.getLeaseSize();
+			leaseTtlSeconds = previousTokenLease.getLeaseTtlSeconds();
+			returnUnusedTokens(userId, previousTokenLease);
+		} else {
+			final var plan = userPlanCache.get(userId);
+			leaseSize = plan.getLeaseSize();
+			leaseTtlSeconds = plan.getLeaseTtlSeconds();
+		}
+
+		final var bucket = lookupBucket(userId);
+		long tokensToLease = Math.max(leaseSize, tokens);
+		var consumptionProbe = consume(bucket, tokensToLease);
+		if (Boolean.FALSE.equals(consumptionProbe.isConsumed()) && consumptionProbe.getRemainingTokens() >= tokens) {
+			tokensToLease = consumptionProbe.getRemainingTokens();
+			consumptionProbe = consume(bucket, tokensToLease);
+		}
+		if (Boolean.FALSE.equals(consumptionProbe.isConsumed())) {
+			return consumptionProbe;
+		}
+
+		final var leasedTokensRemaining = tokensToLease - tokens;
+		final var remoteRemainingTokens = consumptionProbe.getRemainingTokens();
+		final var tokenLease = new TokenLease(leasedTokensRemaining, remoteRemainingTokens, leaseSize, leaseTtlSeconds);
+		final var replacedTokenLease = tokenLeases.put(userId, tokenLease);
+		if (replacedTokenLease != null) {
+			returnUnusedTokens(userId, replacedTokenLease);
+		}
+		return ConsumptionProbe.consumed(remoteRemainingTokens + leasedTokensRemaining, consumptionProbe.getNanosToWaitForReset());
 	}
 
 	/**
-	 * Constructs an instance of {@link BucketConfiguration} corresponding to the
-	 * user's active plan which enforce the allowed rate-limit of API invocation.
+	 * Consumes the specified number of tokens from the bucket of the provided user
+	 * through {@link LuaTokenBucketEngine}, pipelined with consumptions of other
+	 * users if enabled, recording the time spent on the round trip along with a
+	 * {@link RemoteConsumptionEvent}.
+	 */
+	private ConsumptionProbe consumeThroughLuaEngine(@NonNull final UUID userId, final long tokens) {
+		final var consumptionEvent = new RemoteConsumptionEvent();
+		consumptionEvent.begin();
+		final var consumptionStart = System.nanoTime();
+		final Supplier<Plan> planSupplier = () -> userPlanCache.get(userId);
+		final var consumptionProbe = pipelinedConsumptionDispatcher
+				.map(dispatcher -> dispatcher.tryConsume(userId, tokens, planSupplier))
+				.orElseGet(() -> luaTokenBucketEngine.orElseThrow(IllegalStateException::new).tryConsume(userId, tokens, planSupplier));
+		rateLimitMetrics.recordConsumption(System.nanoTime() - consumptionStart);
+		consumptionEvent.complete(RemoteConsumptionEvent.outcomeOf(consumptionProbe));
+		return consumptionProbe;
+	}
+
+	/**
+	 * Retrieves the bucket of the specified user, recording the time spent
+	 * resolving the bucket proxy along with a {@link BucketLookupEvent}.
+	 */
+	private Bucket lookupBucket(@NonNull final UUID userId) {
+		final var lookupEvent = new BucketLookupEvent();
+		lookupEvent.begin();
+		final var lookupStart = System.nanoTime();
+		final var bucket = getBucket(userId);
+		rateLimitMetrics.recordBucketLookup(System.nanoTime() - lookupStart);
+		lookupEvent.complete(BucketLookupEvent.RESOLVED);
+		return bucket;
+	}
+
+	/**
+	 * Consumes the specified number of tokens from the provided bucket, recording
+	 * the time spent on the round trip to the configured backend along with a
+	 * {@link RemoteConsumptionEvent}.
+	 */
+	private ConsumptionProbe consume(@NonNull final Bucket bucket, final long tokens) {
+		final var consumptionEvent = new RemoteConsumptionEvent();
+		consumptionEvent.begin();
+		final var consumptionStart = System.nanoTime();
+		final var consumptionProbe = bucket.tryConsumeAndReturnRemaining(tokens);
+		rateLimitMetrics.recordConsumption(System.nanoTime() - consumptionStart);
+		consumptionEvent.complete(RemoteConsumptionEvent.outcomeOf(consumptionProbe));
+		return consumptionProbe;
+	}
+
+	/**
+	 * Records the rate limit decision taken for the specified user, tagged with
+	 * the name of the user's active plan if already cached on the node. Decisions
+	 * are never held up by a datasource lookup, those of users whose plan is not
+	 * resolved (e.g. rejections served by {@link RateLimitDenyCache} post eviction
+	 * of the plan) being tagged with {@value RateLimitMetrics#UNKNOWN_PLAN}.
+	 *
+	 * Decisions of consumptions are recorded by this service, except for those of
+	 * requests waiting for their tokens, which are recorded by the caller once the
+	 * outcome of the wait is known.
 	 *
-	 * @param userId The unique identifier of the user.
+	 * @param userId unique identifier of the user.
+	 * @param allowed {@code true} if the request was allowed, {@code false} if rejected.
+	 * @throws IllegalArgumentException if provided user-id is <code>null</code>.
+	 */
+	public void recordDecision(@NonNull final UUID userId, final boolean allowed) {
+		final var planName = userPlanCache.getIfPresent(userId).map(Plan::getName).orElse(RateLimitMetrics.UNKNOWN_PLAN);
+		rateLimitMetrics.recordDecision(planName, allowed);
+	}
+
+	/**
+	 * Publishes the rate limit reset of the specified user on
+	 * {@link RedisConfiguration#RATE_LIMIT_RESET_CHANNEL}, for other nodes to evict
+	 * their node-local state held for the user, unless the single-node
+	 * {@link Backend#LOCAL} backend is configured.
+	 */
+	private void publishReset(@NonNull final UUID userId) {
+		final var backend = rateLimitConfigurationProperties.getBackend();
+		if (Boolean.FALSE.equals(Backend.LOCAL.equals(backend))) {
+			final var message = RateLimitResetListener.createMessage(userId, nodeId);
+			stringRedisTemplate.convertAndSend(RedisConfiguration.RATE_LIMIT_RESET_CHANNEL, message);
+		}
+	}
+
+	/**
+	 * Drains the provided lease and adds its unused tokens back to the distributed
+	 * bucket of the specified user.
+	 */
+	private void returnUnusedTokens(@NonNull final UUID userId, @NonNull final TokenLease tokenLease) {
+		final var unusedTokens = tokenLease.drain();
+		if (unusedTokens > 0) {
+			// tokens not returned while Redis is unavailable are forfeited, erring on the side of rejection
+			distributedBucketCircuitBreaker.tryUpdate(userId, () -> getBucket(userId).addTokens(unusedTokens));
+		}
+	}
+
+	/**
+	 * Returns the {@link BucketConfiguration} corresponding to the provided plan,
+	 * recording the creation or reconfiguration of a user's bucket from it.
+	 *
+	 * @param plan The user's active plan.
 	 * @return The bucket configuration for rate limiting based on the user's active plan.
 	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
 	 */
-	private BucketConfiguration createBucketConfiguration(@NonNull final UUID userId) {
-		final var userPlanMapping = userPlanMappingRepository.getActivePlan(userId);
-		final var limitPerHour = userPlanMapping.getPlan().getLimitPerHour();
-		return BucketConfiguration.builder()
-				.addLimit(limit -> limit.capacity(limitPerHour).refillIntervally(limitPerHour, Duration.ofHours(1)))
-				.build();
+	private BucketConfiguration createBucketConfiguration(@NonNull final Plan plan) {
+		rateLimitMetrics.recordBucketCreation();
+		return getBucketConfiguration(plan);
+	}
+
+	/**
+	 * Returns the {@link BucketConfiguration} enforcing the allowed rate-limit of
+	 * the provided plan. The hourly quota and each additional bandwidth of the
+	 * plan are configured as separate limits of the bucket, all of which must hold
+	 * enough tokens for a consumption to succeed, and are refilled as per the
+	 * plan's refill strategy.
+	 *
+	 * Configurations are shared between all users subscribed to the same plan,
+	 * and are constructed again once the plan's configuration version changes.
+	 *
+	 * @param plan The plan whose limit is to be enforced.
+	 * @return The bucket configuration for rate limiting based on provided plan.
+	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
+	 */
+	private BucketConfiguration getBucketConfiguration(@NonNull final Plan plan) {
+		final var configurationVersion = plan.getConfigurationVersion();
+		final var bucketConfiguration = bucketConfigurations.get(plan.getId());
+		if (bucketConfiguration != null && bucketConfiguration.version() == configurationVersion) {
+			return bucketConfiguration.configuration();
+		}
+
+		final var configuration = createBucketConfiguration(plan, 1);
+		bucketConfigurations.put(plan.getId(), new VersionedBucketConfiguration(configurationVersion, configuration));
+		return configuration;
+	}
+
+	/**
+	 * Constructs the configuration of the node-local bucket enforcing the provided
+	 * plan while the distributed bucket is unavailable, every limit being divided
+	 * by the configured expected number of nodes so that the cluster as a whole
+	 * admits roughly the plan's limit.
+	 *
+	 * @param plan The plan whose limit is to be enforced.
+	 * @return The bucket configuration for node-local rate limiting based on provided plan.
+	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
+	 */
+	private BucketConfiguration createLocalBucketConfiguration(@NonNull final Plan plan) {
+		final var expectedNodeCount = rateLimitConfigurationProperties.getCircuitBreaker().getExpectedNodeCount();
+		return createBucketConfiguration(plan, expectedNodeCount);
+	}
+
+	/**
+	 * Constructs the bucket configuration enforcing the provided plan, the
+	 * capacity of every limit being divided by the given divisor.
+	 */
+	private BucketConfiguration createBucketConfiguration(final Plan plan, final int divisor) {
+		final var refillStrategy = plan.getRefillStrategy();
+		final var configurationBuilder = BucketConfiguration.builder();
+		addLimit(configurationBuilder, divide(plan.getLimitPerHour(), divisor), Duration.ofHours(1), refillStrategy);
+		for (final var bandwidth : plan.getBandwidths()) {
+			addLimit(configurationBuilder, divide(bandwidth.getCapacity(), divisor), Duration.ofSeconds(bandwidth.getPeriodSeconds()), refillStrategy);
+		}
+		return configurationBuilder.build();
+	}
+
+	/**
+	 * Divides the provided capacity by the given divisor, admitting at least a
+	 * single token.
+	 */
+	private long divide(final long capacity, final int divisor) {
+		return Math.max(1, capacity / divisor);
+	}
+
+	/**
+	 * Adds a limit of the specified capacity, refilled completely over the provided
+	 * period as per the given refill strategy, to the provided builder.
+	 */
+	private void addLimit(final ConfigurationBuilder configurationBuilder, final long capacity, final Duration period,
+			final RefillStrategy refillStrategy) {
+		if (RefillStrategy.GREEDY.equals(refillStrategy)) {
+			configurationBuilder.addLimit(limit -> limit.capacity(capacity).refillGreedy(capacity, period));
+		} else {
+			configurationBuilder.addLimit(limit -> limit.capacity(capacity).refillIntervally(capacity, period));
+		}
+	}
+
+	/**
+	 * Bucket configuration of a plan along with the configuration version of the
+	 * plan it was constructed from.
+	 */
+	private record VersionedBucketConfiguration(long version, BucketConfiguration configuration) {
 	}
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,91 @@
+package com.behl.overseer.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.Getter;
+
+/**
+ * Batch of tokens leased from a user's distributed rate limit bucket, served
+ * on the current node without any network I/O until it is either exhausted or
+ * expired. Token acquisition is lock-free and safe for concurrent use.
+ *
+ * A lease is never renewed in place. Once exhausted or expired, it is replaced
+ * by a new lease and any unused tokens are to be returned to the distributed
+ * bucket through {@link #drain()}.
+ *
+ * @see com.behl.overseer.service.RateLimitingService
+ */
+class TokenLease {
+
+	private final AtomicLong availableTokens;
+	private final long expiresAtNanos;
+
+	/**
+	 * Tokens remaining in the distributed bucket at the time this lease was
+	 * acquired, used to approximate the user's overall remaining tokens.
+	 */
+	@Getter
+	private final long remoteRemainingTokens;
+
+	@Getter
+	private final int leaseSize;
+
+	@Getter
+	private final int leaseTtlSeconds;
+
+	TokenLease(final long availableTokens, final long remoteRemainingTokens, final int leaseSize, final int leaseTtlSeconds) {
+		this.availableTokens = new AtomicLong(availableTokens);
+		this.remoteRemainingTokens = remoteRemainingTokens;
+		this.leaseSize = leaseSize;
+		this.leaseTtlSeconds = leaseTtlSeconds;
+		this.expiresAtNanos = System.nanoTime() + leaseTtlSeconds * 1_000_000_000L;
+	}
+
+	/**
+	 * Attempts to acquire a single token from the lease.
+	 *
+	 * @return number of tokens left in the lease after acquisition, or {@code -1}
+	 *         if the lease has been exhausted or has expired.
+	 */
+	long tryAcquire() {
+		return tryAcquire(1);
+	}
+
+	/**
+	 * Attempts to acquire the specified number of tokens from the lease, either
+	 * all of them or none.
+	 *
+	 * @param tokens number of tokens to acquire.
+	 * @return number of tokens left in the lease after acquisition, or {@code -1}
+	 *         if the lease holds fewer tokens than requested or has expired.
+	 */
+	long tryAcquire(final long tokens) {
+		if (isExpired()) {
+			return -1;
+		}
+		while (true) {
+			final var current = availableTokens.get();
+			if (current < tokens) {
+				return -1;
+			}
+			if (availableTokens.compareAndSet(current, current - tokens)) {
+				return current - tokens;
+			}
+		}
+	}
+
+	/**
+	 * Removes all unused tokens from the lease, making it unusable for further
+	 * acquisitions.
+	 *
+	 * @return number of unused tokens which are to be returned to the distributed bucket.
+	 */
+	long drain() {
+		return availableTokens.getAndSet(0);
+	}
+
+	boolean isExpired() {
+		return System.nanoTime() - expiresAtNanos >= 0;
+	}
+
+}
@@ -0,0 +1,108 @@
+package com.behl.overseer.service;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.behl.overseer.configuration.RateLimitConfigurationProperties;
+import com.behl.overseer.utility.RateLimitMetrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.NonNull;
+
+/**
+ * Parks requests waiting for tokens to be refilled, as configured through
+ * {@link com.behl.overseer.configuration.WaitForRateLimit}. The tokens of a
+ * parked request are reserved up front through Bucket4j's scheduling API, and
+ * its completion is scheduled for the time they are due on a single scheduler
+ * thread, hence no thread is held per waiting request.
+ *
+ * The number of requests parked on the current node is capped, requests arriving
+ * once the cap is reached being rejected right away, so that waiting requests
+ * cannot exhaust memory. The number of parked requests is bound to the meter
+ * registry under the name {@value #PARKED_REQUESTS_METRIC}, whereas the time
+ * spent waiting and the rejections due to the cap are recorded through
+ * {@link RateLimitMetrics}.
+ *
+ * @see com.behl.overseer.filter.RateLimitFilter
+ * @see com.behl.overseer.configuration.RateLimitConfigurationProperties.Waiting
+ */
+@Component
+@EnableConfigurationProperties(RateLimitConfigurationProperties.class)
+public class TokenWaitScheduler implements MeterBinder {
+
+	private static final String PARKED_REQUESTS_METRIC = "overseer.rate-limit.wait.parked";
+	private static final String SCHEDULER_THREAD_NAME = "token-wait-scheduler";
+
+	private final RateLimitingService rateLimitingService;
+	private final RateLimitMetrics rateLimitMetrics;
+	private final int maximumParkedRequests;
+
+	private final AtomicInteger parkedRequests = new AtomicInteger();
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+			Thread.ofPlatform().name(SCHEDULER_THREAD_NAME).daemon().factory());
+
+	public TokenWaitScheduler(final RateLimitingService rateLimitingService, final RateLimitMetrics rateLimitMetrics,
+			final RateLimitConfigurationProperties rateLimitConfigurationProperties) {
+		this.rateLimitingService = rateLimitingService;
+		this.rateLimitMetrics = rateLimitMetrics;
+		this.maximumParkedRequests = rateLimitConfigurationProperties.getWaiting().getMaximumParkedRequests();
+	}
+
+	@Override
+	public void bindTo(@NonNull final MeterRegistry meterRegistry) {
+		Gauge.builder(PARKED_REQUESTS_METRIC, parkedRequests, AtomicInteger::get)
+			.description("Requests parked on the current node while waiting for tokens to be refilled")
+			.register(meterRegistry);
+	}
+
+	@PreDestroy
+	public void stop() {
+		scheduler.shutdownNow();
+	}
+
+	/**
+	 * Attempts to consume the specified number of tokens on behalf of the provided
+	 * user, parking the request until they are refilled if they are due within the
+	 * provided maximum wait. The returned future is completed right away when the
+	 * tokens are available, are not refilled in time, or the limit of parked
+	 * requests has been reached.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @param tokens number of tokens to consume, must be positive.
+	 * @param maximumWait maximum duration to wait for the tokens to be refilled.
+	 * @return {@link CompletableFuture} completed with {@code true} once the tokens
+	 *         are consumed, or with {@code false} if the request is to be rejected.
+	 * @throws IllegalArgumentException if any provided argument is <code>null</code>.
+	 */
+	public CompletableFuture<Boolean> tryConsume(@NonNull final UUID userId, final long tokens, @NonNull final Duration maximumWait) {
+		if (parkedRequests.incrementAndGet() > maximumParkedRequests) {
+			parkedRequests.decrementAndGet();
+			rateLimitMetrics.recordWaitOverflow();
+			return CompletableFuture.completedFuture(Boolean.FALSE);
+		}
+
+		final var waitStart = System.nanoTime();
+		final CompletableFuture<Boolean> admission;
+		try {
+			admission = rateLimitingService.tryConsumeWithin(userId, tokens, maximumWait, scheduler);
+		} catch (final RuntimeException exception) {
+			parkedRequests.decrementAndGet();
+			throw exception;
+		}
+		return admission.whenComplete((admitted, exception) -> {
+			parkedRequests.decrementAndGet();
+			rateLimitMetrics.recordWait(System.nanoTime() - waitStart, Boolean.TRUE.equals(admitted));
+		});
+	}
+
+}
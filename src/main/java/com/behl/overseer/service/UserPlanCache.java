@@ -0,0 +1,173 @@
+package com.behl.overseer.service;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.behl.overseer.configuration.RateLimitConfigurationProperties;
+import com.behl.overseer.entity.Plan;
+import com.behl.overseer.repository.UserPlanMappingRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.NonNull;
+
+/**
+ * Node-local, bounded cache of the active {@link Plan} of users, referenced when
+ * creating rate limit buckets. Concurrent lookups for the same user are
+ * collapsed into a single datasource call, ensuring a burst of cold buckets
+ * (e.g. post a Redis flush or failover) does not stampede the datasource.
+ *
+ * The datasource call is made on the invoking thread outside of any monitor,
+ * with concurrent lookups waiting on the in-flight {@link CompletableFuture}.
+ * Unlike a computation within the cache, this does not pin the carrier of a
+ * virtual thread for the duration of the datasource call.
+ *
+ * Entries are to be replaced whenever the user's plan is updated.
+ *
+ * Cache statistics are bound to the meter registry under the name
+ * {@value #CACHE_NAME}, with misses approximating datasource lookups of
+ * active plans.
+ *
+ * @see com.behl.overseer.service.RateLimitingService
+ */
+@Component
+@EnableConfigurationProperties(RateLimitConfigurationProperties.class)
+public class UserPlanCache implements MeterBinder {
+
+	private static final String CACHE_NAME = "user-plan-cache";
+
+	private final UserPlanMappingRepository userPlanMappingRepository;
+	private final AsyncCache<UUID, Plan> activePlans;
+	private final Executor datasourceExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+	public UserPlanCache(final UserPlanMappingRepository userPlanMappingRepository,
+			final RateLimitConfigurationProperties rateLimitConfigurationProperties) {
+		final var planCacheProperties = rateLimitConfigurationProperties.getPlanCache();
+		this.userPlanMappingRepository = userPlanMappingRepository;
+		this.activePlans = Caffeine.newBuilder()
+				.maximumSize(planCacheProperties.getMaximumSize())
+				.expireAfterWrite(planCacheProperties.getTimeToLive())
+				.recordStats()
+				.buildAsync();
+	}
+
+	@Override
+	public void bindTo(@NonNull final MeterRegistry meterRegistry) {
+		CaffeineCacheMetrics.monitor(meterRegistry, activePlans.synchronous(), CACHE_NAME);
+	}
+
+	/**
+	 * Retrieves the active plan of the specified user, fetching it from the
+	 * datasource if not already cached. Concurrent invocations for the same user
+	 * wait on the single datasource call in progress.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @return The user's active {@link Plan}.
+	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
+	 */
+	public Plan get(@NonNull final UUID userId) {
+		final var cachedPlan = activePlans.getIfPresent(userId);
+		if (cachedPlan != null) {
+			return cachedPlan.join();
+		}
+
+		final var loadingPlan = new CompletableFuture<Plan>();
+		final var inFlightPlan = activePlans.asMap().putIfAbsent(userId, loadingPlan);
+		if (inFlightPlan != null) {
+			return inFlightPlan.join();
+		}
+		return load(userId, loadingPlan);
+	}
+
+	/**
+	 * Retrieves the active plan of the specified user without blocking the
+	 * invoking thread. Cached plans are returned as completed futures, whereas
+	 * the datasource call for plans not already cached is made on a virtual
+	 * thread, keeping it off event loop threads of the reactive deployment.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @return {@link CompletableFuture} completed with the user's active {@link Plan}.
+	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
+	 */
+	public CompletableFuture<Plan> getAsync(@NonNull final UUID userId) {
+		final var cachedPlan = activePlans.getIfPresent(userId);
+		if (cachedPlan != null) {
+			return cachedPlan;
+		}
+
+		final var loadingPlan = new CompletableFuture<Plan>();
+		final var inFlightPlan = activePlans.asMap().putIfAbsent(userId, loadingPlan);
+		if (inFlightPlan != null) {
+			return inFlightPlan;
+		}
+		CompletableFuture.runAsync(() -> load(userId, loadingPlan), datasourceExecutor);
+		return loadingPlan;
+	}
+
+	/**
+	 * Retrieves the active plan of the specified user only if already resolved,
+	 * without blocking nor triggering a datasource call. The lookup is not
+	 * accounted in the cache statistics, leaving misses to approximate datasource
+	 * lookups of active plans.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @return Optional containing the user's active {@link Plan}, or empty if not
+	 *         cached or still being fetched.
+	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
+	 */
+	public Optional<Plan> getIfPresent(@NonNull final UUID userId) {
+		final var cachedPlan = activePlans.asMap().get(userId);
+		if (cachedPlan == null || Boolean.FALSE.equals(cachedPlan.isDone()) || cachedPlan.isCompletedExceptionally()) {
+			return Optional.empty();
+		}
+		return Optional.of(cachedPlan.join());
+	}
+
+	/**
+	 * Fetches the active plan of the specified user from the datasource,
+	 * completing the provided future registered in the cache with the outcome.
+	 */
+	private Plan load(final UUID userId, final CompletableFuture<Plan> loadingPlan) {
+		try {
+			final var plan = userPlanMappingRepository.findActivePlan(userId);
+			loadingPlan.complete(plan);
+			return plan;
+		} catch (final RuntimeException exception) {
+			// failed futures are removed by the cache, allowing subsequent lookups to retry
+			loadingPlan.completeExceptionally(exception);
+			throw exception;
+		}
+	}
+
+	/**
+	 * Caches the provided plan as the active plan of the specified user, replacing
+	 * any cached or in-flight lookup, e.g. following an update of the user's plan.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @param plan the user's active {@link Plan}.
+	 * @throws IllegalArgumentException if any provided argument is <code>null</code>.
+	 */
+	public void put(@NonNull final UUID userId, @NonNull final Plan plan) {
+		activePlans.put(userId, CompletableFuture.completedFuture(plan));
+	}
+
+	/**
+	 * Evicts the cached active plan of the specified user, if present.
+	 *
+	 * @param userId unique identifier of the user.
+	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
+	 */
+	public void evict(@NonNull final UUID userId) {
+		activePlans.synchronous().invalidate(userId);
+	}
+
+}
@@ -48,7 +48,8 @@ public class UserService {
 		}
 
 		final var planId = userCreationRequest.getPlanId();
-		final var isPlanIdValid = planRepository.existsById(planId);
+		// looked up by id to be served from the second-level cache, unlike existsById issuing a query
+		final var isPlanIdValid = planRepository.findById(planId).isPresent();
 		if (Boolean.FALSE.equals(isPlanIdValid)) {
 			throw new InvalidPlanException("No plan exists in the system with provided-id");
 		}
@@ -0,0 +1,174 @@
+package com.behl.overseer.utility;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import com.behl.overseer.configuration.BypassRateLimit;
+import com.behl.overseer.configuration.RateLimitCost;
+import com.behl.overseer.configuration.WaitForRateLimit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Utility class responsible for evaluating the rate limit enforcement
+ * applicable to private API endpoints. It works in conjunction with the mappings
+ * of controller methods and classes annotated with {@link BypassRateLimit},
+ * {@link RateLimitCost} and {@link WaitForRateLimit}.
+ *
+ * The number of tokens consumed by requests to each endpoint is resolved once
+ * on startup into an {@link EndpointMatcher}, bypassed endpoints being indexed
+ * with a cost of zero, sparing the full handler lookup of Spring MVC and any
+ * reflection on every incoming request. Every endpoint is indexed, unannotated
+ * ones with the default cost of {@value #DEFAULT_TOKEN_COST} token, so that a
+ * request resolves to the same mapping as with Spring MVC rather than to a less
+ * specific annotated one. The maximum duration requests to each endpoint may
+ * wait for tokens is indexed alike, with unannotated endpoints not waiting at
+ * all.
+ *
+ * @see com.behl.overseer.configuration.BypassRateLimit
+ * @see com.behl.overseer.configuration.RateLimitCost
+ * @see com.behl.overseer.configuration.WaitForRateLimit
+ * @see com.behl.overseer.filter.RateLimitFilter
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = Type.SERVLET)
+public class ApiEndpointRateLimitInspector {
+
+	public static final int DEFAULT_TOKEN_COST = 1;
+	static final int BYPASSED_TOKEN_COST = 0;
+
+	private final RequestMappingHandlerMapping requestHandlerMapping;
+
+	private final EndpointMatcher<Integer> tokenCostMatcher = new EndpointMatcher<>();
+	private final EndpointMatcher<Duration> maximumWaitMatcher = new EndpointMatcher<>();
+
+	/**
+	 * Initializes the class by gathering the token cost and maximum wait of every
+	 * API endpoint, resolved from {@link BypassRateLimit}, {@link RateLimitCost}
+	 * and {@link WaitForRateLimit} declared on controller methods or classes and
+	 * defaulting otherwise. Each is registered against the HTTP methods and path
+	 * patterns of the mapping. Mappings not restricted to any HTTP method are
+	 * registered against all of them.
+	 *
+	 * @throws IllegalStateException if a non-positive token cost or maximum wait is configured.
+	 */
+	@PostConstruct
+	public void init() {
+		final var handlerMethods = requestHandlerMapping.getHandlerMethods();
+		handlerMethods.forEach((requestInfo, handlerMethod) -> {
+			register(requestInfo, tokenCostMatcher, resolveTokenCost(handlerMethod).orElse(DEFAULT_TOKEN_COST));
+			register(requestInfo, maximumWaitMatcher, resolveMaximumWait(handlerMethod).orElse(Duration.ZERO));
+		});
+	}
+
+	/**
+	 * Checks if the provided HTTP request is directed towards an API endpoint
+	 * exempted from rate limit enforcement.
+	 *
+	 * @param request The HTTP request to inspect.
+	 * @return {@code true} if the request is to be bypassed, {@code false} otherwise.
+	 */
+	public boolean isBypassed(@NonNull final HttpServletRequest request) {
+		return getTokenCost(request) == BYPASSED_TOKEN_COST;
+	}
+
+	/**
+	 * Returns the number of tokens to be consumed by the provided HTTP request.
+	 *
+	 * @param request The HTTP request to inspect.
+	 * @return the token cost of the API endpoint, {@code 0} if the request is to be bypassed.
+	 */
+	public int getTokenCost(@NonNull final HttpServletRequest request) {
+		final var tokenCost = tokenCostMatcher.match(request.getMethod(), request.getRequestURI());
+		return tokenCost != null ? tokenCost : DEFAULT_TOKEN_COST;
+	}
+
+	/**
+	 * Returns the maximum duration the provided HTTP request may wait for tokens to
+	 * be refilled when exceeding the user's rate limit.
+	 *
+	 * @param request The HTTP request to inspect.
+	 * @return the maximum wait of the API endpoint, {@link Duration#ZERO} if the request is not to wait.
+	 */
+	public Duration getMaximumWait(@NonNull final HttpServletRequest request) {
+		final var maximumWait = maximumWaitMatcher.match(request.getMethod(), request.getRequestURI());
+		return maximumWait != null ? maximumWait : Duration.ZERO;
+	}
+
+	/**
+	 * Resolves the token cost of the provided handler method from the annotations
+	 * declared on it or its controller class, method level {@link RateLimitCost}
+	 * taking precedence over class level and {@link BypassRateLimit} over both.
+	 *
+	 * @return the resolved token cost, or an empty optional if the default applies.
+	 * @throws IllegalStateException if a non-positive token cost is configured.
+	 */
+	static Optional<Integer> resolveTokenCost(final HandlerMethod handlerMethod) {
+		final var beanType = handlerMethod.getBeanType();
+		if (handlerMethod.hasMethodAnnotation(BypassRateLimit.class) || beanType.isAnnotationPresent(BypassRateLimit.class)) {
+			return Optional.of(BYPASSED_TOKEN_COST);
+		}
+
+		final var rateLimitCost = Optional.ofNullable(handlerMethod.getMethodAnnotation(RateLimitCost.class))
+				.or(() -> Optional.ofNullable(beanType.getAnnotation(RateLimitCost.class)));
+		rateLimitCost.ifPresent(cost -> {
+			if (cost.tokens() < 1) {
+				throw new IllegalStateException("Token cost of " + handlerMethod + " must be positive");
+			}
+		});
+		return rateLimitCost.map(RateLimitCost::tokens);
+	}
+
+	/**
+	 * Resolves the maximum wait of the provided handler method from the
+	 * {@link WaitForRateLimit} annotation declared on it or its controller class,
+	 * method level taking precedence over class level. Bypassed handler methods
+	 * never wait.
+	 *
+	 * @return the resolved maximum wait, or an empty optional if requests are not to wait.
+	 * @throws IllegalStateException if a non-positive maximum wait is configured.
+	 */
+	static Optional<Duration> resolveMaximumWait(final HandlerMethod handlerMethod) {
+		final var beanType = handlerMethod.getBeanType();
+		if (handlerMethod.hasMethodAnnotation(BypassRateLimit.class) || beanType.isAnnotationPresent(BypassRateLimit.class)) {
+			return Optional.empty();
+		}
+
+		final var waitForRateLimit = Optional.ofNullable(handlerMethod.getMethodAnnotation(WaitForRateLimit.class))
+				.or(() -> Optional.ofNullable(beanType.getAnnotation(WaitForRateLimit.class)));
+		waitForRateLimit.ifPresent(wait -> {
+			if (wait.maximumWaitMillis() < 1) {
+				throw new IllegalStateException("Maximum wait of " + handlerMethod + " must be positive");
+			}
+		});
+		return waitForRateLimit.map(wait -> Duration.ofMillis(wait.maximumWaitMillis()));
+	}
+
+	private <T> void register(final RequestMappingInfo requestInfo, final EndpointMatcher<T> endpointMatcher, final T value) {
+		final var apiPaths = requestInfo.getPathPatternsCondition().getPatternValues();
+		final var requestMethods = requestInfo.getMethodsCondition().getMethods();
+
+		apiPaths.forEach(apiPath -> {
+			if (requestMethods.isEmpty()) {
+				for (final var httpMethod : HttpMethod.values()) {
+					endpointMatcher.register(httpMethod.name(), apiPath, value);
+				}
+			} else {
+				requestMethods.forEach(requestMethod -> endpointMatcher.register(requestMethod.name(), apiPath, value));
+			}
+		});
+	}
+
+}
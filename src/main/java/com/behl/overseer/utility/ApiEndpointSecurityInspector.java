@@ -4,19 +4,18 @@ import static org.springframework.http.HttpMethod.GET;
 import static org.springframework.http.HttpMethod.POST;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
 import com.behl.overseer.configuration.OpenApiConfigurationProperties;
 import com.behl.overseer.configuration.PublicEndpoint;
 
-import io.swagger.v3.oas.models.PathItem.HttpMethod;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.Getter;
@@ -28,17 +27,26 @@ import lombok.RequiredArgsConstructor;
  * based on their security configuration. It works in conjunction with the
  * mappings of controller methods annotated with {@link PublicEndpoint}.
  * 
+ * The public endpoints are compiled on startup into an {@link EndpointMatcher},
+ * and the outcome of inspection is memoized as a request attribute, allowing
+ * both security filters to share a single evaluation per request.
+ * 
  * @see com.behl.overseer.configuration.PublicEndpoint
  * @see com.behl.overseer.configuration.OpenApiConfigurationProperties
  */
 @Component
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = Type.SERVLET)
 @EnableConfigurationProperties(OpenApiConfigurationProperties.class)
 public class ApiEndpointSecurityInspector {
 
 	private final RequestMappingHandlerMapping requestHandlerMapping;
 	private final OpenApiConfigurationProperties openApiConfigurationProperties;
-	private static final List<String> SWAGGER_V3_PATHS = List.of("/swagger-ui**/**", "/v3/api-docs**/**");
+	static final List<String> SWAGGER_V3_PATHS = List.of("/swagger-ui**/**", "/v3/api-docs**/**");
+	static final List<String> ACTUATOR_PATHS = List.of("/actuator/health/**");
+	private static final String UNSECURE_REQUEST_ATTRIBUTE = ApiEndpointSecurityInspector.class.getName() + ".UNSECURE_REQUEST";
+
+	private final EndpointMatcher<Boolean> publicEndpointMatcher = new EndpointMatcher<>();
 	
 	@Getter
 	private List<String> publicGetEndpoints = new ArrayList<String>();
@@ -48,8 +56,12 @@ public class ApiEndpointSecurityInspector {
 	/**
 	 * Initializes the class by gathering public endpoints for various HTTP methods.
 	 * It identifies designated public endpoints within the application's mappings
-	 * and adds them to separate lists based on their associated HTTP methods.
+	 * and adds them to separate lists based on their associated HTTP methods,
+	 * which are then compiled into the matcher used for request inspection.
 	 * If OpenAPI is enabled, Swagger endpoints are also considered as public.
+	 * Actuator health endpoints are always considered as public, allowing them to
+	 * be probed without an access token, whereas the remaining Actuator endpoints
+	 * exposed on the API port, Prometheus included, require one.
 	 */
 	@PostConstruct
 	public void init() {
@@ -72,37 +84,43 @@ public class ApiEndpointSecurityInspector {
 		if (Boolean.TRUE.equals(openApiEnabled)) {
 			publicGetEndpoints.addAll(SWAGGER_V3_PATHS);
 		}
+		publicGetEndpoints.addAll(ACTUATOR_PATHS);
+
+		publicGetEndpoints.forEach(apiPath -> publicEndpointMatcher.register(GET.name(), apiPath, Boolean.TRUE));
+		publicPostEndpoints.forEach(apiPath -> publicEndpointMatcher.register(POST.name(), apiPath, Boolean.TRUE));
+
+		// secured mappings take precedence over less specific public patterns, as with Spring MVC
+		handlerMethods.forEach((requestInfo, handlerMethod) -> {
+			if (Boolean.FALSE.equals(handlerMethod.hasMethodAnnotation(PublicEndpoint.class))) {
+				final var requestMethods = requestInfo.getMethodsCondition().getMethods();
+				requestInfo.getPathPatternsCondition().getPatternValues().forEach(apiPath -> {
+					if (requestMethods.isEmpty()) {
+						for (final var httpMethod : HttpMethod.values()) {
+							publicEndpointMatcher.register(httpMethod.name(), apiPath, Boolean.FALSE);
+						}
+					} else {
+						requestMethods.forEach(requestMethod -> publicEndpointMatcher.register(requestMethod.name(), apiPath, Boolean.FALSE));
+					}
+				});
+			}
+		});
 	}
 
 	/**
 	 * Checks if the provided HTTP request is directed towards an unsecured API endpoint.
+	 * The result is memoized as an attribute of the request, and returned as is on
+	 * subsequent invocations for the same request.
 	 *
 	 * @param request The HTTP request to inspect.
 	 * @return {@code true} if the request is to an unsecured API endpoint, {@code false} otherwise.
 	 */
 	public boolean isUnsecureRequest(@NonNull final HttpServletRequest request) {
-		final var requestHttpMethod = HttpMethod.valueOf(request.getMethod());
-		var unsecuredApiPaths = getUnsecuredApiPaths(requestHttpMethod);
-		unsecuredApiPaths = Optional.ofNullable(unsecuredApiPaths).orElseGet(ArrayList::new);
-
-		return unsecuredApiPaths.stream().anyMatch(apiPath -> new AntPathMatcher().match(apiPath, request.getRequestURI()));
-	}
-
-	/**
-	 * Retrieves the list of unsecured API paths based on the provided HTTP method.
-	 * 
-	 * @param httpMethod The HTTP method for which unsecured paths are to be retrieved.
-	 * @return A list of unsecured API paths for the specified HTTP method.s
-	 */
-	private List<String> getUnsecuredApiPaths(@NonNull final HttpMethod httpMethod) {
-		switch (httpMethod) {
-			case GET:
-				return publicGetEndpoints;
-			case POST:
-				return publicPostEndpoints;
-			default:
-				return Collections.emptyList();
+		if (request.getAttribute(UNSECURE_REQUEST_ATTRIBUTE) instanceof Boolean isUnsecureRequest) {
+			return isUnsecureRequest;
 		}
+		final var isUnsecureRequest = Boolean.TRUE.equals(publicEndpointMatcher.match(request.getMethod(), request.getRequestURI()));
+		request.setAttribute(UNSECURE_REQUEST_ATTRIBUTE, isUnsecureRequest);
+		return isUnsecureRequest;
 	}
-	
-}
\ No newline at end of file
+
+}
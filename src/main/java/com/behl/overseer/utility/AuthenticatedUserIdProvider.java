@@ -3,6 +3,8 @@ package com.behl.overseer.utility;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -17,6 +19,7 @@ import org.springframework.stereotype.Component;
  * @see com.behl.overseer.filter.JwtAuthenticationFilter
  */
 @Component
+@ConditionalOnWebApplication(type = Type.SERVLET)
 public class AuthenticatedUserIdProvider {
 	
 	/**
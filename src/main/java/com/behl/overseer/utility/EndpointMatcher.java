@@ -0,0 +1,91 @@
+package com.behl.overseer.utility;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import lombok.NonNull;
+
+/**
+ * Matcher resolving values registered against API endpoints, identified by HTTP
+ * method and path pattern. Patterns are compiled once on registration into
+ * {@link PathPattern} instances, the same representation used by Spring MVC and
+ * Spring Security to match requests. Patterns without any wildcard or
+ * template variable are stored as exact paths and resolved through a hash
+ * lookup, with compiled patterns only evaluated when no exact path matches.
+ * Compiled patterns are evaluated from the most specific to the least, as per
+ * {@link PathPattern#SPECIFICITY_COMPARATOR}, mirroring the precedence of
+ * handler mappings in Spring MVC.
+ *
+ * Registration is expected to be completed during application startup, post
+ * which the matcher is safe for concurrent reads.
+ *
+ * @param <T> type of value registered against endpoints.
+ */
+public class EndpointMatcher<T> {
+
+	private final Map<String, Map<String, T>> exactPaths = new HashMap<>();
+	private final Map<String, List<CompiledPattern<T>>> compiledPatterns = new HashMap<>();
+
+	/**
+	 * Registers the provided value against the specified HTTP method and path
+	 * pattern. If multiple registered patterns match a request, the value of the
+	 * exact path or the most specific pattern takes precedence, the earliest
+	 * registered one among equally specific patterns.
+	 *
+	 * @param httpMethod name of the HTTP method, e.g. {@code GET}.
+	 * @param pathPattern path pattern as accepted by {@link PathPatternParser}.
+	 * @param value value to be resolved for matching requests.
+	 * @throws IllegalArgumentException if any provided argument is <code>null</code>.
+	 */
+	public void register(@NonNull final String httpMethod, @NonNull final String pathPattern, @NonNull final T value) {
+		final var compiledPattern = PathPatternParser.defaultInstance.parse(pathPattern);
+		if (Boolean.FALSE.equals(compiledPattern.hasPatternSyntax())) {
+			exactPaths.computeIfAbsent(httpMethod, method -> new HashMap<>()).putIfAbsent(pathPattern, value);
+		} else {
+			final var patterns = compiledPatterns.computeIfAbsent(httpMethod, method -> new ArrayList<>());
+			patterns.add(new CompiledPattern<>(compiledPattern, value));
+			patterns.sort(Comparator.comparing(CompiledPattern::pathPattern, PathPattern.SPECIFICITY_COMPARATOR));
+		}
+	}
+
+	/**
+	 * Resolves the value registered against the provided HTTP method and request
+	 * path.
+	 *
+	 * @param httpMethod name of the HTTP method of the request.
+	 * @param requestPath path of the request to match.
+	 * @return registered value, or {@code null} if no registered endpoint matches.
+	 */
+	public T match(final String httpMethod, final String requestPath) {
+		final var exactPathValues = exactPaths.get(httpMethod);
+		if (exactPathValues != null) {
+			final var value = exactPathValues.get(requestPath);
+			if (value != null) {
+				return value;
+			}
+		}
+
+		final var patterns = compiledPatterns.get(httpMethod);
+		if (patterns == null) {
+			return null;
+		}
+		final var pathContainer = PathContainer.parsePath(requestPath);
+		for (final var pattern : patterns) {
+			if (pattern.pathPattern().matches(pathContainer)) {
+				return pattern.value();
+			}
+		}
+		return null;
+	}
+
+	private record CompiledPattern<T>(PathPattern pathPattern, T value) {
+	}
+
+}
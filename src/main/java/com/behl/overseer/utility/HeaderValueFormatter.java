@@ -0,0 +1,40 @@
+package com.behl.overseer.utility;
+
+/**
+ * Formats numeric HTTP header values, serving the values most commonly sent by
+ * the application from a cache of strings formatted on class initialization.
+ * Rate limit headers carry small non-negative numbers i.e. remaining tokens
+ * and seconds to wait for refill, both bound by the hourly limits of plans,
+ * allowing them to be set without allocating a new string per response.
+ *
+ * @see com.behl.overseer.filter.RateLimitFilter
+ */
+public final class HeaderValueFormatter {
+
+	private static final int CACHED_VALUES = 4096;
+	private static final String[] FORMATTED_VALUES = new String[CACHED_VALUES];
+
+	static {
+		for (int value = 0; value < CACHED_VALUES; value++) {
+			FORMATTED_VALUES[value] = String.valueOf(value);
+		}
+	}
+
+	private HeaderValueFormatter() {
+	}
+
+	/**
+	 * Returns the decimal representation of the provided value.
+	 *
+	 * @param value value to be formatted.
+	 * @return cached formatted value if the provided value falls in the cached
+	 *         range, a newly formatted value otherwise.
+	 */
+	public static String format(final long value) {
+		if (value >= 0 && value < CACHED_VALUES) {
+			return FORMATTED_VALUES[(int) value];
+		}
+		return String.valueOf(value);
+	}
+
+}
@@ -1,24 +1,31 @@
 package com.behl.overseer.utility;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.Date;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Function;
 
 import javax.crypto.SecretKey;
 
-import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.stereotype.Component;
 
 import com.behl.overseer.configuration.TokenConfigurationProperties;
+import com.behl.overseer.configuration.TokenConfigurationProperties.VerifiedTokenCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 
-import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import lombok.NonNull;
+import lombok.SneakyThrows;
 
 /**
  * Utility class for JWT (JSON Web Token) operations, responsible for handling
@@ -26,6 +33,11 @@ import lombok.NonNull;
  * JWT tokens. It interacts with the application's token configuration
  * properties to ensure correct token creation and validation.
  * 
+ * The secret key and the token parser are constructed once on first use. The
+ * outcome of successful verifications is cached against the SHA-256 digest of
+ * the token until the token expires, sparing repeat requests bearing the same
+ * token from signature verification and claim parsing.
+ * 
  * @see com.behl.overseer.configuration.TokenConfigurationProperties
  * @see com.behl.overseer.filter.JwtAuthenticationFilter
  */
@@ -33,15 +45,23 @@ import lombok.NonNull;
 @EnableConfigurationProperties(TokenConfigurationProperties.class)
 public class JwtUtility {
 	
-	private static final String BEARER_PREFIX = "Bearer ";
+	private static final String DIGEST_ALGORITHM = "SHA-256";
 
 	private final String issuer;
 	private final TokenConfigurationProperties tokenConfigurationProperties;
+	private final Cache<ByteBuffer, VerifiedToken> verifiedTokens;
+
+	private volatile SecretKey secretKey;
+	private volatile JwtParser jwtParser;
 	
 	public JwtUtility(@Value("${spring.application.name}") final String issuer,
 			final TokenConfigurationProperties tokenConfigurationProperties) {
 		this.issuer = issuer;
 		this.tokenConfigurationProperties = tokenConfigurationProperties;
+		this.verifiedTokens = Optional.ofNullable(tokenConfigurationProperties.getCache())
+				.filter(VerifiedTokenCache::isEnabled)
+				.map(this::createVerifiedTokenCache)
+				.orElse(null);
 	}
 
 	/**
@@ -62,8 +82,7 @@ public class JwtUtility {
 		final var currentTimestamp = new Date(System.currentTimeMillis());
 		final var expirationTimestamp = new Date(System.currentTimeMillis() + expiration);
 		
-		final var encodedSecretKey = tokenConfigurationProperties.getSecretKey();
-		final var secretKey = getSecretKey(encodedSecretKey);
+		final var secretKey = getSecretKey();
 		
 		return Jwts.builder()
 				.issuer(issuer)
@@ -77,37 +96,73 @@ public class JwtUtility {
 	
 	/**
 	 * Extracts user's ID from a given JWT token signifying an authenticated
-	 * user.
+	 * user. Tokens verified earlier are resolved from the cache until they expire.
 	 * 
 	 * @param token The JWT token from which to extract the user's ID.
 	 * @throws IllegalArgumentException if provided argument is <code>null</code>.
 	 * @return The authenticated user's unique identifier (ID) in UUID format.
 	 */
 	public UUID getUserId(@NonNull final String token) {
-		final var audience = extractClaim(token, Claims::getAudience).iterator().next();
-		return UUID.fromString(audience);
+		if (verifiedTokens == null) {
+			return verify(token).userId();
+		}
+
+		final var tokenDigest = digest(token);
+		final var verifiedToken = verifiedTokens.getIfPresent(tokenDigest);
+		if (verifiedToken != null) {
+			return verifiedToken.userId();
+		}
+
+		final var freshlyVerifiedToken = verify(token);
+		verifiedTokens.put(tokenDigest, freshlyVerifiedToken);
+		return freshlyVerifiedToken.userId();
+	}
+
+	/**
+	 * Verifies the issuer, signature and expiration of the provided JWT token and
+	 * extracts the user's ID along with the token's expiration.
+	 * 
+	 * @param token JWT token to verify.
+	 * @return verified user's ID and the token's expiration.
+	 */
+	private VerifiedToken verify(final String token) {
+		final var claims = getJwtParser().parseSignedClaims(token).getPayload();
+		final var userId = UUID.fromString(claims.getAudience().iterator().next());
+		final var millisToExpire = claims.getExpiration().getTime() - System.currentTimeMillis();
+		return new VerifiedToken(userId, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millisToExpire));
 	}
 
 	/**
-	 * Extracts a specific claim from the provided JWT token. This method verifies
-	 * the token's issuer and signature before extracting the claim.
+	 * Returns the {@link SecretKey} constructed from the configured Base64-encoded
+	 * secret key, constructing it on first invocation.
 	 * 
-	 * @param token JWT token from which the desired claim is to be extracted.
-	 * @param claimsResolver function of {@link Claims} to execute. example: {@code Claims::getId}.
-	 * @throws IllegalArgumentException if any provided argument is <code>null</code>
-	 * @return The extracted claim value from the JWT token.
+	 * @return A {@link SecretKey} instance for JWT signing and verification.
+	 */
+	private SecretKey getSecretKey() {
+		var secretKey = this.secretKey;
+		if (secretKey == null) {
+			final var encodedSecretKey = tokenConfigurationProperties.getSecretKey();
+			secretKey = getSecretKey(encodedSecretKey);
+			this.secretKey = secretKey;
+		}
+		return secretKey;
+	}
+
+	/**
+	 * Returns the {@link JwtParser} verifying the issuer and signature of tokens,
+	 * constructing it on first invocation. The parser is immutable and safe for
+	 * concurrent use.
 	 */
-	private <T> T extractClaim(@NonNull final String token, @NonNull final Function<Claims, T> claimsResolver) {
-		final var encodedSecretKey = tokenConfigurationProperties.getSecretKey();
-		final var secretKey = getSecretKey(encodedSecretKey);
-		final var sanitizedToken = token.replace(BEARER_PREFIX, StringUtils.EMPTY);
-		final var claims = Jwts.parser()
-				.requireIssuer(issuer)
-				.verifyWith(secretKey)
-				.build()
-				.parseSignedClaims(sanitizedToken)
-				.getPayload();
-		return claimsResolver.apply(claims);
+	private JwtParser getJwtParser() {
+		var jwtParser = this.jwtParser;
+		if (jwtParser == null) {
+			jwtParser = Jwts.parser()
+					.requireIssuer(issuer)
+					.verifyWith(getSecretKey())
+					.build();
+			this.jwtParser = jwtParser;
+		}
+		return jwtParser;
 	}
 
 	/**
@@ -123,4 +178,52 @@ public class JwtUtility {
 		return Keys.hmacShaKeyFor(decodedKey);
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Computes the SHA-256 digest of the provided token, used as cache key so that
+	 * raw tokens are not retained in memory.
+	 */
+	@SneakyThrows
+	private ByteBuffer digest(final String token) {
+		final var messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+		return ByteBuffer.wrap(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private Cache<ByteBuffer, VerifiedToken> createVerifiedTokenCache(final VerifiedTokenCache cacheProperties) {
+		return Caffeine.newBuilder()
+				.maximumSize(cacheProperties.getMaximumSize())
+				.expireAfter(new TokenExpirationExpiry())
+				.build();
+	}
+
+	/**
+	 * Outcome of a successful token verification.
+	 *
+	 * @param userId unique identifier of the authenticated user.
+	 * @param expiresAtNanos {@link System#nanoTime()} based instant at which the token expires.
+	 */
+	private record VerifiedToken(UUID userId, long expiresAtNanos) {
+	}
+
+	/**
+	 * Expires cache entries at the expiration instant of the verified token.
+	 */
+	private static class TokenExpirationExpiry implements Expiry<ByteBuffer, VerifiedToken> {
+
+		@Override
+		public long expireAfterCreate(final ByteBuffer tokenDigest, final VerifiedToken verifiedToken, final long currentTime) {
+			return Math.max(verifiedToken.expiresAtNanos() - currentTime, 0);
+		}
+
+		@Override
+		public long expireAfterUpdate(final ByteBuffer tokenDigest, final VerifiedToken verifiedToken, final long currentTime, final long currentDuration) {
+			return Math.max(verifiedToken.expiresAtNanos() - currentTime, 0);
+		}
+
+		@Override
+		public long expireAfterRead(final ByteBuffer tokenDigest, final VerifiedToken verifiedToken, final long currentTime, final long currentDuration) {
+			return currentDuration;
+		}
+
+	}
+
+}
@@ -0,0 +1,225 @@
+package com.behl.overseer.utility;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records Micrometer metrics for the stages of request evaluation, exposed
+ * through the Actuator Prometheus endpoint. Timers publish percentile
+ * histograms with bounded buckets, leaving percentile computation to the
+ * monitoring system instead of the request path.
+ *
+ * Tags are restricted to plan names, fallback modes and decision outcomes,
+ * keeping the number of time series bounded irrespective of the number of users.
+ *
+ * @see com.behl.overseer.service.RateLimitingService
+ * @see com.behl.overseer.service.DistributedBucketCircuitBreaker
+ * @see com.behl.overseer.filter.JwtAuthenticationFilter
+ */
+@Component
+public class RateLimitMetrics {
+
+	private static final String BUCKET_LOOKUP_METRIC = "overseer.rate-limit.bucket.lookup";
+	private static final String CONSUMPTION_METRIC = "overseer.rate-limit.consumption";
+	private static final String BUCKET_CREATION_METRIC = "overseer.rate-limit.bucket.creations";
+	private static final String DECISION_METRIC = "overseer.rate-limit.decisions";
+	private static final String JWT_VERIFICATION_METRIC = "overseer.jwt.verification";
+	private static final String PIPELINE_WAIT_METRIC = "overseer.rate-limit.pipeline.wait";
+	private static final String PIPELINE_BATCH_SIZE_METRIC = "overseer.rate-limit.pipeline.batch.size";
+	private static final String WAIT_METRIC = "overseer.rate-limit.wait";
+	private static final String WAIT_OVERFLOW_METRIC = "overseer.rate-limit.wait.overflows";
+	private static final String FALLBACK_DECISION_METRIC = "overseer.rate-limit.fallback.decisions";
+
+	/**
+	 * Plan name tagging decisions taken for users whose active plan is not
+	 * resolved on the node at the time of the decision.
+	 */
+	public static final String UNKNOWN_PLAN = "unknown";
+
+	private static final String PLAN_TAG = "plan";
+	private static final String MODE_TAG = "mode";
+	private static final String OUTCOME_TAG = "outcome";
+	private static final String ALLOWED_OUTCOME = "allowed";
+	private static final String REJECTED_OUTCOME = "rejected";
+	private static final String ADMITTED_OUTCOME = "admitted";
+
+	private final MeterRegistry meterRegistry;
+	private final Timer bucketLookupTimer;
+	private final Timer consumptionTimer;
+	private final Timer jwtVerificationTimer;
+	private final Timer pipelineWaitTimer;
+	private final Timer admittedWaitTimer;
+	private final Timer rejectedWaitTimer;
+	private final Counter bucketCreationCounter;
+	private final Counter waitOverflowCounter;
+	private final DistributionSummary pipelineBatchSizeSummary;
+
+	private final Map<String, Counter> allowedDecisionCounters = new ConcurrentHashMap<>();
+	private final Map<String, Counter> rejectedDecisionCounters = new ConcurrentHashMap<>();
+	private final Map<String, Counter> allowedFallbackDecisionCounters = new ConcurrentHashMap<>();
+	private final Map<String, Counter> rejectedFallbackDecisionCounters = new ConcurrentHashMap<>();
+
+	public RateLimitMetrics(final MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+		this.bucketLookupTimer = createTimer(BUCKET_LOOKUP_METRIC, "Time spent resolving the rate limit bucket proxy of a user");
+		this.consumptionTimer = createTimer(CONSUMPTION_METRIC, "Time spent consuming tokens from the rate limit bucket of a user");
+		this.jwtVerificationTimer = createTimer(JWT_VERIFICATION_METRIC, "Time spent verifying access tokens");
+		this.pipelineWaitTimer = createTimer(PIPELINE_WAIT_METRIC, "Time consumptions spent waiting to be sent to Redis in a pipelined batch");
+		this.admittedWaitTimer = createWaitTimer(ADMITTED_OUTCOME);
+		this.rejectedWaitTimer = createWaitTimer(REJECTED_OUTCOME);
+		this.bucketCreationCounter = Counter.builder(BUCKET_CREATION_METRIC)
+				.description("Rate limit buckets created from the active plan of users")
+				.register(meterRegistry);
+		this.waitOverflowCounter = Counter.builder(WAIT_OVERFLOW_METRIC)
+				.description("Requests rejected without waiting for tokens as the limit of parked requests was reached")
+				.register(meterRegistry);
+		this.pipelineBatchSizeSummary = DistributionSummary.builder(PIPELINE_BATCH_SIZE_METRIC)
+				.description("Consumptions sent to Redis in a single pipelined batch")
+				.publishPercentileHistogram()
+				.minimumExpectedValue(1.0)
+				.maximumExpectedValue(1_024.0)
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Records the time spent resolving the bucket proxy of a user.
+	 *
+	 * @param nanos elapsed duration in nanoseconds.
+	 */
+	public void recordBucketLookup(final long nanos) {
+		bucketLookupTimer.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Records the time spent consuming tokens from the bucket of a user, including
+	 * the round trip to the configured backend.
+	 *
+	 * @param nanos elapsed duration in nanoseconds.
+	 */
+	public void recordConsumption(final long nanos) {
+		consumptionTimer.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Records the time spent verifying an access token.
+	 *
+	 * @param nanos elapsed duration in nanoseconds.
+	 */
+	public void recordJwtVerification(final long nanos) {
+		jwtVerificationTimer.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Records the time a consumption spent waiting to be sent to Redis in a
+	 * pipelined batch, being the latency added by batching.
+	 *
+	 * @param nanos elapsed duration in nanoseconds.
+	 */
+	public void recordPipelineWait(final long nanos) {
+		pipelineWaitTimer.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Records the number of consumptions sent to Redis in a single pipelined batch.
+	 *
+	 * @param size number of consumptions in the batch.
+	 */
+	public void recordPipelineBatch(final int size) {
+		pipelineBatchSizeSummary.record(size);
+	}
+
+	/**
+	 * Records the time a request spent parked waiting for tokens to be refilled.
+	 *
+	 * @param nanos elapsed duration in nanoseconds.
+	 * @param admitted {@code true} if the request was admitted, {@code false} if rejected.
+	 */
+	public void recordWait(final long nanos, final boolean admitted) {
+		final var waitTimer = admitted ? admittedWaitTimer : rejectedWaitTimer;
+		waitTimer.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Records a request rejected without waiting for tokens, as the limit of
+	 * requests parked on the current node was reached.
+	 */
+	public void recordWaitOverflow() {
+		waitOverflowCounter.increment();
+	}
+
+	/**
+	 * Records the creation of a bucket from the active plan of a user.
+	 */
+	public void recordBucketCreation() {
+		bucketCreationCounter.increment();
+	}
+
+	/**
+	 * Records a rate limit decision taken for a user subscribed to the provided
+	 * plan.
+	 *
+	 * @param planName name of the user's active plan.
+	 * @param allowed {@code true} if the request was allowed, {@code false} if rejected.
+	 */
+	public void recordDecision(final String planName, final boolean allowed) {
+		final var decisionCounters = allowed ? allowedDecisionCounters : rejectedDecisionCounters;
+		decisionCounters.computeIfAbsent(planName, name -> createDecisionCounter(name, allowed)).increment();
+	}
+
+	/**
+	 * Records a rate limit decision taken without contacting Redis, as the circuit
+	 * breaker guarding the distributed buckets was open or the consumption failed.
+	 *
+	 * @param fallbackMode name of the configured fallback mode.
+	 * @param allowed {@code true} if the request was allowed, {@code false} if rejected.
+	 */
+	public void recordFallbackDecision(final String fallbackMode, final boolean allowed) {
+		final var decisionCounters = allowed ? allowedFallbackDecisionCounters : rejectedFallbackDecisionCounters;
+		decisionCounters.computeIfAbsent(fallbackMode, mode -> createFallbackDecisionCounter(mode, allowed)).increment();
+	}
+
+	private Timer createTimer(final String name, final String description) {
+		return Timer.builder(name)
+				.description(description)
+				.publishPercentileHistogram()
+				.minimumExpectedValue(Duration.ofNanos(1_000))
+				.maximumExpectedValue(Duration.ofSeconds(5))
+				.register(meterRegistry);
+	}
+
+	private Timer createWaitTimer(final String outcome) {
+		return Timer.builder(WAIT_METRIC)
+				.description("Time requests spent parked waiting for tokens to be refilled")
+				.tag(OUTCOME_TAG, outcome)
+				.publishPercentileHistogram()
+				.minimumExpectedValue(Duration.ofNanos(1_000))
+				.maximumExpectedValue(Duration.ofMinutes(1))
+				.register(meterRegistry);
+	}
+
+	private Counter createDecisionCounter(final String planName, final boolean allowed) {
+		return Counter.builder(DECISION_METRIC)
+				.description("Rate limit decisions taken for requests to private API endpoints")
+				.tag(PLAN_TAG, planName)
+				.tag(OUTCOME_TAG, allowed ? ALLOWED_OUTCOME : REJECTED_OUTCOME)
+				.register(meterRegistry);
+	}
+
+	private Counter createFallbackDecisionCounter(final String fallbackMode, final boolean allowed) {
+		return Counter.builder(FALLBACK_DECISION_METRIC)
+				.description("Rate limit decisions taken without contacting Redis as per the configured fallback mode")
+				.tag(MODE_TAG, fallbackMode.toLowerCase().replace('_', '-'))
+				.tag(OUTCOME_TAG, allowed ? ALLOWED_OUTCOME : REJECTED_OUTCOME)
+				.register(meterRegistry);
+	}
+
+}
@@ -0,0 +1,91 @@
+package com.behl.overseer.utility;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.result.method.RequestMappingInfo;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+
+import com.behl.overseer.configuration.BypassRateLimit;
+import com.behl.overseer.configuration.RateLimitCost;
+
+import jakarta.annotation.PostConstruct;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reactive counterpart of {@link ApiEndpointRateLimitInspector}, resolving the
+ * token cost of the API endpoints of the reactive deployment from the WebFlux
+ * mappings of controller methods and classes annotated with
+ * {@link BypassRateLimit} and {@link RateLimitCost}.
+ *
+ * @see com.behl.overseer.configuration.BypassRateLimit
+ * @see com.behl.overseer.configuration.RateLimitCost
+ * @see com.behl.overseer.filter.RateLimitWebFilter
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveApiEndpointRateLimitInspector {
+
+	private final RequestMappingHandlerMapping requestHandlerMapping;
+
+	private final EndpointMatcher<Integer> tokenCostMatcher = new EndpointMatcher<>();
+
+	/**
+	 * Initializes the class by gathering the token cost of every API endpoint,
+	 * unannotated ones being registered with the default cost, against each of
+	 * their HTTP methods and path patterns. Mappings not restricted to any HTTP
+	 * method are registered against all of them.
+	 *
+	 * @throws IllegalStateException if a non-positive token cost is configured.
+	 */
+	@PostConstruct
+	public void init() {
+		final var handlerMethods = requestHandlerMapping.getHandlerMethods();
+		handlerMethods.forEach((requestInfo, handlerMethod) -> register(requestInfo,
+				ApiEndpointRateLimitInspector.resolveTokenCost(handlerMethod).orElse(ApiEndpointRateLimitInspector.DEFAULT_TOKEN_COST)));
+	}
+
+	/**
+	 * Checks if the provided HTTP request is directed towards an API endpoint
+	 * exempted from rate limit enforcement.
+	 *
+	 * @param request The HTTP request to inspect.
+	 * @return {@code true} if the request is to be bypassed, {@code false} otherwise.
+	 */
+	public boolean isBypassed(@NonNull final ServerHttpRequest request) {
+		return getTokenCost(request) == ApiEndpointRateLimitInspector.BYPASSED_TOKEN_COST;
+	}
+
+	/**
+	 * Returns the number of tokens to be consumed by the provided HTTP request.
+	 *
+	 * @param request The HTTP request to inspect.
+	 * @return the token cost of the API endpoint, {@code 0} if the request is to be bypassed.
+	 */
+	public int getTokenCost(@NonNull final ServerHttpRequest request) {
+		final var requestPath = request.getPath().pathWithinApplication().value();
+		final var tokenCost = tokenCostMatcher.match(request.getMethod().name(), requestPath);
+		return tokenCost != null ? tokenCost : ApiEndpointRateLimitInspector.DEFAULT_TOKEN_COST;
+	}
+
+	private void register(final RequestMappingInfo requestInfo, final int tokenCost) {
+		final var apiPaths = requestInfo.getPatternsCondition().getPatterns();
+		final var requestMethods = requestInfo.getMethodsCondition().getMethods();
+
+		apiPaths.forEach(apiPath -> {
+			final var pattern = apiPath.getPatternString();
+			if (requestMethods.isEmpty()) {
+				for (final var httpMethod : HttpMethod.values()) {
+					tokenCostMatcher.register(httpMethod.name(), pattern, tokenCost);
+				}
+			} else {
+				requestMethods.forEach(requestMethod -> tokenCostMatcher.register(requestMethod.name(), pattern, tokenCost));
+			}
+		});
+	}
+
+}
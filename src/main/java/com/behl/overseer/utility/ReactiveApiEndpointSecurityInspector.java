@@ -0,0 +1,127 @@
+package com.behl.overseer.utility;
+
+import static org.springframework.http.HttpMethod.GET;
+import static org.springframework.http.HttpMethod.POST;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+
+import com.behl.overseer.configuration.OpenApiConfigurationProperties;
+import com.behl.overseer.configuration.PublicEndpoint;
+
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reactive counterpart of {@link ApiEndpointSecurityInspector}, evaluating the
+ * accessibility of API endpoints of the reactive deployment based on the
+ * WebFlux mappings of controller methods annotated with {@link PublicEndpoint}.
+ *
+ * The outcome of inspection is memoized as an attribute of the exchange,
+ * allowing both security web filters to share a single evaluation per request.
+ *
+ * @see com.behl.overseer.configuration.PublicEndpoint
+ * @see com.behl.overseer.configuration.ReactiveSecurityConfiguration
+ * @see com.behl.overseer.configuration.OpenApiConfigurationProperties
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@EnableConfigurationProperties(OpenApiConfigurationProperties.class)
+public class ReactiveApiEndpointSecurityInspector {
+
+	private final RequestMappingHandlerMapping requestHandlerMapping;
+	private final OpenApiConfigurationProperties openApiConfigurationProperties;
+	private static final String SWAGGER_UI_WEBJAR_PATH = "/webjars/swagger-ui/**";
+	private static final String UNSECURE_REQUEST_ATTRIBUTE = ReactiveApiEndpointSecurityInspector.class.getName() + ".UNSECURE_REQUEST";
+
+	private final EndpointMatcher<Boolean> publicEndpointMatcher = new EndpointMatcher<>();
+
+	@Getter
+	private List<String> publicGetEndpoints = new ArrayList<String>();
+	@Getter
+	private List<String> publicPostEndpoints = new ArrayList<String>();
+
+	/**
+	 * Initializes the class by gathering public endpoints for various HTTP methods
+	 * from the WebFlux mappings, which are then compiled into the matcher used for
+	 * request inspection. If OpenAPI is enabled, Swagger endpoints, along with the
+	 * webjar Swagger UI is served from on WebFlux, are also considered as public.
+	 * Actuator health endpoints are always considered as public.
+	 */
+	@PostConstruct
+	public void init() {
+		final var handlerMethods = requestHandlerMapping.getHandlerMethods();
+		handlerMethods.forEach((requestInfo, handlerMethod) -> {
+			if (handlerMethod.hasMethodAnnotation(PublicEndpoint.class)) {
+				final var httpMethod = requestInfo.getMethodsCondition().getMethods().iterator().next();
+				final var apiPaths = requestInfo.getPatternsCondition().getPatterns().stream().map(PathPattern::getPatternString).toList();
+
+				if (httpMethod.equals(RequestMethod.GET)) {
+					publicGetEndpoints.addAll(apiPaths);
+				} else if (httpMethod.equals(RequestMethod.POST)) {
+					publicPostEndpoints.addAll(apiPaths);
+				}
+			}
+		});
+
+		final var openApiEnabled = openApiConfigurationProperties.getOpenApi().isEnabled();
+		if (Boolean.TRUE.equals(openApiEnabled)) {
+			publicGetEndpoints.addAll(ApiEndpointSecurityInspector.SWAGGER_V3_PATHS);
+			publicGetEndpoints.add(SWAGGER_UI_WEBJAR_PATH);
+		}
+		publicGetEndpoints.addAll(ApiEndpointSecurityInspector.ACTUATOR_PATHS);
+
+		publicGetEndpoints.forEach(apiPath -> publicEndpointMatcher.register(GET.name(), apiPath, Boolean.TRUE));
+		publicPostEndpoints.forEach(apiPath -> publicEndpointMatcher.register(POST.name(), apiPath, Boolean.TRUE));
+
+		// secured mappings take precedence over less specific public patterns, as with Spring WebFlux
+		handlerMethods.forEach((requestInfo, handlerMethod) -> {
+			if (Boolean.FALSE.equals(handlerMethod.hasMethodAnnotation(PublicEndpoint.class))) {
+				final var requestMethods = requestInfo.getMethodsCondition().getMethods();
+				requestInfo.getPatternsCondition().getPatterns().forEach(apiPath -> {
+					final var pattern = apiPath.getPatternString();
+					if (requestMethods.isEmpty()) {
+						for (final var httpMethod : HttpMethod.values()) {
+							publicEndpointMatcher.register(httpMethod.name(), pattern, Boolean.FALSE);
+						}
+					} else {
+						requestMethods.forEach(requestMethod -> publicEndpointMatcher.register(requestMethod.name(), pattern, Boolean.FALSE));
+					}
+				});
+			}
+		});
+	}
+
+	/**
+	 * Checks if the provided exchange is directed towards an unsecured API
+	 * endpoint. The result is memoized as an attribute of the exchange, and
+	 * returned as is on subsequent invocations for the same exchange.
+	 *
+	 * @param exchange The server exchange to inspect.
+	 * @return {@code true} if the request is to an unsecured API endpoint, {@code false} otherwise.
+	 */
+	public boolean isUnsecureRequest(@NonNull final ServerWebExchange exchange) {
+		if (exchange.getAttribute(UNSECURE_REQUEST_ATTRIBUTE) instanceof Boolean isUnsecureRequest) {
+			return isUnsecureRequest;
+		}
+		final var request = exchange.getRequest();
+		final var requestPath = request.getPath().pathWithinApplication().value();
+		final var isUnsecureRequest = Boolean.TRUE.equals(publicEndpointMatcher.match(request.getMethod().name(), requestPath));
+		exchange.getAttributes().put(UNSECURE_REQUEST_ATTRIBUTE, isUnsecureRequest);
+		return isUnsecureRequest;
+	}
+
+}
@@ -0,0 +1,10 @@
+-- Add token lease configuration to plans table
+ALTER TABLE plans
+  ADD COLUMN lease_size INT NOT NULL DEFAULT 1,
+  ADD COLUMN lease_ttl_seconds INT NOT NULL DEFAULT 5;
+
+UPDATE plans SET lease_size = 1, lease_ttl_seconds = 5 WHERE name = 'FREE';
+
+UPDATE plans SET lease_size = 2, lease_ttl_seconds = 5 WHERE name = 'BUSINESS';
+
+UPDATE plans SET lease_size = 5, lease_ttl_seconds = 10 WHERE name = 'PROFESSIONAL';
@@ -0,0 +1,15 @@
+-- Add refill strategy of bandwidths to plans table
+ALTER TABLE plans
+  ADD COLUMN refill_strategy VARCHAR(10) NOT NULL DEFAULT 'INTERVAL';
+
+-- Create plan_bandwidths table holding limits enforced alongside the hourly quota
+CREATE TABLE plan_bandwidths (
+  id BINARY(16) PRIMARY KEY DEFAULT (UUID_TO_BIN(UUID())),
+  plan_id BINARY(16) NOT NULL,
+  capacity INT NOT NULL,
+  period_seconds INT NOT NULL,
+  created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+  UNIQUE (plan_id, period_seconds),
+  CHECK (capacity > 0 AND period_seconds > 0),
+  FOREIGN KEY (plan_id) REFERENCES plans (id)
+);
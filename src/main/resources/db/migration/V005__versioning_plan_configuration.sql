@@ -0,0 +1,3 @@
+-- Refresh updated_at of plans on every update, serving as the version of their rate limit configuration
+ALTER TABLE plans
+  MODIFY COLUMN updated_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3);
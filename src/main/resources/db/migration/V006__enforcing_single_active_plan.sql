@@ -0,0 +1,13 @@
+-- Deactivate all but the latest active plan of users left with multiple active plans
+UPDATE user_plan_mappings stale
+  JOIN user_plan_mappings latest
+    ON latest.user_id = stale.user_id
+   AND latest.is_active = 1
+   AND (latest.created_at > stale.created_at OR (latest.created_at = stale.created_at AND latest.id > stale.id))
+SET stale.is_active = 0
+WHERE stale.is_active = 1;
+
+-- Enforce a single active plan per user, the generated column being NULL for inactive plans which unique indexes ignore
+ALTER TABLE user_plan_mappings
+  ADD COLUMN active_user_id BINARY(16) GENERATED ALWAYS AS (IF(is_active = 1, user_id, NULL)) STORED,
+  ADD CONSTRAINT uk_user_plan_mappings_active_user_id UNIQUE (active_user_id);
@@ -0,0 +1,3 @@
+-- Cover lookups of a user's active plan, resolving the plan-id from the index alone regardless of the user's plan history
+CREATE INDEX idx_user_plan_mappings_active_plan
+  ON user_plan_mappings (user_id, is_active, plan_id);
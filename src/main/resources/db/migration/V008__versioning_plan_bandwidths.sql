@@ -0,0 +1,9 @@
+-- Refresh updated_at of the owning plan on every change to its bandwidths, which are part of the plan's rate limit configuration
+CREATE TRIGGER trg_plan_bandwidths_after_insert AFTER INSERT ON plan_bandwidths
+  FOR EACH ROW UPDATE plans SET updated_at = CURRENT_TIMESTAMP(3) WHERE id = NEW.plan_id;
+
+CREATE TRIGGER trg_plan_bandwidths_after_update AFTER UPDATE ON plan_bandwidths
+  FOR EACH ROW UPDATE plans SET updated_at = CURRENT_TIMESTAMP(3) WHERE id IN (OLD.plan_id, NEW.plan_id);
+
+CREATE TRIGGER trg_plan_bandwidths_after_delete AFTER DELETE ON plan_bandwidths
+  FOR EACH ROW UPDATE plans SET updated_at = CURRENT_TIMESTAMP(3) WHERE id = OLD.plan_id;
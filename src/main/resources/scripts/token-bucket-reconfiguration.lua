@@ -0,0 +1,108 @@
+-- Reconfigures an existing token bucket in place with the bandwidths of another
+-- plan, carrying its available tokens over, evaluated atomically inside Redis.
+--
+-- KEYS[1] : key of the hash holding the user's bucket, laid out as described in token-bucket.lua
+-- ARGV[1] : tokens inheritance strategy, one of PROPORTIONALLY, AS_IS, RESET or ADDITIVE
+-- ARGV[2] : refill strategy of the new bandwidths, either GREEDY or INTERVAL
+-- ARGV[3..] : capacity and refill period in milliseconds of each new bandwidth, in pairs
+--
+-- Bandwidths are matched by position, the first being the hourly quota. Bandwidths
+-- without a counterpart in the existing bucket start full, as they would in a new
+-- bucket. A missing bucket is left missing, being created with the new bandwidths on
+-- its next consumption.
+--
+-- Returns 1 if the bucket was reconfigured, 0 if it is missing
+
+local key = KEYS[1]
+local inheritanceStrategy = ARGV[1]
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local state = {}
+local entries = redis.call('HGETALL', key)
+for i = 1, #entries, 2 do
+  state[entries[i]] = entries[i + 1]
+end
+
+local count = tonumber(state['n'])
+if count == nil then
+  return 0
+end
+
+-- brings the existing bandwidths up to date, so that tokens due until now are carried over
+local greedy = state['g'] == '1'
+local previous = {}
+for i = 1, count do
+  local bandwidth = {
+    capacity = tonumber(state['c' .. i]),
+    tokens = tonumber(state['t' .. i]),
+    refilledAt = tonumber(state['r' .. i]),
+    period = tonumber(state['p' .. i])
+  }
+  if greedy then
+    local refilled = (now - bandwidth.refilledAt) * bandwidth.capacity / bandwidth.period
+    bandwidth.tokens = math.min(bandwidth.capacity, bandwidth.tokens + refilled)
+    bandwidth.refilledAt = now
+  else
+    local elapsedPeriods = math.floor((now - bandwidth.refilledAt) / bandwidth.period)
+    if elapsedPeriods > 0 then
+      bandwidth.tokens = math.min(bandwidth.capacity, bandwidth.tokens + elapsedPeriods * bandwidth.capacity)
+      bandwidth.refilledAt = bandwidth.refilledAt + elapsedPeriods * bandwidth.period
+    end
+  end
+  previous[i] = bandwidth
+end
+
+greedy = ARGV[2] == 'GREEDY'
+count = (#ARGV - 2) / 2
+local bandwidths = {}
+for i = 1, count do
+  local capacity = tonumber(ARGV[2 * i + 1])
+  local period = tonumber(ARGV[2 * i + 2])
+  local tokens = capacity
+  local refilledAt = now
+  local prior = previous[i]
+  if prior ~= nil and inheritanceStrategy ~= 'RESET' then
+    if inheritanceStrategy == 'PROPORTIONALLY' then
+      tokens = prior.tokens * capacity / prior.capacity
+    elseif inheritanceStrategy == 'ADDITIVE' and capacity > prior.capacity then
+      tokens = prior.tokens + capacity - prior.capacity
+    else
+      tokens = prior.tokens
+    end
+    tokens = math.min(capacity, tokens)
+    if not greedy then
+      tokens = math.floor(tokens)
+      -- the refill schedule is kept while the period is unchanged, restarting otherwise
+      if period == prior.period then
+        refilledAt = prior.refilledAt
+      end
+    end
+  end
+  bandwidths[i] = { capacity = capacity, tokens = tokens, refilledAt = refilledAt, period = period }
+end
+
+local millisToFull = 1
+local fields = { 'n', count, 'g', greedy and 1 or 0 }
+for i, bandwidth in ipairs(bandwidths) do
+  table.insert(fields, 'c' .. i)
+  table.insert(fields, bandwidth.capacity)
+  table.insert(fields, 't' .. i)
+  table.insert(fields, bandwidth.tokens)
+  table.insert(fields, 'r' .. i)
+  table.insert(fields, bandwidth.refilledAt)
+  table.insert(fields, 'p' .. i)
+  table.insert(fields, bandwidth.period)
+  if greedy then
+    millisToFull = math.max(millisToFull, math.ceil((bandwidth.capacity - bandwidth.tokens) * bandwidth.period / bandwidth.capacity))
+  else
+    millisToFull = math.max(millisToFull, bandwidth.refilledAt + bandwidth.period - now)
+  end
+end
+-- discards fields of bandwidths the new plan no longer carries
+redis.call('DEL', key)
+redis.call('HSET', key, unpack(fields))
+redis.call('PEXPIRE', key, millisToFull)
+
+return 1
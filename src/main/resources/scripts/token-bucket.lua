@@ -0,0 +1,123 @@
+-- Token bucket with one or more bandwidths, evaluated atomically inside Redis.
+-- Tokens are consumed only if available in every bandwidth.
+--
+-- KEYS[1] : key of the hash holding the user's bucket
+-- ARGV[1] : number of tokens to consume
+-- ARGV[2] : refill strategy of the bandwidths, either GREEDY or INTERVAL. Passed
+--           as an empty string when unknown, in which case a missing bucket is
+--           reported back instead of being created
+-- ARGV[3..] : capacity and refill period in milliseconds of each bandwidth, in
+--           pairs. Only read when the bucket is created
+--
+-- Hash fields:
+--   n  : number of bandwidths
+--   g  : 1 if tokens are refilled greedily, 0 if refilled in full every period
+--   cI : capacity of the I-th bandwidth
+--   tI : available tokens of the I-th bandwidth, fractional if refilled greedily
+--   rI : timestamp (ms) of the last refill of the I-th bandwidth
+--   pI : refill period (ms) of the I-th bandwidth
+--
+-- Returns { consumed (1 or 0, -1 if bucket is missing), remaining tokens, nanos to wait for refill }
+
+local key = KEYS[1]
+local requested = tonumber(ARGV[1])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local state = {}
+local entries = redis.call('HGETALL', key)
+for i = 1, #entries, 2 do
+  state[entries[i]] = entries[i + 1]
+end
+
+local count = tonumber(state['n'])
+local greedy
+local bandwidths = {}
+if count == nil then
+  if ARGV[2] == '' then
+    return { -1, 0, 0 }
+  end
+  greedy = ARGV[2] == 'GREEDY'
+  count = (#ARGV - 2) / 2
+  for i = 1, count do
+    local capacity = tonumber(ARGV[2 * i + 1])
+    bandwidths[i] = { capacity = capacity, tokens = capacity, refilledAt = now, period = tonumber(ARGV[2 * i + 2]) }
+  end
+  -- discards fields of a bucket stored in a prior layout
+  redis.call('DEL', key)
+else
+  greedy = state['g'] == '1'
+  for i = 1, count do
+    bandwidths[i] = {
+      capacity = tonumber(state['c' .. i]),
+      tokens = tonumber(state['t' .. i]),
+      refilledAt = tonumber(state['r' .. i]),
+      period = tonumber(state['p' .. i])
+    }
+  end
+end
+
+local available = math.huge
+for _, bandwidth in ipairs(bandwidths) do
+  if greedy then
+    local refilled = (now - bandwidth.refilledAt) * bandwidth.capacity / bandwidth.period
+    bandwidth.tokens = math.min(bandwidth.capacity, bandwidth.tokens + refilled)
+    bandwidth.refilledAt = now
+  else
+    local elapsedPeriods = math.floor((now - bandwidth.refilledAt) / bandwidth.period)
+    if elapsedPeriods > 0 then
+      bandwidth.tokens = math.min(bandwidth.capacity, bandwidth.tokens + elapsedPeriods * bandwidth.capacity)
+      bandwidth.refilledAt = bandwidth.refilledAt + elapsedPeriods * bandwidth.period
+    end
+  end
+  available = math.min(available, bandwidth.tokens)
+end
+
+local consumed = 0
+local nanosToWait = 0
+if available >= requested then
+  consumed = 1
+  available = math.huge
+  for _, bandwidth in ipairs(bandwidths) do
+    bandwidth.tokens = bandwidth.tokens - requested
+    available = math.min(available, bandwidth.tokens)
+  end
+else
+  -- the tokens are due once the slowest of the lacking bandwidths is refilled
+  for _, bandwidth in ipairs(bandwidths) do
+    local deficit = requested - bandwidth.tokens
+    if deficit > 0 then
+      local millisToWait
+      if greedy then
+        millisToWait = math.ceil(deficit * bandwidth.period / bandwidth.capacity)
+      else
+        millisToWait = bandwidth.refilledAt + math.ceil(deficit / bandwidth.capacity) * bandwidth.period - now
+      end
+      nanosToWait = math.max(nanosToWait, millisToWait * 1000000)
+    end
+  end
+end
+
+-- every bandwidth is full again post the longest time to refill, following which an idle key carries no state worth keeping
+local millisToFull = 1
+local fields = { 'n', count, 'g', greedy and 1 or 0 }
+for i, bandwidth in ipairs(bandwidths) do
+  table.insert(fields, 'c' .. i)
+  table.insert(fields, bandwidth.capacity)
+  table.insert(fields, 't' .. i)
+  table.insert(fields, bandwidth.tokens)
+  table.insert(fields, 'r' .. i)
+  table.insert(fields, bandwidth.refilledAt)
+  table.insert(fields, 'p' .. i)
+  table.insert(fields, bandwidth.period)
+  if greedy then
+    millisToFull = math.max(millisToFull, math.ceil((bandwidth.capacity - bandwidth.tokens) * bandwidth.period / bandwidth.capacity))
+  else
+    millisToFull = math.max(millisToFull, bandwidth.refilledAt + bandwidth.period - now)
+  end
+end
+redis.call('HSET', key, unpack(fields))
+redis.call('PEXPIRE', key, millisToFull)
+
+return { consumed, math.floor(available), nanosToWait }
@@ -12,7 +12,8 @@ import lombok.extern.slf4j.Slf4j;
 public class MySQLDataSourceInitializer implements BeforeAllCallback {
 
 	private static final DockerImageName MYSQL_IMAGE = DockerImageName.parse("mysql:8");
-	private static final MySQLContainer<?> mySQLContainer = new MySQLContainer<>(MYSQL_IMAGE);
+	private static final MySQLContainer<?> mySQLContainer = new MySQLContainer<>(MYSQL_IMAGE)
+			.withCommand("--log-bin-trust-function-creators=1");
 
 	@Override
 	public void beforeAll(final ExtensionContext context) {
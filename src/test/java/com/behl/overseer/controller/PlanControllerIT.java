@@ -1,9 +1,12 @@
 package com.behl.overseer.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -14,12 +17,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.configurationprocessor.json.JSONObject;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.behl.overseer.InitializeApplicationSecretKey;
 import com.behl.overseer.InitializeMysqlContainer;
 import com.behl.overseer.InitializeRedisContainer;
+import com.behl.overseer.service.PlanCatalogue;
 import com.behl.overseer.service.PlanService;
 
 import lombok.SneakyThrows;
@@ -37,6 +43,12 @@ class PlanControllerIT {
 	
 	@Autowired
 	private PlanService planService;
+
+	@Autowired
+	private PlanCatalogue planCatalogue;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
 	
 	@Test
 	@SneakyThrows
@@ -51,6 +63,53 @@ class PlanControllerIT {
 			.andExpect(jsonPath("$.[*].LimitPerHour").exists());
 	}
 	
+	@Test
+	@SneakyThrows
+	void shouldRespondNotModifiedForCurrentEtag() {
+		// execute API request and extract ETag of available plans
+		final var apiPath = "/api/v1/plan";
+		final var etag = mockMvc.perform(get(apiPath))
+			.andExpect(status().isOk())
+			.andExpect(header().exists(HttpHeaders.ETAG))
+			.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		// execute API request with extracted ETag and assert no content is returned
+		mockMvc.perform(get(apiPath).header(HttpHeaders.IF_NONE_MATCH, etag))
+			.andExpect(status().isNotModified())
+			.andExpect(header().string(HttpHeaders.ETAG, etag))
+			.andExpect(content().bytes(new byte[0]));
+	}
+
+	@Test
+	@SneakyThrows
+	void shouldServeNewEtagPostChangeOfPlanInDatasource() {
+		// record latest update of plans and extract ETag of available plans
+		planCatalogue.refresh();
+		final var apiPath = "/api/v1/plan";
+		final var etag = mockMvc.perform(get(apiPath))
+			.andExpect(status().isOk())
+			.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		// add a bandwidth to a plan directly in the datasource
+		final var planId = planService.retrieve().get(0).getId().toString();
+		jdbcTemplate.update("INSERT INTO plan_bandwidths (plan_id, capacity, period_seconds) VALUES (UUID_TO_BIN(?), 5, 1)", planId);
+		try {
+			// check for changes to plans
+			planCatalogue.refresh();
+
+			// execute API request with previous ETag and assert changed plans are served with a new ETag
+			final var refreshedEtag = mockMvc.perform(get(apiPath).header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.[*].Bandwidths[*].Capacity").value(5))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+			assertThat(refreshedEtag).isNotEqualTo(etag);
+		} finally {
+			// restore plans as seeded by migration scripts
+			jdbcTemplate.update("DELETE FROM plan_bandwidths WHERE plan_id = UUID_TO_BIN(?)", planId);
+			planCatalogue.refresh();
+		}
+	}
+
 	@Test
 	@SneakyThrows
 	void shouldUpdateUserPlanSuccessfully() {
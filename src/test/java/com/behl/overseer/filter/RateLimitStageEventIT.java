@@ -0,0 +1,164 @@
+package com.behl.overseer.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.configurationprocessor.json.JSONObject;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.behl.overseer.InitializeApplicationSecretKey;
+import com.behl.overseer.InitializeMysqlContainer;
+import com.behl.overseer.InitializeRedisContainer;
+import com.behl.overseer.service.PlanService;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.SneakyThrows;
+import net.bytebuddy.utility.RandomString;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@InitializeRedisContainer
+@InitializeMysqlContainer
+@InitializeApplicationSecretKey
+class RateLimitStageEventIT {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private PlanService planService;
+
+	@TempDir
+	private Path recordingDirectory;
+
+	@Test
+	@SneakyThrows
+	void shouldRecordEventsForEachStageOfRequestEvaluationWithBundledProfile() {
+		// get valid user access token
+		final var accessToken = createUserAndGenerateAccessToken();
+
+		// start recording with bundled settings file
+		final var settingsFile = new ClassPathResource("jfr/overseer.jfc");
+		final Configuration configuration;
+		try (final var reader = new InputStreamReader(settingsFile.getInputStream(), StandardCharsets.UTF_8)) {
+			configuration = Configuration.create(reader);
+		}
+		final var recordingFile = recordingDirectory.resolve("overseer.jfr");
+		try (final var recording = new Recording(configuration)) {
+			recording.start();
+
+			// invoke public and private endpoints
+			mockMvc.perform(get("/api/v1/plan"))
+				.andExpect(status().isOk());
+			for (int i = 0; i < 3; i++) {
+				mockMvc.perform(get("/api/v1/joke")
+						.header("Authorization", "Bearer " + accessToken))
+						.andExpect(status().isOk());
+			}
+
+			recording.stop();
+			recording.dump(recordingFile);
+		}
+
+		// read recorded events
+		final var events = RecordingFile.readAllEvents(recordingFile);
+
+		// assert events recorded for each stage along with their outcomes
+		assertThat(outcomesOf(events, "com.behl.overseer.PublicEndpointInspection"))
+			.contains(PublicEndpointInspectionEvent.PUBLIC, PublicEndpointInspectionEvent.SECURED);
+		assertThat(outcomesOf(events, "com.behl.overseer.JwtVerification"))
+			.containsExactly(JwtVerificationEvent.VERIFIED);
+		assertThat(outcomesOf(events, "com.behl.overseer.BypassCheck"))
+			.containsExactly(BypassCheckEvent.ENFORCED);
+		assertThat(outcomesOf(events, "com.behl.overseer.BucketLookup"))
+			.containsExactly(BucketLookupEvent.RESOLVED);
+		assertThat(outcomesOf(events, "com.behl.overseer.RemoteConsumption"))
+			.containsExactly(RemoteConsumptionEvent.CONSUMED);
+	}
+
+	@Test
+	void eventsShouldBeDisabledByDefault() {
+		// start recording without any settings
+		try (final var recording = new Recording()) {
+			recording.start();
+
+			// assert stage events are not enabled for commit
+			assertThat(new PublicEndpointInspectionEvent().isEnabled()).isFalse();
+			assertThat(new JwtVerificationEvent().isEnabled()).isFalse();
+			assertThat(new BypassCheckEvent().isEnabled()).isFalse();
+			assertThat(new BucketLookupEvent().isEnabled()).isFalse();
+			assertThat(new RemoteConsumptionEvent().isEnabled()).isFalse();
+		}
+	}
+
+	private Set<String> outcomesOf(final List<RecordedEvent> events, final String eventName) {
+		return events.stream()
+				.filter(event -> eventName.equals(event.getEventType().getName()))
+				.map(event -> event.getString("outcome"))
+				.collect(Collectors.toSet());
+	}
+
+	@SneakyThrows
+	private String createUserAndGenerateAccessToken() {
+		// fetch plan from datasource
+		final var plan = planService.retrieve().get(0);
+
+		// prepare API request body to create user
+		final var emailId = RandomString.make() + "@domain.it";
+		final var password = RandomString.make();
+		final var userCreationRequestBody = String.format("""
+		{
+			"EmailId"  : "%s",
+			"Password" : "%s",
+			"PlanId"   : "%s"
+		}
+		""", emailId, password, plan.getId());
+
+		// execute API request to create user
+		mockMvc.perform(post("/api/v1/user")
+			.contentType(MediaType.APPLICATION_JSON)
+			.content(userCreationRequestBody))
+			.andExpect(status().isCreated());
+
+		// prepare API request body for login with valid credentials
+		final var loginRequestBody = String.format("""
+		{
+			"EmailId"  : "%s",
+			"Password" : "%s"
+		}
+		""", emailId, password);
+
+		// execute API request for login
+		final var response = mockMvc.perform(post("/api/v1/auth/login")
+			.contentType(MediaType.APPLICATION_JSON)
+			.content(loginRequestBody))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.AccessToken").exists())
+			.andReturn();
+
+		final var jsonResponse = response.getResponse().getContentAsString();
+		final var jsonObject = new JSONObject(jsonResponse);
+		return jsonObject.getString("AccessToken");
+	}
+
+}
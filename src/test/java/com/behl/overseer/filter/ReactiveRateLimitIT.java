@@ -0,0 +1,187 @@
+package com.behl.overseer.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.configurationprocessor.json.JSONObject;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.behl.overseer.InitializeApplicationSecretKey;
+import com.behl.overseer.InitializeMysqlContainer;
+import com.behl.overseer.InitializeRedisContainer;
+import com.behl.overseer.service.PlanService;
+
+import lombok.SneakyThrows;
+import net.bytebuddy.utility.RandomString;
+
+/**
+ * Executes the rate limiting scenarios of the servlet deployment against the
+ * reactive deployment, activated through the {@code reactive} profile.
+ */
+@ActiveProfiles("reactive")
+@AutoConfigureWebTestClient
+@InitializeRedisContainer
+@InitializeMysqlContainer
+@InitializeApplicationSecretKey
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = "spring.main.web-application-type=reactive")
+class ReactiveRateLimitIT {
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Autowired
+	private PlanService planService;
+
+	@Test
+	void shouldReturnUnauthorizedForMissingAccessToken() {
+		// invoke private joke endpoint without token and assert response
+		webTestClient.get().uri("/api/v1/joke")
+			.exchange()
+			.expectStatus().isUnauthorized()
+			.expectBody()
+			.jsonPath("$.Status").isEqualTo(HttpStatus.UNAUTHORIZED.toString())
+			.jsonPath("$.Description").isEqualTo("Authentication failure: Token missing, invalid or expired");
+	}
+
+	@Test
+	void shouldServePublicEndpointWithoutAccessToken() {
+		// invoke public plan retrieval endpoint and assert response
+		webTestClient.get().uri("/api/v1/plan")
+			.exchange()
+			.expectStatus().isOk()
+			.expectHeader().doesNotExist("X-Rate-Limit-Remaining");
+	}
+
+	@Test
+	void shouldServeSwaggerUiWithoutAccessToken() {
+		// invoke swagger ui endpoint and assert redirection to the webjar it is served from
+		final var location = webTestClient.get().uri("/swagger-ui.html")
+			.exchange()
+			.expectStatus().is3xxRedirection()
+			.returnResult(Void.class)
+			.getResponseHeaders().getLocation();
+		assertThat(location).isNotNull();
+		assertThat(location.getPath()).endsWith("/swagger-ui/index.html");
+
+		// invoke redirected swagger ui and api docs endpoints and assert response
+		webTestClient.get().uri(location.getPath())
+			.exchange()
+			.expectStatus().isOk()
+			.expectHeader().doesNotExist("X-Rate-Limit-Remaining");
+		webTestClient.get().uri("/v3/api-docs")
+			.exchange()
+			.expectStatus().isOk()
+			.expectBody().jsonPath("$.info.title").isEqualTo("Overseer");
+	}
+
+	@Test
+	void shouldThrowRateLimitErrorIfJokeEndpointIsSpammed() {
+		// get valid user access token
+		final var accessToken = createUserAndGenerateAccessToken();
+
+		// invoke private joke endpoint intially with token
+		final var apiPath = "/api/v1/joke";
+		final var headerResponse = webTestClient.get().uri(apiPath)
+			.header("Authorization", "Bearer " + accessToken)
+			.exchange()
+			.expectStatus().isOk()
+			.expectHeader().exists("X-Rate-Limit-Remaining")
+			.expectBody().jsonPath("$.Joke").isNotEmpty()
+			.returnResult()
+			.getResponseHeaders().getFirst("X-Rate-Limit-Remaining");
+
+		// exhaust available rate limit
+		final var rateLimitRemaining = Integer.parseInt(headerResponse);
+		for (int i = 0; i < rateLimitRemaining; i++) {
+			webTestClient.get().uri(apiPath)
+				.header("Authorization", "Bearer " + accessToken)
+				.exchange()
+				.expectStatus().isOk()
+				.expectHeader().exists("X-Rate-Limit-Remaining");
+		}
+
+		// invoke endpoint after rate limit exhaustion
+		webTestClient.get().uri(apiPath)
+			.header("Authorization", "Bearer " + accessToken)
+			.exchange()
+			.expectStatus().isEqualTo(HttpStatus.TOO_MANY_REQUESTS)
+			.expectHeader().exists("X-Rate-Limit-Retry-After-Seconds")
+			.expectBody()
+			.jsonPath("$.Status").isEqualTo(HttpStatus.TOO_MANY_REQUESTS.toString())
+			.jsonPath("$.Description").isEqualTo("API request limit linked to your current plan has been exhausted.");
+	}
+
+	@Test
+	void shouldBypassRateLimitForAnnotatedEndpoint() {
+		// get valid user access token
+		final var accessToken = createUserAndGenerateAccessToken();
+		final var planId = planService.retrieve().get(0).getId();
+
+		// invoke bypassed plan updation endpoint and assert response
+		final var result = webTestClient.put().uri("/api/v1/plan")
+			.header("Authorization", "Bearer " + accessToken)
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue(String.format("""
+			{
+				"PlanId" : "%s"
+			}
+			""", planId))
+			.exchange()
+			.expectStatus().isOk()
+			.returnResult(Void.class);
+		assertThat(result.getResponseHeaders().containsKey("X-Rate-Limit-Remaining")).isFalse();
+	}
+
+	@SneakyThrows
+	private String createUserAndGenerateAccessToken() {
+		// fetch plan from datasource
+		final var plan = planService.retrieve().get(0);
+
+		// prepare API request body to create user
+		final var emailId = RandomString.make() + "@domain.it";
+		final var password = RandomString.make();
+		final var userCreationRequestBody = String.format("""
+		{
+			"EmailId"  : "%s",
+			"Password" : "%s",
+			"PlanId"   : "%s"
+		}
+		""", emailId, password, plan.getId());
+
+		// execute API request to create user
+		webTestClient.post().uri("/api/v1/user")
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue(userCreationRequestBody)
+			.exchange()
+			.expectStatus().isCreated();
+
+		// prepare API request body for login with valid credentials
+		final var loginRequestBody = String.format("""
+		{
+			"EmailId"  : "%s",
+			"Password" : "%s"
+		}
+		""", emailId, password);
+
+		// execute API request for login
+		final var response = webTestClient.post().uri("/api/v1/auth/login")
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue(loginRequestBody)
+			.exchange()
+			.expectStatus().isOk()
+			.expectBody(String.class)
+			.returnResult()
+			.getResponseBody();
+
+		final var jsonObject = new JSONObject(response);
+		return jsonObject.getString("AccessToken");
+	}
+
+}
@@ -2,11 +2,15 @@ package com.behl.overseer.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.sql.Timestamp;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import com.behl.overseer.InitializeMysqlContainer;
+import com.behl.overseer.entity.Plan.RefillStrategy;
 
 @DataJpaTest
 @InitializeMysqlContainer
@@ -15,8 +19,12 @@ class PlanRepositoryIT {
 	@Autowired
 	private PlanRepository planRepository;
 
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
 	/**
 	 * @see src/main/resources/db/migration/V002__adding_plans.sql
+	 * @see src/main/resources/db/migration/V004__adding_plan_bandwidths.sql
 	 */
 	@Test
 	void evaluateRunOfFlywayMigrationScript() {
@@ -29,9 +37,29 @@ class PlanRepositoryIT {
 			assertThat(plan.getId()).isNotNull();
 			assertThat(plan.getName()).isNotNull();
 			assertThat(plan.getLimitPerHour()).isNotNull();
+			assertThat(plan.getRefillStrategy()).isEqualTo(RefillStrategy.INTERVAL);
+			assertThat(plan.getBandwidths()).isEmpty();
 			assertThat(plan.getCreatedAt()).isNotNull();
 			assertThat(plan.getUpdatedAt()).isNotNull();
 		});
 	}
 
-}
\ No newline at end of file
+	/**
+	 * @see src/main/resources/db/migration/V008__versioning_plan_bandwidths.sql
+	 */
+	@Test
+	void shouldRefreshPlanUpdatedAtOnChangeOfBandwidths() {
+		// fetch configuration version of a plan from datasource
+		final var planId = planRepository.findAll().get(0).getId();
+		final var updatedAtQuery = "SELECT updated_at FROM plans WHERE id = UUID_TO_BIN(?)";
+		final var updatedAt = jdbcTemplate.queryForObject(updatedAtQuery, Timestamp.class, planId.toString());
+
+		// insert a bandwidth for the plan directly in the datasource
+		jdbcTemplate.update("INSERT INTO plan_bandwidths (plan_id, capacity, period_seconds) VALUES (UUID_TO_BIN(?), 5, 1)", planId.toString());
+
+		// assert updated_at of plan is refreshed
+		final var refreshedUpdatedAt = jdbcTemplate.queryForObject(updatedAtQuery, Timestamp.class, planId.toString());
+		assertThat(refreshedUpdatedAt).isAfter(updatedAt);
+	}
+
+}
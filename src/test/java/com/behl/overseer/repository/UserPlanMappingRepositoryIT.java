@@ -1,10 +1,12 @@
 package com.behl.overseer.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import com.behl.overseer.InitializeMysqlContainer;
 import com.behl.overseer.entity.User;
@@ -86,6 +88,41 @@ class UserPlanMappingRepositoryIT {
 		assertThat(fetchedUserPlanMapping.getPlanId()).isEqualTo(plan.getId());
 	}
 
+	@Test
+	void shouldFindActivePlanForUser() {
+		// insert test user record in datasource
+		final var emailId = RandomString.make();
+		final var password = RandomString.make();
+		final var user = new User();
+		user.setEmailId(emailId);
+		user.setPassword(password);
+		final var savedUser = userRepository.save(user);
+
+		// fetch plan records from datasource
+		final var plans = planRepository.findAll();
+		final var previousPlan = plans.get(0);
+		final var activePlan = plans.get(1);
+
+		// insert a deactivated and an active user plan mapping record
+		final var previousUserPlanMapping = new UserPlanMapping();
+		previousUserPlanMapping.setUserId(savedUser.getId());
+		previousUserPlanMapping.setPlanId(previousPlan.getId());
+		userPlanMappingRepository.saveAndFlush(previousUserPlanMapping);
+		userPlanMappingRepository.deactivateCurrentPlan(savedUser.getId());
+		final var activeUserPlanMapping = new UserPlanMapping();
+		activeUserPlanMapping.setUserId(savedUser.getId());
+		activeUserPlanMapping.setPlanId(activePlan.getId());
+		userPlanMappingRepository.saveAndFlush(activeUserPlanMapping);
+
+		// invoke method under test
+		final var fetchedPlan = userPlanMappingRepository.findActivePlan(savedUser.getId());
+
+		// assert the fetched plan is user's active plan
+		assertThat(fetchedPlan.getId()).isEqualTo(activePlan.getId());
+		assertThat(fetchedPlan.getLimitPerHour()).isEqualTo(activePlan.getLimitPerHour());
+		assertThat(fetchedPlan.getBandwidths()).hasSameSizeAs(activePlan.getBandwidths());
+	}
+
 	@Test
 	void shouldEvaluateActiveUserPlanByPlanId() {
 		// insert test user record in datasource
@@ -117,4 +154,62 @@ class UserPlanMappingRepositoryIT {
 		assertThat(response).isFalse();
 	}
 
-}
\ No newline at end of file
+	@Test
+	void shouldDeactivateCurrentPlanOfUserUnlessProvidedPlanIsActive() {
+		// insert test user record in datasource
+		final var emailId = RandomString.make();
+		final var password = RandomString.make();
+		final var user = new User();
+		user.setEmailId(emailId);
+		user.setPassword(password);
+		final var savedUser = userRepository.save(user);
+
+		// fetch plan records from datasource
+		final var plans = planRepository.findAll();
+		final var userPlan = plans.get(0);
+		final var nonUserPlan = plans.get(1);
+
+		// insert an active user plan mapping record
+		final var userPlanMapping = new UserPlanMapping();
+		userPlanMapping.setUserId(savedUser.getId());
+		userPlanMapping.setPlanId(userPlan.getId());
+		userPlanMappingRepository.save(userPlanMapping);
+
+		// invoke method under test with active plan-id and assert nothing is deactivated
+		var deactivatedPlans = userPlanMappingRepository.deactivateCurrentPlan(savedUser.getId(), userPlan.getId());
+		assertThat(deactivatedPlans).isZero();
+		assertThat(userPlanMappingRepository.isActivePlan(savedUser.getId(), userPlan.getId())).isTrue();
+
+		// invoke method under test with another plan-id and assert current plan is deactivated
+		deactivatedPlans = userPlanMappingRepository.deactivateCurrentPlan(savedUser.getId(), nonUserPlan.getId());
+		assertThat(deactivatedPlans).isEqualTo(1);
+		assertThat(userPlanMappingRepository.isActivePlan(savedUser.getId(), userPlan.getId())).isFalse();
+	}
+
+	@Test
+	void shouldRejectMultipleActivePlansForUser() {
+		// insert test user record in datasource
+		final var emailId = RandomString.make();
+		final var password = RandomString.make();
+		final var user = new User();
+		user.setEmailId(emailId);
+		user.setPassword(password);
+		final var savedUser = userRepository.save(user);
+
+		// fetch plan records from datasource
+		final var plans = planRepository.findAll();
+
+		// insert an active user plan mapping record
+		final var userPlanMapping = new UserPlanMapping();
+		userPlanMapping.setUserId(savedUser.getId());
+		userPlanMapping.setPlanId(plans.get(0).getId());
+		userPlanMappingRepository.saveAndFlush(userPlanMapping);
+
+		// assert insertion of another active plan for the user is rejected
+		final var secondUserPlanMapping = new UserPlanMapping();
+		secondUserPlanMapping.setUserId(savedUser.getId());
+		secondUserPlanMapping.setPlanId(plans.get(1).getId());
+		assertThrows(DataIntegrityViolationException.class, () -> userPlanMappingRepository.saveAndFlush(secondUserPlanMapping));
+	}
+
+}
@@ -0,0 +1,199 @@
+package com.behl.overseer.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+import org.junit.jupiter.api.Test;
+
+import com.behl.overseer.configuration.RateLimitConfigurationProperties;
+
+import io.github.bucket4j.ConsumptionProbe;
+import lombok.SneakyThrows;
+
+class ConsumptionCoalescerTest {
+
+	/**
+	 * Wait for the bucket to refill a single token.
+	 */
+	private static final long NANOS_TO_WAIT_FOR_REFILL = TimeUnit.SECONDS.toNanos(2);
+	private static final long NANOS_TO_WAIT_FOR_RESET = TimeUnit.HOURS.toNanos(1);
+
+	private final UUID userId = UUID.randomUUID();
+	private final List<Long> remoteConsumptions = new CopyOnWriteArrayList<>();
+	private final CountDownLatch firstConsumptionStarted = new CountDownLatch(1);
+	private final CountDownLatch firstConsumptionReleased = new CountDownLatch(1);
+
+	@Test
+	@SneakyThrows
+	void shouldMergeConsumptionsQueuedWhileRemoteConsumptionIsInFlight() {
+		// prepare coalescer with a bucket holding enough tokens
+		final var consumptionCoalescer = createConsumptionCoalescer(true);
+		final var remoteConsumption = remoteConsumption(new AtomicLong(10));
+
+		// queue consumptions while first consumption is in flight
+		final var firstConsumption = consumeAsync(consumptionCoalescer, remoteConsumption);
+		firstConsumptionStarted.await();
+		final var queuedConsumptions = queueConsumptions(consumptionCoalescer, remoteConsumption, 3);
+		firstConsumptionReleased.countDown();
+
+		// assert queued consumptions are merged into a single remote consumption
+		assertThat(firstConsumption.get().getRemainingTokens()).isEqualTo(9);
+		assertThat(remoteConsumptions).containsExactly(1L, 3L);
+
+		// assert each queued consumption receives distinct remaining tokens
+		final var remainingTokens = queuedConsumptions.stream().map(CompletableFuture::join)
+				.peek(consumptionProbe -> assertThat(consumptionProbe.isConsumed()).isTrue())
+				.map(ConsumptionProbe::getRemainingTokens)
+				.toList();
+		assertThat(remainingTokens).containsExactlyInAnyOrder(8L, 7L, 6L);
+	}
+
+	@Test
+	@SneakyThrows
+	void shouldGrantRemainingTokensWhenFewerThanQueuedConsumptionsAreAvailable() {
+		// prepare coalescer with a bucket holding fewer tokens than consumptions
+		final var consumptionCoalescer = createConsumptionCoalescer(true);
+		final var remoteConsumption = remoteConsumption(new AtomicLong(2));
+
+		// queue consumptions while first consumption is in flight
+		final var firstConsumption = consumeAsync(consumptionCoalescer, remoteConsumption);
+		firstConsumptionStarted.await();
+		final var queuedConsumptions = queueConsumptions(consumptionCoalescer, remoteConsumption, 3);
+		firstConsumptionReleased.countDown();
+
+		// assert remaining token is consumed after merged consumption is rejected, followed by a single token rejection
+		assertThat(firstConsumption.get().isConsumed()).isTrue();
+		assertThat(remoteConsumptions).containsExactly(1L, 3L, 1L, 1L);
+
+		// assert a single queued consumption is granted and the rest are rejected
+		final var consumptionProbes = queuedConsumptions.stream().map(CompletableFuture::join).toList();
+		assertThat(consumptionProbes).filteredOn(ConsumptionProbe::isConsumed).hasSize(1)
+			.allSatisfy(consumptionProbe -> assertThat(consumptionProbe.getRemainingTokens()).isZero());
+		assertThat(consumptionProbes).filteredOn(consumptionProbe -> !consumptionProbe.isConsumed()).hasSize(2)
+			.allSatisfy(consumptionProbe -> assertThat(consumptionProbe.getNanosToWaitForRefill()).isEqualTo(NANOS_TO_WAIT_FOR_REFILL));
+	}
+
+	@Test
+	@SneakyThrows
+	void shouldReportWaitForOwnTokensWhenQueuedConsumptionsExceedAvailableTokens() {
+		// prepare coalescer with a bucket holding a single token
+		final var consumptionCoalescer = createConsumptionCoalescer(true);
+		final var remoteConsumption = remoteConsumption(new AtomicLong(1));
+
+		// queue consumptions exceeding the bucket while first consumption is in flight
+		final var firstConsumption = consumeAsync(consumptionCoalescer, remoteConsumption);
+		firstConsumptionStarted.await();
+		final var queuedConsumptions = queueConsumptions(consumptionCoalescer, remoteConsumption, 4);
+		firstConsumptionReleased.countDown();
+
+		// assert merged rejection is followed by a remote consumption of a single request's tokens
+		assertThat(firstConsumption.get().isConsumed()).isTrue();
+		assertThat(remoteConsumptions).containsExactly(1L, 4L, 1L);
+
+		// assert every queued consumption is rejected with the wait for a single token rather than for the whole queue
+		final var consumptionProbes = queuedConsumptions.stream().map(CompletableFuture::join).toList();
+		assertThat(consumptionProbes).hasSize(4).allSatisfy(consumptionProbe -> {
+			assertThat(consumptionProbe.isConsumed()).isFalse();
+			assertThat(consumptionProbe.getNanosToWaitForRefill()).isEqualTo(NANOS_TO_WAIT_FOR_REFILL);
+		});
+	}
+
+	@Test
+	void shouldReportWaitForRefillRatherThanResetOnRejection() {
+		// prepare coalescer with an exhausted bucket
+		final var consumptionCoalescer = createConsumptionCoalescer(true);
+		firstConsumptionReleased.countDown();
+
+		// consume token for user
+		final var consumptionProbe = consumptionCoalescer.tryConsume(userId, 1, remoteConsumption(new AtomicLong(0)));
+
+		// assert rejection carries the wait periods reported by the bucket as is
+		assertThat(consumptionProbe.isConsumed()).isFalse();
+		assertThat(consumptionProbe.getNanosToWaitForRefill()).isEqualTo(NANOS_TO_WAIT_FOR_REFILL);
+		assertThat(consumptionProbe.getNanosToWaitForReset()).isEqualTo(NANOS_TO_WAIT_FOR_RESET);
+	}
+
+	@Test
+	void shouldConsumeSingleTokenWhenDisabled() {
+		// prepare coalescer with feature disabled
+		final var consumptionCoalescer = createConsumptionCoalescer(false);
+		firstConsumptionReleased.countDown();
+
+		// consume tokens for user
+		final var remoteConsumption = remoteConsumption(new AtomicLong(10));
+		consumptionCoalescer.tryConsume(userId, 1, remoteConsumption);
+		final var consumptionProbe = consumptionCoalescer.tryConsume(userId, 1, remoteConsumption);
+
+		// assert each consumption is carried out individually
+		assertThat(consumptionProbe.getRemainingTokens()).isEqualTo(8);
+		assertThat(remoteConsumptions).containsExactly(1L, 1L);
+	}
+
+	private ConsumptionCoalescer createConsumptionCoalescer(final boolean enabled) {
+		final var properties = new RateLimitConfigurationProperties();
+		properties.getCoalescing().setEnabled(enabled);
+		return new ConsumptionCoalescer(properties);
+	}
+
+	/**
+	 * Returns a remote consumption against the provided available tokens, the
+	 * first invocation of which is held until released. Rejections report the wait
+	 * for the missing tokens to be refilled one after the other.
+	 */
+	private LongFunction<ConsumptionProbe> remoteConsumption(final AtomicLong availableTokens) {
+		return tokens -> {
+			remoteConsumptions.add(tokens);
+			firstConsumptionStarted.countDown();
+			awaitQuietly(firstConsumptionReleased);
+
+			final var remainingTokens = availableTokens.get() - tokens;
+			if (remainingTokens < 0) {
+				return ConsumptionProbe.rejected(availableTokens.get(), -remainingTokens * NANOS_TO_WAIT_FOR_REFILL, NANOS_TO_WAIT_FOR_RESET);
+			}
+			availableTokens.set(remainingTokens);
+			return ConsumptionProbe.consumed(remainingTokens, 0);
+		};
+	}
+
+	/**
+	 * Starts the provided number of consumptions and waits for all of them to be
+	 * parked behind the in-flight consumption.
+	 */
+	@SneakyThrows
+	private List<CompletableFuture<ConsumptionProbe>> queueConsumptions(final ConsumptionCoalescer consumptionCoalescer,
+			final LongFunction<ConsumptionProbe> remoteConsumption, final int count) {
+		final var consumptions = new ArrayList<CompletableFuture<ConsumptionProbe>>();
+		final var threads = new ArrayList<Thread>();
+		for (int i = 0; i < count; i++) {
+			final var consumption = new CompletableFuture<ConsumptionProbe>();
+			threads.add(Thread.ofVirtual().start(() -> consumption.complete(consumptionCoalescer.tryConsume(userId, 1, remoteConsumption))));
+			consumptions.add(consumption);
+		}
+		while (threads.stream().anyMatch(thread -> thread.getState() != Thread.State.WAITING)) {
+			Thread.sleep(1);
+		}
+		return consumptions;
+	}
+
+	private CompletableFuture<ConsumptionProbe> consumeAsync(final ConsumptionCoalescer consumptionCoalescer,
+			final LongFunction<ConsumptionProbe> remoteConsumption) {
+		final var consumption = new CompletableFuture<ConsumptionProbe>();
+		Thread.ofVirtual().start(() -> consumption.complete(consumptionCoalescer.tryConsume(userId, 1, remoteConsumption)));
+		return consumption;
+	}
+
+	@SneakyThrows
+	private void awaitQuietly(final CountDownLatch latch) {
+		latch.await();
+	}
+
+}
@@ -0,0 +1,204 @@
+package com.behl.overseer.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.behl.overseer.configuration.RateLimitConfigurationProperties;
+import com.behl.overseer.configuration.RateLimitConfigurationProperties.FallbackMode;
+import com.behl.overseer.utility.RateLimitMetrics;
+
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker.State;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class DistributedBucketCircuitBreakerTest {
+
+	private static final Duration CALL_TIMEOUT = Duration.ofMillis(50);
+
+	private final UUID userId = UUID.randomUUID();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final AtomicInteger remoteConsumptions = new AtomicInteger();
+
+	@Test
+	void shouldFallBackWhenRemoteConsumptionExceedsCallTimeout() {
+		// prepare breaker failing closed
+		final var circuitBreaker = createCircuitBreaker(FallbackMode.FAIL_CLOSED);
+
+		// consume tokens against a stalled remote bucket
+		final var consumptionProbe = circuitBreaker.tryConsume(userId, 1, stalledConsumption(), localConfiguration(5));
+
+		// assert consumption is abandoned and rejected as per fallback mode
+		assertThat(consumptionProbe.isConsumed()).isFalse();
+		assertThat(meterRegistry.get("overseer.rate-limit.fallback.decisions")
+				.tag("mode", "fail-closed").tag("outcome", "rejected").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldStopContactingRemoteBucketOnceOpened() {
+		// prepare breaker failing open
+		final var circuitBreaker = createCircuitBreaker(FallbackMode.FAIL_OPEN);
+
+		// fail enough consumptions to open the breaker
+		for (int i = 0; i < 2; i++) {
+			circuitBreaker.tryConsume(userId, 1, failingConsumption(), localConfiguration(5));
+		}
+		assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+
+		// assert further consumptions are allowed without contacting remote bucket
+		final var consumptionProbe = circuitBreaker.tryConsume(userId, 1, failingConsumption(), localConfiguration(5));
+		assertThat(consumptionProbe.isConsumed()).isTrue();
+		assertThat(remoteConsumptions).hasValue(2);
+		assertThat(meterRegistry.get("resilience4j.circuitbreaker.state").tag("state", "open").gauge().value()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldEnforceNodeLocalBucketWhenFallingBackLocally() {
+		// prepare breaker falling back to node-local buckets
+		final var circuitBreaker = createCircuitBreaker(FallbackMode.LOCAL);
+
+		// consume tokens against a failing remote bucket
+		final var consumptionProbes = new AtomicInteger();
+		for (int i = 0; i < 3; i++) {
+			if (circuitBreaker.tryConsume(userId, 1, failingConsumption(), localConfiguration(2)).isConsumed()) {
+				consumptionProbes.incrementAndGet();
+			}
+		}
+
+		// assert only the capacity of node-local bucket is allowed
+		assertThat(consumptionProbes).hasValue(2);
+	}
+
+	@Test
+	void shouldAllowWithoutChargingNodeLocalBucketWhenRemoteConsumptionExceedsCallTimeout() {
+		// prepare breaker falling back to node-local buckets
+		final var circuitBreaker = createCircuitBreaker(FallbackMode.LOCAL);
+
+		// consume tokens against a stalled remote bucket, followed by a failing one
+		final var timedOutConsumptionProbe = circuitBreaker.tryConsume(userId, 1, stalledConsumption(), localConfiguration(2));
+		final var failedConsumptionProbe = circuitBreaker.tryConsume(userId, 1, failingConsumption(), localConfiguration(2));
+
+		// assert timed out consumption is allowed without being charged to node-local bucket
+		assertThat(timedOutConsumptionProbe.isConsumed()).isTrue();
+		assertThat(failedConsumptionProbe.getRemainingTokens()).isEqualTo(1);
+		assertThat(meterRegistry.get("overseer.rate-limit.fallback.decisions")
+				.tag("mode", "fail-open").tag("outcome", "allowed").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldConsumeFromExistingNodeLocalBucketWhenAsyncRemoteConsumptionFails() {
+		// prepare breaker falling back to node-local buckets, holding a node-local bucket for user
+		final var circuitBreaker = createCircuitBreaker(FallbackMode.LOCAL);
+		circuitBreaker.tryConsume(userId, 1, failingConsumption(), localConfiguration(5));
+
+		// consume tokens against a failing remote bucket
+		final var consumptionProbe = circuitBreaker.tryConsumeAsync(userId, 1,
+				() -> CompletableFuture.failedFuture(new IllegalStateException("Redis unavailable")),
+				() -> CompletableFuture.failedFuture(new IllegalStateException("Configuration is not to be resolved")));
+
+		// assert token is consumed from existing node-local bucket
+		assertThat(consumptionProbe.join().getRemainingTokens()).isEqualTo(3);
+	}
+
+	@Test
+	void shouldFallBackWhenAsyncRemoteConsumptionFails() {
+		// prepare breaker falling back to node-local buckets
+		final var circuitBreaker = createCircuitBreaker(FallbackMode.LOCAL);
+
+		// consume tokens against a failing remote bucket
+		final var consumptionProbe = circuitBreaker.tryConsumeAsync(userId, 1,
+				() -> CompletableFuture.failedFuture(new IllegalStateException("Redis unavailable")),
+				() -> CompletableFuture.completedFuture(localConfiguration(5).get()));
+
+		// assert token is consumed from node-local bucket
+		assertThat(consumptionProbe.join().getRemainingTokens()).isEqualTo(4);
+	}
+
+	@Test
+	void shouldFallBackWhenRemoteReservationExceedsCallTimeout() {
+		// prepare breaker failing closed
+		final var circuitBreaker = createCircuitBreaker(FallbackMode.FAIL_CLOSED);
+
+		// reserve tokens against a stalled remote bucket
+		final var admission = circuitBreaker.tryConsumeWithin(userId, 1,
+				() -> CompletableFuture.completedFuture(stalledConsumption().get().isConsumed()), localConfiguration(5));
+
+		// assert reservation is abandoned and request is rejected right away
+		assertThat(admission).isCompletedWithValue(Boolean.FALSE);
+	}
+
+	@Test
+	void shouldSkipRemoteUpdatesOnceOpened() {
+		// prepare breaker failing open
+		final var circuitBreaker = createCircuitBreaker(FallbackMode.FAIL_OPEN);
+
+		// fail enough updates to open the breaker
+		for (int i = 0; i < 2; i++) {
+			assertThat(circuitBreaker.tryUpdate(userId, () -> failingConsumption().get())).isFalse();
+		}
+		assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+
+		// assert further updates are skipped without contacting remote bucket
+		assertThat(circuitBreaker.tryUpdate(userId, () -> failingConsumption().get())).isFalse();
+		assertThat(remoteConsumptions).hasValue(2);
+	}
+
+	@Test
+	void shouldConsumeRemotelyWhenDisabled() {
+		// prepare breaker with feature disabled
+		final var properties = new RateLimitConfigurationProperties();
+		final var circuitBreaker = new DistributedBucketCircuitBreaker(new RateLimitMetrics(meterRegistry), properties);
+
+		// consume tokens for user
+		final var consumptionProbe = circuitBreaker.tryConsume(userId, 1, () -> ConsumptionProbe.consumed(9, 0), localConfiguration(5));
+
+		// assert remote result is returned as is
+		assertThat(consumptionProbe.getRemainingTokens()).isEqualTo(9);
+	}
+
+	private DistributedBucketCircuitBreaker createCircuitBreaker(final FallbackMode fallbackMode) {
+		final var properties = new RateLimitConfigurationProperties();
+		final var circuitBreakerProperties = properties.getCircuitBreaker();
+		circuitBreakerProperties.setEnabled(true);
+		circuitBreakerProperties.setCallTimeout(CALL_TIMEOUT);
+		circuitBreakerProperties.setSlidingWindowSize(2);
+		circuitBreakerProperties.setMinimumNumberOfCalls(2);
+		circuitBreakerProperties.setFallbackMode(fallbackMode);
+		final var circuitBreaker = new DistributedBucketCircuitBreaker(new RateLimitMetrics(meterRegistry), properties);
+		circuitBreaker.bindTo(meterRegistry);
+		return circuitBreaker;
+	}
+
+	private Supplier<ConsumptionProbe> failingConsumption() {
+		return () -> {
+			remoteConsumptions.incrementAndGet();
+			throw new IllegalStateException("Redis unavailable");
+		};
+	}
+
+	private Supplier<ConsumptionProbe> stalledConsumption() {
+		return () -> {
+			remoteConsumptions.incrementAndGet();
+			try {
+				Thread.sleep(CALL_TIMEOUT.multipliedBy(20));
+			} catch (final InterruptedException exception) {
+				Thread.currentThread().interrupt();
+			}
+			return ConsumptionProbe.consumed(0, 0);
+		};
+	}
+
+	private Supplier<BucketConfiguration> localConfiguration(final long capacity) {
+		return () -> BucketConfiguration.builder()
+				.addLimit(limit -> limit.capacity(capacity).refillIntervally(capacity, Duration.ofHours(1)))
+				.build();
+	}
+
+}
@@ -0,0 +1,105 @@
+package com.behl.overseer.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.behl.overseer.InitializeApplicationSecretKey;
+import com.behl.overseer.InitializeMysqlContainer;
+import com.behl.overseer.entity.Plan;
+import com.behl.overseer.entity.User;
+import com.behl.overseer.entity.UserPlanMapping;
+import com.behl.overseer.repository.PlanRepository;
+import com.behl.overseer.repository.UserPlanMappingRepository;
+import com.behl.overseer.repository.UserRepository;
+
+import net.bytebuddy.utility.RandomString;
+
+/**
+ * Executes rate limiting scenarios against the node-local backend, without a
+ * Redis container being available.
+ */
+@DirtiesContext
+@InitializeMysqlContainer
+@InitializeApplicationSecretKey
+@SpringBootTest(properties = "com.behl.overseer.rate-limit.backend=local")
+class LocalBackendRateLimitingServiceIT {
+
+	@Autowired
+	private RateLimitingService rateLimitingService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PlanRepository planRepository;
+
+	@Autowired
+	private UserPlanMappingRepository userPlanMappingRepository;
+
+	@Test
+	void shouldRetainConsumedTokensInLocalBucket() {
+		// prepare test data in datasource
+		final var plan = planRepository.findAll().get(0);
+		final var user = createUserSubscribedTo(plan);
+
+		// consume tokens from user's bucket
+		final var tokensToConsume = 5;
+		rateLimitingService.getBucket(user.getId()).tryConsume(tokensToConsume);
+
+		// assert available tokens are retained on subsequent retrieval
+		final var bucket = rateLimitingService.getBucket(user.getId());
+		assertThat(bucket.getAvailableTokens()).isEqualTo(plan.getLimitPerHour() - tokensToConsume);
+	}
+
+	@Test
+	void shouldRejectConsumptionOnceLimitIsExhausted() {
+		// prepare test data in datasource
+		final var plan = planRepository.findAll().get(0);
+		final var user = createUserSubscribedTo(plan);
+
+		// consume all tokens allowed by the plan
+		for (int i = 0; i < plan.getLimitPerHour(); i++) {
+			assertThat(rateLimitingService.tryConsume(user.getId()).isConsumed()).isTrue();
+		}
+
+		// assert subsequent consumption is rejected with wait period
+		final var consumptionProbe = rateLimitingService.tryConsume(user.getId());
+		assertThat(consumptionProbe.isConsumed()).isFalse();
+		assertThat(consumptionProbe.getNanosToWaitForRefill()).isPositive();
+	}
+
+	@Test
+	void shouldRestoreBucketPostReset() {
+		// prepare test data in datasource
+		final var plan = planRepository.findAll().get(0);
+		final var user = createUserSubscribedTo(plan);
+
+		// consume tokens from user's bucket
+		rateLimitingService.getBucket(user.getId()).tryConsume(5);
+
+		// invoke method under test
+		rateLimitingService.reset(user.getId());
+
+		// assert bucket's available token are equal to original plan configuration
+		final var bucket = rateLimitingService.getBucket(user.getId());
+		assertThat(bucket.getAvailableTokens()).isEqualTo(Long.valueOf(plan.getLimitPerHour()));
+	}
+
+	private User createUserSubscribedTo(final Plan plan) {
+		final var user = new User();
+		user.setEmailId(RandomString.make());
+		user.setPassword(RandomString.make());
+		final var savedUser = userRepository.save(user);
+
+		final var userPlanMapping = new UserPlanMapping();
+		userPlanMapping.setUserId(savedUser.getId());
+		userPlanMapping.setPlanId(plan.getId());
+		userPlanMappingRepository.save(userPlanMapping);
+		return savedUser;
+	}
+
+}
@@ -0,0 +1,106 @@
+package com.behl.overseer.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.behl.overseer.configuration.RateLimitConfigurationProperties;
+
+import io.github.bucket4j.BucketConfiguration;
+
+class LocalBucketProviderTest {
+
+	private static final int LIMIT_PER_HOUR = 20;
+	private static final long CONFIGURATION_VERSION = 1;
+
+	private final LocalBucketProvider localBucketProvider = new LocalBucketProvider(new RateLimitConfigurationProperties());
+	private final AtomicInteger configurationsCreated = new AtomicInteger();
+
+	@Test
+	void shouldCreateBucketOnlyOnceAndRetainConsumedTokens() {
+		// retrieve bucket of user and consume tokens
+		final var userId = UUID.randomUUID();
+		final var tokensToConsume = 5;
+		localBucketProvider.getBucket(userId, CONFIGURATION_VERSION, this::createBucketConfiguration).tryConsume(tokensToConsume);
+
+		// retrieve bucket of user again
+		final var bucket = localBucketProvider.getBucket(userId, CONFIGURATION_VERSION, this::createBucketConfiguration);
+
+		// assert consumed tokens are retained and configuration is created only once
+		assertThat(bucket.getAvailableTokens()).isEqualTo(LIMIT_PER_HOUR - tokensToConsume);
+		assertThat(configurationsCreated).hasValue(1);
+	}
+
+	@Test
+	void shouldCreateFreshBucketPostRemoval() {
+		// retrieve bucket of user and consume tokens
+		final var userId = UUID.randomUUID();
+		localBucketProvider.getBucket(userId, CONFIGURATION_VERSION, this::createBucketConfiguration).tryConsume(5);
+
+		// invoke method under test
+		localBucketProvider.removeBucket(userId);
+
+		// assert fresh bucket is created on subsequent retrieval
+		final var bucket = localBucketProvider.getBucket(userId, CONFIGURATION_VERSION, this::createBucketConfiguration);
+		assertThat(bucket.getAvailableTokens()).isEqualTo(LIMIT_PER_HOUR);
+		assertThat(configurationsCreated).hasValue(2);
+	}
+
+	@Test
+	void shouldReconfigureBucketHoldingOlderConfigurationVersionInPlace() {
+		// retrieve bucket of user and consume half of its tokens
+		final var userId = UUID.randomUUID();
+		localBucketProvider.getBucket(userId, CONFIGURATION_VERSION, this::createBucketConfiguration).tryConsume(LIMIT_PER_HOUR / 2);
+
+		// retrieve bucket of user with a newer configuration doubling its capacity
+		final var bucket = localBucketProvider.getBucket(userId, CONFIGURATION_VERSION + 1, () -> createBucketConfiguration(LIMIT_PER_HOUR * 2));
+
+		// assert consumed tokens are carried over proportionally
+		assertThat(bucket.getAvailableTokens()).isEqualTo(LIMIT_PER_HOUR);
+		assertThat(configurationsCreated).hasValue(2);
+
+		// assert configuration is not replaced again for the same version
+		localBucketProvider.getBucket(userId, CONFIGURATION_VERSION + 1, this::createBucketConfiguration);
+		assertThat(configurationsCreated).hasValue(2);
+	}
+
+	@Test
+	void shouldReplaceConfigurationIrrespectiveOfVersion() {
+		// retrieve bucket of user and consume half of its tokens
+		final var userId = UUID.randomUUID();
+		localBucketProvider.getBucket(userId, CONFIGURATION_VERSION + 1, this::createBucketConfiguration).tryConsume(LIMIT_PER_HOUR / 2);
+
+		// invoke method under test with an older configuration version
+		localBucketProvider.replaceConfiguration(userId, CONFIGURATION_VERSION, createBucketConfiguration(LIMIT_PER_HOUR / 2));
+
+		// assert bucket is reconfigured without granting a fresh quota
+		final var bucket = localBucketProvider.getBucket(userId, CONFIGURATION_VERSION, this::createBucketConfiguration);
+		assertThat(bucket.getAvailableTokens()).isEqualTo(LIMIT_PER_HOUR / 4);
+	}
+
+	@Test
+	void shouldNotSupportAsynchronousMode() {
+		// assert asynchronous mode is not supported
+		assertThat(localBucketProvider.isAsyncModeSupported()).isFalse();
+		assertThrows(UnsupportedOperationException.class, () -> localBucketProvider.getAsyncBucket(UUID.randomUUID(), CONFIGURATION_VERSION,
+				() -> CompletableFuture.completedFuture(createBucketConfiguration())));
+	}
+
+	private BucketConfiguration createBucketConfiguration() {
+		return createBucketConfiguration(LIMIT_PER_HOUR);
+	}
+
+	private BucketConfiguration createBucketConfiguration(final long capacity) {
+		configurationsCreated.incrementAndGet();
+		return BucketConfiguration.builder()
+				.addLimit(limit -> limit.capacity(capacity).refillIntervally(capacity, Duration.ofHours(1)))
+				.build();
+	}
+
+}
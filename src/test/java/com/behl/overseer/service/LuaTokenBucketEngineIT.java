@@ -0,0 +1,207 @@
+package com.behl.overseer.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.behl.overseer.InitializeApplicationSecretKey;
+import com.behl.overseer.InitializeMysqlContainer;
+import com.behl.overseer.InitializeRedisContainer;
+import com.behl.overseer.entity.Plan;
+import com.behl.overseer.entity.Plan.RefillStrategy;
+import com.behl.overseer.entity.PlanBandwidth;
+import com.behl.overseer.entity.User;
+import com.behl.overseer.entity.UserPlanMapping;
+import com.behl.overseer.repository.PlanRepository;
+import com.behl.overseer.repository.UserPlanMappingRepository;
+import com.behl.overseer.repository.UserRepository;
+
+import net.bytebuddy.utility.RandomString;
+
+@DirtiesContext
+@InitializeRedisContainer
+@InitializeMysqlContainer
+@InitializeApplicationSecretKey
+@SpringBootTest(properties = "com.behl.overseer.rate-limit.engine=lua")
+class LuaTokenBucketEngineIT {
+
+	@Autowired
+	private RateLimitingService rateLimitingService;
+
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PlanRepository planRepository;
+
+	@SpyBean
+	private UserPlanMappingRepository userPlanMappingRepository;
+
+	@Test
+	void shouldConsumeTokensUntilPlanLimitIsExhausted() {
+		// prepare test data in datasource
+		final var plan = planRepository.findAll().get(0);
+		final var user = createUserWithPlan(plan);
+
+		// consume all tokens available as per plan and assert remaining tokens
+		final var limitPerHour = plan.getLimitPerHour();
+		for (int i = 1; i <= limitPerHour; i++) {
+			final var consumptionProbe = rateLimitingService.tryConsume(user.getId());
+			assertThat(consumptionProbe.isConsumed()).isTrue();
+			assertThat(consumptionProbe.getRemainingTokens()).isEqualTo(limitPerHour - i);
+		}
+
+		// assert consumption is rejected with a wait period post exhaustion
+		final var consumptionProbe = rateLimitingService.tryConsume(user.getId());
+		assertThat(consumptionProbe.isConsumed()).isFalse();
+		assertThat(consumptionProbe.getRemainingTokens()).isZero();
+		assertThat(consumptionProbe.getNanosToWaitForRefill()).isPositive();
+
+		// assert user's bucket is stored as a hash with an expiry
+		final var key = "rate-limit:" + user.getId();
+		assertThat(stringRedisTemplate.type(key).code()).isEqualTo("hash");
+		assertThat(stringRedisTemplate.getExpire(key)).isPositive();
+
+		// verify active plan was fetched only on creation of bucket
+		verify(userPlanMappingRepository, times(1)).findActivePlan(user.getId());
+	}
+
+	@Test
+	void shouldReloadScriptAfterScriptCacheIsFlushed() {
+		// prepare test data in datasource
+		final var plan = planRepository.findAll().get(0);
+		final var user = createUserWithPlan(plan);
+
+		// flush loaded scripts from Redis
+		stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+			connection.scriptingCommands().scriptFlush();
+			return null;
+		});
+
+		// assert consumption succeeds irrespective of script being flushed
+		final var consumptionProbe = rateLimitingService.tryConsume(user.getId());
+		assertThat(consumptionProbe.isConsumed()).isTrue();
+		assertThat(consumptionProbe.getRemainingTokens()).isEqualTo(plan.getLimitPerHour() - 1);
+	}
+
+	@Test
+	void shouldClearBucketOnReset() {
+		// prepare test data in datasource
+		final var plan = planRepository.findAll().get(0);
+		final var user = createUserWithPlan(plan);
+
+		// consume tokens and reset user's bucket
+		rateLimitingService.tryConsume(user.getId());
+		rateLimitingService.tryConsume(user.getId());
+		rateLimitingService.reset(user.getId());
+
+		// assert consumption is evaluated against a fresh bucket
+		final var consumptionProbe = rateLimitingService.tryConsume(user.getId());
+		assertThat(consumptionProbe.getRemainingTokens()).isEqualTo(plan.getLimitPerHour() - 1);
+	}
+
+	@Test
+	void shouldCarryAvailableTokensOverOnPlanChange() {
+		// prepare test data in datasource
+		final var plans = planRepository.findAll();
+		final var plan = plans.stream().filter(candidate -> candidate.getLimitPerHour() == 20).findFirst().orElseThrow();
+		final var upgradedPlan = plans.stream().filter(candidate -> candidate.getLimitPerHour() == 40).findFirst().orElseThrow();
+		final var user = createUserWithPlan(plan);
+
+		// consume half of the tokens available as per plan
+		for (int i = 1; i <= 10; i++) {
+			rateLimitingService.tryConsume(user.getId());
+		}
+
+		// apply plan with twice the limit to user
+		rateLimitingService.applyPlan(user.getId(), upgradedPlan);
+
+		// assert half of the new limit is available as per proportional inheritance
+		final var consumptionProbe = rateLimitingService.tryConsume(user.getId());
+		assertThat(consumptionProbe.isConsumed()).isTrue();
+		assertThat(consumptionProbe.getRemainingTokens()).isEqualTo(19);
+	}
+
+	@Test
+	void shouldEnforceAdditionalBandwidthRefilledInIntervals() {
+		// configure active plan with a bandwidth of 2 tokens per minute
+		final var plan = planRepository.findAll().get(0);
+		final var user = createUserWithPlan(plan);
+		configureActivePlan(user, RefillStrategy.INTERVAL, 2, 60);
+
+		// consume tokens available in bandwidth and assert remaining tokens
+		assertThat(rateLimitingService.tryConsume(user.getId()).getRemainingTokens()).isEqualTo(1);
+		assertThat(rateLimitingService.tryConsume(user.getId()).getRemainingTokens()).isZero();
+
+		// assert consumption is rejected until the bandwidth is refilled post its period
+		final var consumptionProbe = rateLimitingService.tryConsume(user.getId());
+		assertThat(consumptionProbe.isConsumed()).isFalse();
+		assertThat(consumptionProbe.getNanosToWaitForRefill()).isGreaterThan(Duration.ofSeconds(30).toNanos());
+		assertThat(consumptionProbe.getNanosToWaitForRefill()).isLessThanOrEqualTo(Duration.ofSeconds(60).toNanos());
+	}
+
+	@Test
+	void shouldEnforceAdditionalBandwidthRefilledGreedily() {
+		// configure active plan with a bandwidth of 2 tokens per minute
+		final var plan = planRepository.findAll().get(0);
+		final var user = createUserWithPlan(plan);
+		configureActivePlan(user, RefillStrategy.GREEDY, 2, 60);
+
+		// consume tokens available in bandwidth
+		rateLimitingService.tryConsume(user.getId());
+		rateLimitingService.tryConsume(user.getId());
+
+		// assert consumption is rejected until a single token is refilled
+		final var consumptionProbe = rateLimitingService.tryConsume(user.getId());
+		assertThat(consumptionProbe.isConsumed()).isFalse();
+		assertThat(consumptionProbe.getRemainingTokens()).isZero();
+		assertThat(consumptionProbe.getNanosToWaitForRefill()).isPositive();
+		assertThat(consumptionProbe.getNanosToWaitForRefill()).isLessThanOrEqualTo(Duration.ofSeconds(30).toNanos());
+	}
+
+	private void configureActivePlan(final User user, final RefillStrategy refillStrategy, final int capacity, final int periodSeconds) {
+		final var bandwidth = mock(PlanBandwidth.class);
+		when(bandwidth.getCapacity()).thenReturn(capacity);
+		when(bandwidth.getPeriodSeconds()).thenReturn(periodSeconds);
+
+		final var plan = mock(Plan.class);
+		when(plan.getName()).thenReturn(RandomString.make());
+		when(plan.getLimitPerHour()).thenReturn(100);
+		when(plan.getRefillStrategy()).thenReturn(refillStrategy);
+		when(plan.getBandwidths()).thenReturn(List.of(bandwidth));
+		doReturn(plan).when(userPlanMappingRepository).findActivePlan(user.getId());
+	}
+
+	private User createUserWithPlan(final Plan plan) {
+		// insert test user record in datasource
+		final var user = new User();
+		user.setEmailId(RandomString.make());
+		user.setPassword(RandomString.make());
+		final var savedUser = userRepository.save(user);
+
+		// insert an active user plan mapping record
+		final var userPlanMapping = new UserPlanMapping();
+		userPlanMapping.setUserId(savedUser.getId());
+		userPlanMapping.setPlanId(plan.getId());
+		userPlanMappingRepository.save(userPlanMapping);
+		return savedUser;
+	}
+
+}
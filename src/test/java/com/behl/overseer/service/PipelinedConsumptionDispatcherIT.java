@@ -0,0 +1,201 @@
+package com.behl.overseer.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.MethodMode;
+
+import com.behl.overseer.InitializeApplicationSecretKey;
+import com.behl.overseer.InitializeMysqlContainer;
+import com.behl.overseer.InitializeRedisContainer;
+import com.behl.overseer.entity.Plan;
+import com.behl.overseer.entity.User;
+import com.behl.overseer.entity.UserPlanMapping;
+import com.behl.overseer.repository.PlanRepository;
+import com.behl.overseer.repository.UserPlanMappingRepository;
+import com.behl.overseer.repository.UserRepository;
+
+import io.github.bucket4j.ConsumptionProbe;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.SneakyThrows;
+import net.bytebuddy.utility.RandomString;
+
+@DirtiesContext
+@InitializeRedisContainer
+@InitializeMysqlContainer
+@InitializeApplicationSecretKey
+@SpringBootTest(properties = {
+		"com.behl.overseer.rate-limit.engine=lua",
+		"com.behl.overseer.rate-limit.pipelining.enabled=true",
+		"com.behl.overseer.rate-limit.pipelining.window=50ms",
+		"spring.data.redis.timeout=500ms"
+})
+class PipelinedConsumptionDispatcherIT {
+
+	private static final int USER_COUNT = 8;
+	private static final int REQUESTS_PER_USER = 4;
+
+	@Autowired
+	private RateLimitingService rateLimitingService;
+
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Autowired
+	private PipelinedConsumptionDispatcher pipelinedConsumptionDispatcher;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PlanRepository planRepository;
+
+	@Autowired
+	private UserPlanMappingRepository userPlanMappingRepository;
+
+	@Test
+	@SneakyThrows
+	void shouldConsumeTokensOfConcurrentUsersInPipelinedBatches() {
+		// prepare test data in datasource and create buckets of users
+		final var plan = planRepository.findAll().get(0);
+		final var users = IntStream.range(0, USER_COUNT).mapToObj(i -> createUserWithPlan(plan)).toList();
+		users.forEach(user -> rateLimitingService.tryConsume(user.getId()));
+		final var batchSizeSummary = meterRegistry.get("overseer.rate-limit.pipeline.batch.size").summary();
+		final var batchesBefore = batchSizeSummary.count();
+
+		// consume tokens for all users concurrently
+		final var startLatch = new CountDownLatch(1);
+		final var consumptions = new ArrayList<CompletableFuture<ConsumptionProbe>>();
+		try (final var executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (final var user : users) {
+				for (int i = 0; i < REQUESTS_PER_USER; i++) {
+					consumptions.add(CompletableFuture.supplyAsync(() -> {
+						awaitQuietly(startLatch);
+						return rateLimitingService.tryConsume(user.getId());
+					}, executorService));
+				}
+			}
+			startLatch.countDown();
+			CompletableFuture.allOf(consumptions.toArray(CompletableFuture[]::new)).join();
+		}
+
+		// assert every consumption succeeded with fewer batches than consumptions
+		assertThat(consumptions).allMatch(consumption -> consumption.join().isConsumed());
+		assertThat(batchSizeSummary.count() - batchesBefore).isLessThan(USER_COUNT * REQUESTS_PER_USER);
+		assertThat(meterRegistry.get("overseer.rate-limit.pipeline.wait").timer().count()).isPositive();
+
+		// assert remaining tokens of each user reflect all of their consumptions
+		for (final var user : users) {
+			final var consumptionProbe = rateLimitingService.tryConsume(user.getId());
+			assertThat(consumptionProbe.getRemainingTokens()).isEqualTo(plan.getLimitPerHour() - REQUESTS_PER_USER - 2);
+		}
+	}
+
+	@Test
+	void shouldCreateBucketForUserWithoutOne() {
+		// prepare test data in datasource
+		final var plan = planRepository.findAll().get(0);
+		final var user = createUserWithPlan(plan);
+
+		// assert consumption for user without a bucket is evaluated against a fresh bucket
+		final var consumptionProbe = rateLimitingService.tryConsume(user.getId());
+		assertThat(consumptionProbe.isConsumed()).isTrue();
+		assertThat(consumptionProbe.getRemainingTokens()).isEqualTo(plan.getLimitPerHour() - 1);
+	}
+
+	@Test
+	void shouldFallBackToIndividualConsumptionAfterScriptCacheIsFlushed() {
+		// prepare test data in datasource and create user's bucket
+		final var plan = planRepository.findAll().get(0);
+		final var user = createUserWithPlan(plan);
+		rateLimitingService.tryConsume(user.getId());
+
+		// flush loaded scripts from Redis
+		stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+			connection.scriptingCommands().scriptFlush();
+			return null;
+		});
+
+		// assert consumption succeeds irrespective of script being flushed
+		final var consumptionProbe = rateLimitingService.tryConsume(user.getId());
+		assertThat(consumptionProbe.isConsumed()).isTrue();
+		assertThat(consumptionProbe.getRemainingTokens()).isEqualTo(plan.getLimitPerHour() - 2);
+	}
+
+	@Test
+	@SneakyThrows
+	void shouldNotEvaluateAgainConsumptionTimedOutPostFlush() {
+		// prepare test data in datasource and create user's bucket
+		final var plan = planRepository.findAll().get(0);
+		final var user = createUserWithPlan(plan);
+		rateLimitingService.tryConsume(user.getId());
+
+		// pause script evaluation in Redis for longer than the window and command timeout combined
+		stringRedisTemplate.execute((RedisCallback<Object>) connection -> connection.execute("CLIENT",
+				"PAUSE".getBytes(StandardCharsets.UTF_8), "1500".getBytes(StandardCharsets.UTF_8), "WRITE".getBytes(StandardCharsets.UTF_8)));
+
+		// assert flushed consumption whose result is not received in time is failed
+		assertThatThrownBy(() -> pipelinedConsumptionDispatcher.tryConsume(user.getId(), 1, () -> plan))
+			.isInstanceOf(IllegalStateException.class);
+
+		// assert the consumption carried out post pause is the only one charged
+		Thread.sleep(2000);
+		final var remainingTokens = stringRedisTemplate.opsForHash().get("rate-limit:" + user.getId(), "t1");
+		assertThat(remainingTokens).isEqualTo(String.valueOf(plan.getLimitPerHour() - 2));
+	}
+
+	@Test
+	@SneakyThrows
+	@DirtiesContext(methodMode = MethodMode.AFTER_METHOD)
+	void shouldConsumeIndividuallyOnceDispatcherIsStopped() {
+		// prepare test data in datasource and create user's bucket
+		final var plan = planRepository.findAll().get(0);
+		final var user = createUserWithPlan(plan);
+		rateLimitingService.tryConsume(user.getId());
+
+		// stop the dispatcher
+		pipelinedConsumptionDispatcher.stop();
+
+		// assert consumption is evaluated individually instead of waiting on the stopped dispatcher
+		final var consumptionProbe = rateLimitingService.tryConsume(user.getId());
+		assertThat(consumptionProbe.isConsumed()).isTrue();
+		assertThat(consumptionProbe.getRemainingTokens()).isEqualTo(plan.getLimitPerHour() - 2);
+	}
+
+	@SneakyThrows
+	private void awaitQuietly(final CountDownLatch latch) {
+		latch.await();
+	}
+
+	private User createUserWithPlan(final Plan plan) {
+		// insert test user record in datasource
+		final var user = new User();
+		user.setEmailId(RandomString.make());
+		user.setPassword(RandomString.make());
+		final var savedUser = userRepository.save(user);
+
+		// insert an active user plan mapping record
+		final var userPlanMapping = new UserPlanMapping();
+		userPlanMapping.setUserId(savedUser.getId());
+		userPlanMapping.setPlanId(plan.getId());
+		userPlanMappingRepository.save(userPlanMapping);
+		return savedUser;
+	}
+
+}
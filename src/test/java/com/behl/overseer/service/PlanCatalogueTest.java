@@ -0,0 +1,106 @@
+package com.behl.overseer.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+
+import com.behl.overseer.configuration.RateLimitConfigurationProperties;
+import com.behl.overseer.dto.PlanResponseDto;
+import com.behl.overseer.entity.Plan;
+import com.behl.overseer.repository.PlanRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManagerFactory;
+
+class PlanCatalogueTest {
+
+	private final PlanService planService = mock(PlanService.class);
+	private final PlanRepository planRepository = mock(PlanRepository.class);
+	private final EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+	private final PlanCatalogue planCatalogue = new PlanCatalogue(planService, planRepository, entityManagerFactory, new ObjectMapper(),
+			new RateLimitConfigurationProperties());
+
+	@Test
+	void shouldServeEncodedPlansFromSnapshot() {
+		// configure available plans
+		final var plan = createPlan("FREE", 20);
+		when(planService.retrieve()).thenReturn(List.of(plan));
+
+		// invoke method under test multiple times
+		final var snapshot = planCatalogue.get();
+		final var cachedSnapshot = planCatalogue.get();
+
+		// assert encoded plans are served with a strong ETag from a single retrieval
+		assertThat(new String(snapshot.body())).contains(plan.getId().toString(), "FREE");
+		assertThat(snapshot.etag()).startsWith("\"").endsWith("\"");
+		assertThat(cachedSnapshot).isSameAs(snapshot);
+		verify(planService, times(1)).retrieve();
+	}
+
+	@Test
+	void shouldRebuildSnapshotWithNewEtagPostChangeOfPlans() {
+		// configure available plans and their latest update to change between checks
+		final var cache = mock(Cache.class);
+		final var sessionFactory = mock(SessionFactory.class);
+		when(sessionFactory.getCache()).thenReturn(cache);
+		when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+		final var updatedAt = LocalDateTime.now();
+		when(planRepository.findLatestUpdatedAt())
+			.thenReturn(Optional.of(updatedAt))
+			.thenReturn(Optional.of(updatedAt.plusSeconds(1)));
+		when(planService.retrieve())
+			.thenReturn(List.of(createPlan("FREE", 20)))
+			.thenReturn(List.of(createPlan("FREE", 30)));
+
+		// populate snapshot and check for changes to plans twice
+		final var snapshot = planCatalogue.get();
+		planCatalogue.refresh();
+		planCatalogue.refresh();
+		final var rebuiltSnapshot = planCatalogue.get();
+
+		// assert snapshot is rebuilt with a different ETag
+		assertThat(rebuiltSnapshot.etag()).isNotEqualTo(snapshot.etag());
+		verify(planService, times(2)).retrieve();
+
+		// verify cached plans and bandwidths are evicted
+		verify(cache).evictRegion(Plan.CACHE_REGION);
+		verify(cache).evictRegion(Plan.BANDWIDTHS_CACHE_REGION);
+	}
+
+	@Test
+	void shouldRetainSnapshotWhilePlansAreUnchanged() {
+		// configure available plans and their latest update
+		when(planRepository.findLatestUpdatedAt()).thenReturn(Optional.of(LocalDateTime.now()));
+		when(planService.retrieve()).thenReturn(List.of(createPlan("FREE", 20)));
+
+		// populate snapshot and check for changes to plans twice
+		final var snapshot = planCatalogue.get();
+		planCatalogue.refresh();
+		planCatalogue.refresh();
+
+		// assert snapshot is served without being rebuilt
+		assertThat(planCatalogue.get()).isSameAs(snapshot);
+		verify(planService, times(1)).retrieve();
+	}
+
+	private PlanResponseDto createPlan(final String name, final int limitPerHour) {
+		return PlanResponseDto.builder()
+				.id(UUID.randomUUID())
+				.name(name)
+				.limitPerHour(limitPerHour)
+				.bandwidths(List.of())
+				.build();
+	}
+
+}
@@ -5,12 +5,15 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.boot.test.mock.mockito.MockBean;
 
 import com.behl.overseer.InitializeApplicationSecretKey;
 import com.behl.overseer.InitializeMysqlContainer;
@@ -23,12 +26,12 @@ import com.behl.overseer.exception.InvalidPlanException;
 import com.behl.overseer.repository.PlanRepository;
 import com.behl.overseer.repository.UserPlanMappingRepository;
 import com.behl.overseer.repository.UserRepository;
-import com.behl.overseer.utility.AuthenticatedUserIdProvider;
 
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import lombok.SneakyThrows;
 import net.bytebuddy.utility.RandomString;
 
 @SpringBootTest
@@ -49,9 +52,6 @@ class PlanServiceIT {
 	@Autowired
 	private UserPlanMappingRepository userPlanMappingRepository;
 
-	@MockBean
-	private AuthenticatedUserIdProvider authenticatedUserIdProvider;
-
 	@Test
 	void planUpdationshouldThrowExceptionForInvalidPlanId() {
 		// prepare plan updation request with invalid plan-id
@@ -60,7 +60,7 @@ class PlanServiceIT {
 		when(planUpdationRequest.getPlanId()).thenReturn(planId);
 
 		// invoke method under test and assert exception
-		final var exception = assertThrows(InvalidPlanException.class, () -> planService.update(planUpdationRequest));
+		final var exception = assertThrows(InvalidPlanException.class, () -> planService.update(UUID.randomUUID(), planUpdationRequest));
 		assertThat(exception.getReason()).isEqualTo("No plan exists in the system with provided-id");
 	}
 
@@ -79,12 +79,11 @@ class PlanServiceIT {
 		final var planUpdationRequest = mock(PlanUpdationRequestDto.class);
 		when(planUpdationRequest.getPlanId()).thenReturn(planId);
 
-		// configure authenticated user
+		// prepare authenticated user
 		final var userId = user.getId();
-		when(authenticatedUserIdProvider.getUserId()).thenReturn(userId);
 
 		// invoke method under test
-		planService.update(planUpdationRequest);
+		planService.update(userId, planUpdationRequest);
 
 		// assert plan activation status in datasource
 		final var isActiveWithSamePlan = userPlanMappingRepository.isActivePlan(user.getId(), userPlan.getId());
@@ -107,12 +106,11 @@ class PlanServiceIT {
 		final var planUpdationRequest = mock(PlanUpdationRequestDto.class);
 		when(planUpdationRequest.getPlanId()).thenReturn(planId);
 
-		// configure authenticated user
+		// prepare authenticated user
 		final var userId = user.getId();
-		when(authenticatedUserIdProvider.getUserId()).thenReturn(userId);
 
 		// invoke method under test
-		planService.update(planUpdationRequest);
+		planService.update(userId, planUpdationRequest);
 
 		// assert plan activation status in datasource
 		final var isActiveWithPreviousPlan = userPlanMappingRepository.isActivePlan(user.getId(), userPlan.getId());
@@ -121,6 +119,106 @@ class PlanServiceIT {
 		assertThat(isActiveWithNewPlan).isTrue();
 	}
 
+	@Test
+	void shouldSubscribeUserWithoutActivePlanToProvidedPlan() {
+		// fetch plan records from datasource
+		final var plans = planRepository.findAll();
+		final var userPlan = plans.get(0);
+		final var planToUpdate = plans.get(1);
+
+		// populate datasource with test data and deactivate user's only plan
+		final var testData = new TestData().createTestData(userPlan);
+		final var userId = testData.getUser().getId();
+		userPlanMappingRepository.deactivateCurrentPlan(userId);
+
+		// prepare plan updation request with valid plan-id
+		final var planUpdationRequest = mock(PlanUpdationRequestDto.class);
+		when(planUpdationRequest.getPlanId()).thenReturn(planToUpdate.getId());
+
+		// invoke method under test
+		planService.update(userId, planUpdationRequest);
+
+		// assert provided plan is active for the user
+		final var isActiveWithNewPlan = userPlanMappingRepository.isActivePlan(userId, planToUpdate.getId());
+		assertThat(isActiveWithNewPlan).isTrue();
+	}
+
+	@Test
+	@SneakyThrows
+	void shouldRetainSingleActivePlanUnderConcurrentPlanUpdations() {
+		// fetch plan records from datasource
+		final var plans = planRepository.findAll();
+
+		// populate datasource with test data
+		final var testData = new TestData().createTestData(plans.get(0));
+		final var userId = testData.getUser().getId();
+
+		// update user's plan concurrently, cycling through available plans
+		final var concurrentUpdations = 24;
+		final var startSignal = new CountDownLatch(1);
+		try (final var executor = Executors.newFixedThreadPool(8)) {
+			for (int i = 0; i < concurrentUpdations; i++) {
+				final var planUpdationRequest = mock(PlanUpdationRequestDto.class);
+				when(planUpdationRequest.getPlanId()).thenReturn(plans.get(i % plans.size()).getId());
+				// updations conflicting with concurrent ones may be rejected as a whole
+				executor.submit(() -> {
+					startSignal.await();
+					planService.update(userId, planUpdationRequest);
+					return null;
+				});
+			}
+			startSignal.countDown();
+		}
+
+		// assert user is left with exactly one active plan
+		final var activePlans = userPlanMappingRepository.findAll().stream()
+				.filter(userPlanMapping -> userId.equals(userPlanMapping.getUserId()))
+				.filter(UserPlanMapping::getIsActive)
+				.toList();
+		assertThat(activePlans).hasSize(1);
+		assertThat(userPlanMappingRepository.getActivePlan(userId).getId()).isEqualTo(activePlans.get(0).getId());
+	}
+
+	@Test
+	@SneakyThrows
+	void shouldSubscribeUserWithoutActivePlanUnderConcurrentPlanUpdations() {
+		// fetch plan records from datasource
+		final var plans = planRepository.findAll();
+
+		// populate datasource with test data and deactivate user's only plan
+		final var testData = new TestData().createTestData(plans.get(0));
+		final var userId = testData.getUser().getId();
+		userPlanMappingRepository.deactivateCurrentPlan(userId);
+
+		// subscribe user to different plans concurrently, both inserting an active plan
+		final var startSignal = new CountDownLatch(1);
+		final var updations = new ArrayList<Future<Object>>();
+		try (final var executor = Executors.newFixedThreadPool(2)) {
+			for (final var plan : plans.subList(1, 3)) {
+				final var planUpdationRequest = mock(PlanUpdationRequestDto.class);
+				when(planUpdationRequest.getPlanId()).thenReturn(plan.getId());
+				updations.add(executor.submit(() -> {
+					startSignal.await();
+					planService.update(userId, planUpdationRequest);
+					return null;
+				}));
+			}
+			startSignal.countDown();
+		}
+
+		// assert both updations succeed, the one losing the race being retried
+		for (final var updation : updations) {
+			updation.get();
+		}
+
+		// assert user is left with exactly one active plan
+		final var activePlans = userPlanMappingRepository.findAll().stream()
+				.filter(userPlanMapping -> userId.equals(userPlanMapping.getUserId()))
+				.filter(UserPlanMapping::getIsActive)
+				.toList();
+		assertThat(activePlans).hasSize(1);
+	}
+
 	/**
 	 * @see src/main/resources/db/migration/V002__adding_plans.sql
 	 */
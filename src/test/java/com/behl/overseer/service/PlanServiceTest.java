@@ -9,17 +9,22 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.behl.overseer.dto.PlanUpdationRequestDto;
 import com.behl.overseer.entity.Plan;
 import com.behl.overseer.entity.UserPlanMapping;
 import com.behl.overseer.exception.InvalidPlanException;
+import com.behl.overseer.exception.PlanUpdationConflictException;
 import com.behl.overseer.repository.PlanRepository;
 import com.behl.overseer.repository.UserPlanMappingRepository;
-import com.behl.overseer.utility.AuthenticatedUserIdProvider;
 
 import net.bytebuddy.utility.RandomString;
 
@@ -28,8 +33,8 @@ class PlanServiceTest {
 	private final PlanRepository planRepository = mock(PlanRepository.class);
 	private final RateLimitingService rateLimitingService = mock(RateLimitingService.class);
 	private final UserPlanMappingRepository userPlanMappingRepository = mock(UserPlanMappingRepository.class);
-	private final AuthenticatedUserIdProvider authenticatedUserIdProvider = mock(AuthenticatedUserIdProvider.class);
-	private final PlanService planService = new PlanService(planRepository, rateLimitingService, userPlanMappingRepository, authenticatedUserIdProvider);
+	private final TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+	private final PlanService planService = new PlanService(planRepository, rateLimitingService, userPlanMappingRepository, transactionTemplate);
 
 	@Test
 	void planUpdationshouldThrowExceptionForInvalidPlanId() {
@@ -39,15 +44,15 @@ class PlanServiceTest {
 		when(planUpdationRequest.getPlanId()).thenReturn(planId);
 
 		// prepare datasource to evaluate invalid plan-id
-		when(planRepository.existsById(planId)).thenReturn(Boolean.FALSE);
+		when(planRepository.findById(planId)).thenReturn(Optional.empty());
 
 		// invoke method under test and assert exception
-		final var exception = assertThrows(InvalidPlanException.class, () -> planService.update(planUpdationRequest));
+		final var exception = assertThrows(InvalidPlanException.class, () -> planService.update(UUID.randomUUID(), planUpdationRequest));
 		assertThat(exception.getReason()).isEqualTo("No plan exists in the system with provided-id");
 
 		// verify mock interactions
 		verify(planUpdationRequest, times(1)).getPlanId();
-		verify(planRepository, times(1)).existsById(planId);
+		verify(planRepository, times(1)).findById(planId);
 		verify(userPlanMappingRepository, times(0)).save(any(UserPlanMapping.class));
 	}
 
@@ -59,25 +64,25 @@ class PlanServiceTest {
 		when(planUpdationRequest.getPlanId()).thenReturn(planId);
 
 		// prepare datasource to evaluate plan-id
-		when(planRepository.existsById(planId)).thenReturn(Boolean.TRUE);
+		final var plan = mock(Plan.class);
+		when(planRepository.findById(planId)).thenReturn(Optional.of(plan));
 
-		// configure authenticated user
+		// prepare authenticated user
 		final var userId = UUID.randomUUID();
-		when(authenticatedUserIdProvider.getUserId()).thenReturn(userId);
 
-		// configure datasource to evaluate active plan
+		// configure datasource to evaluate plan-id as already active
+		when(userPlanMappingRepository.deactivateCurrentPlan(userId, planId)).thenReturn(0);
 		when(userPlanMappingRepository.isActivePlan(userId, planId)).thenReturn(Boolean.TRUE);
 
 		// invoke method under test
-		planService.update(planUpdationRequest);
+		planService.update(userId, planUpdationRequest);
 
 		// verify mock interactions
 		verify(planUpdationRequest, times(1)).getPlanId();
-		verify(planRepository, times(1)).existsById(planId);
-		verify(authenticatedUserIdProvider, times(1)).getUserId();
-		verify(userPlanMappingRepository, times(1)).isActivePlan(userId, planId);
-		verify(userPlanMappingRepository, times(0)).deactivateCurrentPlan(userId);
+		verify(planRepository, times(1)).findById(planId);
+		verify(userPlanMappingRepository, times(1)).deactivateCurrentPlan(userId, planId);
 		verify(userPlanMappingRepository, times(0)).save(any(UserPlanMapping.class));
+		verify(rateLimitingService, times(0)).applyPlan(userId, plan);
 	}
 
 	@Test
@@ -88,26 +93,81 @@ class PlanServiceTest {
 		when(planUpdationRequest.getPlanId()).thenReturn(planId);
 
 		// prepare datasource to evaluate plan-id
-		when(planRepository.existsById(planId)).thenReturn(Boolean.TRUE);
+		final var plan = mock(Plan.class);
+		when(planRepository.findById(planId)).thenReturn(Optional.of(plan));
 
-		// configure authenticated user
+		// prepare authenticated user
 		final var userId = UUID.randomUUID();
-		when(authenticatedUserIdProvider.getUserId()).thenReturn(userId);
 
-		// configure datasource to evaluate active plan
-		when(userPlanMappingRepository.isActivePlan(userId, planId)).thenReturn(Boolean.FALSE);
+		// configure datasource to deactivate current plan
+		when(userPlanMappingRepository.deactivateCurrentPlan(userId, planId)).thenReturn(1);
 
 		// invoke method under test
-		planService.update(planUpdationRequest);
+		planService.update(userId, planUpdationRequest);
 
 		// verify mock interactions
 		verify(planUpdationRequest, times(1)).getPlanId();
-		verify(planRepository, times(1)).existsById(planId);
-		verify(authenticatedUserIdProvider, times(1)).getUserId();
-		verify(userPlanMappingRepository, times(1)).isActivePlan(userId, planId);
-		verify(userPlanMappingRepository, times(1)).deactivateCurrentPlan(userId);
+		verify(planRepository, times(1)).findById(planId);
+		verify(userPlanMappingRepository, times(1)).deactivateCurrentPlan(userId, planId);
 		verify(userPlanMappingRepository, times(1)).save(any(UserPlanMapping.class));
-		verify(rateLimitingService, times(1)).reset(userId);
+		verify(rateLimitingService, times(1)).applyPlan(userId, plan);
+		verify(rateLimitingService, times(0)).reset(userId);
+	}
+
+	@Test
+	void shouldRetryPlanUpdationConflictingWithConcurrentOne() {
+		// prepare plan updation request
+		final var planId = UUID.randomUUID();
+		final var planUpdationRequest = mock(PlanUpdationRequestDto.class);
+		when(planUpdationRequest.getPlanId()).thenReturn(planId);
+
+		// prepare datasource to evaluate plan-id
+		final var plan = mock(Plan.class);
+		when(planRepository.findById(planId)).thenReturn(Optional.of(plan));
+
+		// prepare authenticated user
+		final var userId = UUID.randomUUID();
+
+		// configure datasource to reject the first insertion as a concurrent one committed first
+		when(userPlanMappingRepository.deactivateCurrentPlan(userId, planId)).thenReturn(0, 1);
+		when(userPlanMappingRepository.save(any(UserPlanMapping.class)))
+				.thenThrow(new DataIntegrityViolationException("Duplicate entry for key 'active_user_id'"))
+				.thenAnswer(invocation -> invocation.getArgument(0));
+
+		// invoke method under test
+		planService.update(userId, planUpdationRequest);
+
+		// verify mock interactions
+		verify(userPlanMappingRepository, times(2)).deactivateCurrentPlan(userId, planId);
+		verify(userPlanMappingRepository, times(2)).save(any(UserPlanMapping.class));
+		verify(rateLimitingService, times(1)).applyPlan(userId, plan);
+	}
+
+	@Test
+	void shouldThrowConflictForPlanUpdationConflictingOnRetryAsWell() {
+		// prepare plan updation request
+		final var planId = UUID.randomUUID();
+		final var planUpdationRequest = mock(PlanUpdationRequestDto.class);
+		when(planUpdationRequest.getPlanId()).thenReturn(planId);
+
+		// prepare datasource to evaluate plan-id
+		final var plan = mock(Plan.class);
+		when(planRepository.findById(planId)).thenReturn(Optional.of(plan));
+
+		// prepare authenticated user
+		final var userId = UUID.randomUUID();
+
+		// configure datasource to reject every insertion
+		when(userPlanMappingRepository.save(any(UserPlanMapping.class)))
+				.thenThrow(new DataIntegrityViolationException("Duplicate entry for key 'active_user_id'"));
+
+		// invoke method under test and assert exception
+		final var exception = assertThrows(PlanUpdationConflictException.class, () -> planService.update(userId, planUpdationRequest));
+		assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+
+		// verify mock interactions
+		verify(userPlanMappingRepository, times(2)).save(any(UserPlanMapping.class));
+		verify(rateLimitingService, times(0)).applyPlan(userId, plan);
 	}
 
 	@Test
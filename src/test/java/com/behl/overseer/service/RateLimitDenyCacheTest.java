@@ -0,0 +1,67 @@
+package com.behl.overseer.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.behl.overseer.configuration.RateLimitConfigurationProperties;
+
+class RateLimitDenyCacheTest {
+
+	private final RateLimitConfigurationProperties rateLimitConfigurationProperties = new RateLimitConfigurationProperties();
+	private final RateLimitDenyCache rateLimitDenyCache = new RateLimitDenyCache(rateLimitConfigurationProperties);
+
+	@Test
+	void shouldRejectDeniedUserUntilRefillInstant() {
+		// deny user until bucket is refilled
+		final var userId = UUID.randomUUID();
+		final var nanosToWaitForRefill = TimeUnit.MINUTES.toNanos(10);
+		rateLimitDenyCache.deny(userId, nanosToWaitForRefill);
+
+		// assert rejection is served with remaining wait period
+		final var rejection = rateLimitDenyCache.getRejection(userId);
+		assertThat(rejection).isPresent().get().satisfies(consumptionProbe -> {
+			assertThat(consumptionProbe.isConsumed()).isFalse();
+			assertThat(consumptionProbe.getRemainingTokens()).isZero();
+			assertThat(consumptionProbe.getNanosToWaitForRefill()).isPositive().isLessThanOrEqualTo(nanosToWaitForRefill);
+		});
+	}
+
+	@Test
+	void shouldNotRejectUserPostInvalidation() {
+		// deny user and invalidate entry
+		final var userId = UUID.randomUUID();
+		rateLimitDenyCache.deny(userId, TimeUnit.MINUTES.toNanos(10));
+		rateLimitDenyCache.invalidate(userId);
+
+		// assert no rejection is served
+		assertThat(rateLimitDenyCache.getRejection(userId)).isEmpty();
+	}
+
+	@Test
+	void shouldNotRejectUserOnceRefillInstantHasPassed() {
+		// deny user for an already elapsed wait period
+		final var userId = UUID.randomUUID();
+		rateLimitDenyCache.deny(userId, 0);
+
+		// assert no rejection is served
+		assertThat(rateLimitDenyCache.getRejection(userId)).isEmpty();
+	}
+
+	@Test
+	void shouldNotRejectUserWhenDisabled() {
+		// create deny cache with feature disabled
+		final var properties = new RateLimitConfigurationProperties();
+		properties.getDenyCache().setEnabled(false);
+		final var disabledDenyCache = new RateLimitDenyCache(properties);
+
+		// deny user and assert no rejection is served
+		final var userId = UUID.randomUUID();
+		disabledDenyCache.deny(userId, TimeUnit.MINUTES.toNanos(10));
+		assertThat(disabledDenyCache.getRejection(userId)).isEmpty();
+	}
+
+}
@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,6 +24,7 @@ import com.behl.overseer.repository.UserPlanMappingRepository;
 import com.behl.overseer.repository.UserRepository;
 
 import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
@@ -63,7 +66,7 @@ class RateLimitingServiceIT {
 		// verify interaction with datasource to fetch user's active plan
 		// confirming the creation of bucket configuration from scratch
 		// on initial invocation
-		verify(userPlanMappingRepository).getActivePlan(user.getId());
+		verify(userPlanMappingRepository).findActivePlan(user.getId());
 		Mockito.clearInvocations(userPlanMappingRepository);
 
 		// consume tokens from bucket
@@ -78,7 +81,7 @@ class RateLimitingServiceIT {
 
 		// assert no interaction with datasource to fetch user's active plan on second
 		// invocation
-		verify(userPlanMappingRepository, times(0)).getActivePlan(user.getId());
+		verify(userPlanMappingRepository, times(0)).findActivePlan(user.getId());
 	}
 
 	@Test
@@ -111,6 +114,91 @@ class RateLimitingServiceIT {
 		assertThat(bucket.getAvailableTokens()).isEqualTo(Long.valueOf(plan.getLimitPerHour()));
 	}
 
+	@Test
+	void shouldReconfigureBucketInPlaceOnPlanChange() {
+		// prepare test data in datasource
+		final var testData = new TestData().createTestData();
+		final var user = testData.getUser();
+		final var plan = testData.getPlan();
+		final var newPlan = planRepository.findAll().stream()
+				.filter(candidate -> Boolean.FALSE.equals(candidate.getId().equals(plan.getId())))
+				.findFirst()
+				.orElseThrow();
+
+		// consume half of the tokens from user's bucket
+		final var tokensToConsume = plan.getLimitPerHour() / 2;
+		rateLimitingService.getBucket(user.getId()).tryConsume(tokensToConsume);
+		Mockito.clearInvocations(userPlanMappingRepository);
+
+		// invoke method under test
+		rateLimitingService.applyPlan(user.getId(), newPlan);
+
+		// assert bucket is reconfigured with consumed tokens carried over proportionally
+		final var bucket = rateLimitingService.getBucket(user.getId());
+		assertThat(bucket.getAvailableTokens()).isEqualTo(newPlan.getLimitPerHour() / 2);
+
+		// assert no interaction with datasource to fetch user's new active plan
+		verify(userPlanMappingRepository, times(0)).findActivePlan(user.getId());
+	}
+
+	@Test
+	void shouldConsumeMultipleTokensAtomically() {
+		// prepare test data in datasource
+		final var testData = new TestData().createTestData();
+		final var user = testData.getUser();
+		final var plan = testData.getPlan();
+
+		// invoke method under test with a token cost of multiple tokens
+		final var tokensToConsume = 5;
+		var consumptionProbe = rateLimitingService.tryConsume(user.getId(), tokensToConsume);
+
+		// assert all tokens are consumed at once
+		assertThat(consumptionProbe.isConsumed()).isTrue();
+		assertThat(consumptionProbe.getRemainingTokens()).isEqualTo(plan.getLimitPerHour() - tokensToConsume);
+
+		// invoke method under test with a token cost exceeding available tokens
+		consumptionProbe = rateLimitingService.tryConsume(user.getId(), plan.getLimitPerHour());
+
+		// assert consumption is rejected without consuming any tokens
+		assertThat(consumptionProbe.isConsumed()).isFalse();
+		assertThat(rateLimitingService.getBucket(user.getId()).getAvailableTokens()).isEqualTo(plan.getLimitPerHour() - tokensToConsume);
+
+		// assert a single token can still be consumed after the rejection
+		assertThat(rateLimitingService.tryConsume(user.getId()).isConsumed()).isTrue();
+	}
+
+	@Test
+	void shouldReturnTokensToBucket() {
+		// prepare test data in datasource
+		final var testData = new TestData().createTestData();
+		final var user = testData.getUser();
+		final var plan = testData.getPlan();
+
+		// consume tokens on behalf of the user
+		final var tokensToReturn = 5;
+		rateLimitingService.tryConsume(user.getId(), tokensToReturn);
+
+		// invoke method under test
+		rateLimitingService.returnTokens(user.getId(), tokensToReturn);
+
+		// assert returned tokens are available again
+		assertThat(rateLimitingService.getBucket(user.getId()).getAvailableTokens()).isEqualTo(plan.getLimitPerHour());
+	}
+
+	@Test
+	void shouldWaitForTokensOnlyWhenWillingToWait() {
+		// prepare rejected consumption whose tokens are due right away
+		final var consumptionProbe = ConsumptionProbe.rejected(0, 0, 0);
+
+		// invoke method under test and assert requests not willing to wait never do
+		assertThat(RateLimitingService.isRefilledWithin(consumptionProbe, Duration.ZERO)).isFalse();
+		assertThat(RateLimitingService.isRefilledWithin(consumptionProbe, Duration.ofSeconds(1))).isTrue();
+
+		// invoke method under test and assert tokens due past the maximum wait are not waited for
+		final var distantConsumptionProbe = ConsumptionProbe.rejected(0, Duration.ofSeconds(2).toNanos(), 0);
+		assertThat(RateLimitingService.isRefilledWithin(distantConsumptionProbe, Duration.ofSeconds(1))).isFalse();
+	}
+
 	@Getter
 	@Setter
 	@RequiredArgsConstructor
@@ -0,0 +1,21 @@
+package com.behl.overseer.service;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.behl.overseer.InitializeApplicationSecretKey;
+import com.behl.overseer.InitializeMysqlContainer;
+import com.behl.overseer.InitializeRedisContainer;
+
+/**
+ * Executes the scenarios of {@link RateLimitingServiceIT} against the
+ * compare-and-swap based Redisson backend.
+ */
+@DirtiesContext
+@InitializeRedisContainer
+@InitializeMysqlContainer
+@InitializeApplicationSecretKey
+@SpringBootTest(properties = "com.behl.overseer.rate-limit.backend=redisson")
+class RedissonBackendRateLimitingServiceIT extends RateLimitingServiceIT {
+
+}
@@ -0,0 +1,47 @@
+package com.behl.overseer.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class TokenLeaseTest {
+
+	@Test
+	void shouldServeLeasedTokensUntilExhausted() {
+		// create lease holding tokens
+		final var availableTokens = 3;
+		final var tokenLease = new TokenLease(availableTokens, 10, 4, 60);
+
+		// acquire all leased tokens and assert remaining count
+		assertThat(tokenLease.tryAcquire()).isEqualTo(2);
+		assertThat(tokenLease.tryAcquire()).isEqualTo(1);
+		assertThat(tokenLease.tryAcquire()).isEqualTo(0);
+
+		// assert exhausted lease rejects further acquisition
+		assertThat(tokenLease.tryAcquire()).isEqualTo(-1);
+		assertThat(tokenLease.drain()).isZero();
+	}
+
+	@Test
+	void shouldDrainUnusedTokensAndRejectFurtherAcquisition() {
+		// create lease and acquire a single token
+		final var tokenLease = new TokenLease(5, 10, 6, 60);
+		tokenLease.tryAcquire();
+
+		// drain lease and assert unused tokens returned
+		assertThat(tokenLease.drain()).isEqualTo(4);
+		assertThat(tokenLease.tryAcquire()).isEqualTo(-1);
+	}
+
+	@Test
+	void expiredLeaseShouldNotServeTokens() {
+		// create lease with zero validity
+		final var tokenLease = new TokenLease(5, 10, 6, 0);
+
+		// assert lease is expired and rejects acquisition while retaining unused tokens
+		assertThat(tokenLease.isExpired()).isTrue();
+		assertThat(tokenLease.tryAcquire()).isEqualTo(-1);
+		assertThat(tokenLease.drain()).isEqualTo(5);
+	}
+
+}
@@ -0,0 +1,79 @@
+package com.behl.overseer.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.junit.jupiter.api.Test;
+
+import com.behl.overseer.configuration.RateLimitConfigurationProperties;
+import com.behl.overseer.utility.RateLimitMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TokenWaitSchedulerTest {
+
+	private static final Duration MAXIMUM_WAIT = Duration.ofSeconds(1);
+
+	private final UUID userId = UUID.randomUUID();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final RateLimitingService rateLimitingService = mock(RateLimitingService.class);
+	private final TokenWaitScheduler tokenWaitScheduler = createTokenWaitScheduler(2);
+
+	@Test
+	void shouldRejectRequestsRightAwayOnceParkedRequestLimitIsReached() {
+		// configure consumptions to wait for tokens to be refilled
+		final var pendingAdmission = new CompletableFuture<Boolean>();
+		when(rateLimitingService.tryConsumeWithin(eq(userId), anyLong(), eq(MAXIMUM_WAIT), any(ScheduledExecutorService.class)))
+			.thenReturn(pendingAdmission);
+
+		// park requests up to the configured limit
+		final var firstAdmission = tokenWaitScheduler.tryConsume(userId, 1, MAXIMUM_WAIT);
+		final var secondAdmission = tokenWaitScheduler.tryConsume(userId, 1, MAXIMUM_WAIT);
+		assertThat(firstAdmission).isNotDone();
+		assertThat(secondAdmission).isNotDone();
+		assertThat(meterRegistry.get("overseer.rate-limit.wait.parked").gauge().value()).isEqualTo(2);
+
+		// assert request exceeding the limit is rejected without consuming tokens
+		final var overflowingAdmission = tokenWaitScheduler.tryConsume(userId, 1, MAXIMUM_WAIT);
+		assertThat(overflowingAdmission).isCompletedWithValue(Boolean.FALSE);
+		assertThat(meterRegistry.get("overseer.rate-limit.wait.overflows").counter().count()).isEqualTo(1);
+		verify(rateLimitingService, times(2)).tryConsumeWithin(eq(userId), anyLong(), eq(MAXIMUM_WAIT), any(ScheduledExecutorService.class));
+	}
+
+	@Test
+	void shouldReleaseParkedRequestOnceTokensAreConsumed() {
+		// configure consumption to wait for tokens to be refilled
+		final var pendingAdmission = new CompletableFuture<Boolean>();
+		when(rateLimitingService.tryConsumeWithin(eq(userId), anyLong(), eq(MAXIMUM_WAIT), any(ScheduledExecutorService.class)))
+			.thenReturn(pendingAdmission);
+
+		// park request and complete its consumption
+		final var admission = tokenWaitScheduler.tryConsume(userId, 1, MAXIMUM_WAIT);
+		pendingAdmission.complete(Boolean.TRUE);
+
+		// assert request is admitted and no longer counted as parked
+		assertThat(admission).isCompletedWithValue(Boolean.TRUE);
+		assertThat(meterRegistry.get("overseer.rate-limit.wait.parked").gauge().value()).isZero();
+		assertThat(meterRegistry.get("overseer.rate-limit.wait").tag("outcome", "admitted").timer().count()).isEqualTo(1);
+	}
+
+	private TokenWaitScheduler createTokenWaitScheduler(final int maximumParkedRequests) {
+		final var properties = new RateLimitConfigurationProperties();
+		properties.getWaiting().setMaximumParkedRequests(maximumParkedRequests);
+		final var scheduler = new TokenWaitScheduler(rateLimitingService, new RateLimitMetrics(meterRegistry), properties);
+		scheduler.bindTo(meterRegistry);
+		return scheduler;
+	}
+
+}
@@ -0,0 +1,134 @@
+package com.behl.overseer.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+import com.behl.overseer.configuration.RateLimitConfigurationProperties;
+import com.behl.overseer.entity.Plan;
+import com.behl.overseer.repository.UserPlanMappingRepository;
+
+import lombok.SneakyThrows;
+
+class UserPlanCacheTest {
+
+	private final UserPlanMappingRepository userPlanMappingRepository = mock(UserPlanMappingRepository.class);
+	private final UserPlanCache userPlanCache = new UserPlanCache(userPlanMappingRepository, new RateLimitConfigurationProperties());
+
+	@Test
+	void shouldFetchActivePlanFromDatasourceOnlyOnce() {
+		// configure datasource to return user's active plan
+		final var userId = UUID.randomUUID();
+		final var plan = mock(Plan.class);
+		configureActivePlan(userId, plan);
+
+		// invoke method under test multiple times and assert response
+		assertThat(userPlanCache.get(userId)).isEqualTo(plan);
+		assertThat(userPlanCache.get(userId)).isEqualTo(plan);
+
+		// verify single interaction with datasource
+		verify(userPlanMappingRepository, times(1)).findActivePlan(userId);
+	}
+
+	@Test
+	@SneakyThrows
+	void concurrentLookupsForSameUserShouldBeCollapsedIntoSingleDatasourceCall() {
+		// configure datasource to respond slowly with user's active plan
+		final var userId = UUID.randomUUID();
+		final var plan = mock(Plan.class);
+		when(userPlanMappingRepository.findActivePlan(userId)).thenAnswer(invocation -> {
+			Thread.sleep(200);
+			return plan;
+		});
+
+		// invoke method under test concurrently
+		final var concurrentLookups = 20;
+		final var startSignal = new CountDownLatch(1);
+		final var lookups = new ArrayList<CompletableFuture<Plan>>();
+		try (final var executor = Executors.newFixedThreadPool(concurrentLookups)) {
+			for (int i = 0; i < concurrentLookups; i++) {
+				lookups.add(CompletableFuture.supplyAsync(() -> {
+					awaitQuietly(startSignal);
+					return userPlanCache.get(userId);
+				}, executor));
+			}
+			startSignal.countDown();
+			CompletableFuture.allOf(lookups.toArray(CompletableFuture[]::new)).join();
+		}
+
+		// assert all lookups resolved same plan with a single datasource call
+		lookups.forEach(lookup -> assertThat(lookup.join()).isEqualTo(plan));
+		verify(userPlanMappingRepository, times(1)).findActivePlan(userId);
+	}
+
+	@Test
+	void shouldFetchActivePlanFromDatasourceAgainPostEviction() {
+		// configure datasource to return user's active plan
+		final var userId = UUID.randomUUID();
+		configureActivePlan(userId, mock(Plan.class));
+
+		// populate cache and evict user's entry
+		userPlanCache.get(userId);
+		userPlanCache.evict(userId);
+		userPlanCache.get(userId);
+
+		// verify datasource is invoked again post eviction
+		verify(userPlanMappingRepository, times(2)).findActivePlan(userId);
+	}
+
+	@Test
+	void shouldFetchActivePlanFromDatasourceAgainIfPreviousCallFailed() {
+		// configure datasource to fail once before returning user's active plan
+		final var userId = UUID.randomUUID();
+		final var plan = mock(Plan.class);
+		when(userPlanMappingRepository.findActivePlan(userId))
+			.thenThrow(new IllegalStateException())
+			.thenReturn(plan);
+
+		// invoke method under test and assert failure is propagated as is
+		assertThatThrownBy(() -> userPlanCache.get(userId)).isInstanceOf(IllegalStateException.class);
+
+		// invoke method under test again and assert response
+		assertThat(userPlanCache.get(userId)).isEqualTo(plan);
+		verify(userPlanMappingRepository, times(2)).findActivePlan(userId);
+	}
+
+	@Test
+	void shouldReturnActivePlanIfPresentWithoutFetchingFromDatasource() {
+		// configure datasource to return user's active plan
+		final var userId = UUID.randomUUID();
+		final var plan = mock(Plan.class);
+		configureActivePlan(userId, plan);
+
+		// invoke method under test prior to and post caching of the plan
+		final var absentPlan = userPlanCache.getIfPresent(userId);
+		userPlanCache.get(userId);
+		final var presentPlan = userPlanCache.getIfPresent(userId);
+
+		// assert response and verify single interaction with datasource
+		assertThat(absentPlan).isEmpty();
+		assertThat(presentPlan).contains(plan);
+		verify(userPlanMappingRepository, times(1)).findActivePlan(userId);
+	}
+
+	private void configureActivePlan(final UUID userId, final Plan plan) {
+		when(userPlanMappingRepository.findActivePlan(userId)).thenReturn(plan);
+	}
+
+	@SneakyThrows
+	private void awaitQuietly(final CountDownLatch latch) {
+		latch.await();
+	}
+
+}
@@ -16,6 +16,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.behl.overseer.dto.UserCreationRequestDto;
 import com.behl.overseer.dto.UserLoginRequestDto;
+import com.behl.overseer.entity.Plan;
 import com.behl.overseer.entity.User;
 import com.behl.overseer.entity.UserPlanMapping;
 import com.behl.overseer.exception.AccountAlreadyExistsException;
@@ -68,7 +69,7 @@ class UserServiceTest {
 
 		// set datasource to evaluate valid email-id and invalid plan-id
 		when(userRepository.existsByEmailId(emailId)).thenReturn(Boolean.FALSE);
-		when(planRepository.existsById(planId)).thenReturn(Boolean.FALSE);
+		when(planRepository.findById(planId)).thenReturn(Optional.empty());
 
 		// invoke method under test and verify mock interactions
 		final var exception = assertThrows(InvalidPlanException.class, () -> userService.create(userCreationRequest));
@@ -77,7 +78,7 @@ class UserServiceTest {
 		// verify mock interactions
 		verify(userCreationRequest, times(1)).getEmailId();
 		verify(userCreationRequest, times(1)).getPlanId();
-		verify(planRepository, times(1)).existsById(planId);
+		verify(planRepository, times(1)).findById(planId);
 		verify(userRepository, times(0)).save(any(User.class));
 	}
 
@@ -94,7 +95,7 @@ class UserServiceTest {
 
 		// set datasource to evaluate valid request values
 		when(userRepository.existsByEmailId(emailId)).thenReturn(Boolean.FALSE);
-		when(planRepository.existsById(planId)).thenReturn(Boolean.TRUE);
+		when(planRepository.findById(planId)).thenReturn(Optional.of(mock(Plan.class)));
 
 		// configure password encoder to encode plan-text password
 		final var encodedPassword = "encoded-password";
@@ -112,7 +113,7 @@ class UserServiceTest {
 		verify(userCreationRequest, times(1)).getPlanId();
 
 		verify(userRepository).existsByEmailId(emailId);
-		verify(planRepository).existsById(planId);
+		verify(planRepository).findById(planId);
 		verify(passwordEncoder).encode(password);
 
 		verify(userRepository, times(1)).save(any(User.class));
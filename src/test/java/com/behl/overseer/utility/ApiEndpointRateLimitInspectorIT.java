@@ -0,0 +1,167 @@
+package com.behl.overseer.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.behl.overseer.InitializeApplicationSecretKey;
+import com.behl.overseer.InitializeMysqlContainer;
+import com.behl.overseer.InitializeRedisContainer;
+import com.behl.overseer.configuration.BypassRateLimit;
+import com.behl.overseer.configuration.RateLimitCost;
+import com.behl.overseer.configuration.WaitForRateLimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+@RestController
+class RateLimitBypassTestController {
+
+	@BypassRateLimit
+	@GetMapping(value = "/api/v1/bypassed-endpoint/{id}")
+	public ResponseEntity<HttpStatus> bypassedEndpoint(@PathVariable final String id) {
+		return ResponseEntity.ok().build();
+	}
+
+	@GetMapping(value = "/api/v1/rate-limited-endpoint")
+	public ResponseEntity<HttpStatus> rateLimitedEndpoint() {
+		return ResponseEntity.ok().build();
+	}
+
+	@GetMapping(value = "/api/v1/bypassed-endpoint/special")
+	public ResponseEntity<HttpStatus> specificRateLimitedEndpoint() {
+		return ResponseEntity.ok().build();
+	}
+
+}
+
+@RestController
+@BypassRateLimit
+class ClassLevelRateLimitBypassTestController {
+
+	@RequestMapping(value = "/api/v1/class-level-bypassed-endpoint")
+	public ResponseEntity<HttpStatus> classLevelBypassedEndpoint() {
+		return ResponseEntity.ok().build();
+	}
+
+}
+
+@RestController
+@RateLimitCost(tokens = 3)
+class RateLimitCostTestController {
+
+	@GetMapping(value = "/api/v1/class-level-cost-endpoint")
+	public ResponseEntity<HttpStatus> classLevelCostEndpoint() {
+		return ResponseEntity.ok().build();
+	}
+
+	@RateLimitCost(tokens = 5)
+	@WaitForRateLimit(maximumWaitMillis = 1500)
+	@GetMapping(value = "/api/v1/costly-endpoint/{id}")
+	public ResponseEntity<HttpStatus> costlyEndpoint(@PathVariable final String id) {
+		return ResponseEntity.ok().build();
+	}
+
+}
+
+@SpringBootTest
+@InitializeRedisContainer
+@InitializeMysqlContainer
+@InitializeApplicationSecretKey
+class ApiEndpointRateLimitInspectorIT {
+
+	@Autowired
+	private ApiEndpointRateLimitInspector apiEndpointRateLimitInspector;
+
+	@Test
+	void shouldReturnTrueIfHttpRequestDirectedTowardsBypassedControllerMethod() {
+		// simulating incoming HTTP request
+		final var httpRequest = simulateRequest(HttpMethod.GET, "/api/v1/bypassed-endpoint/42");
+
+		// invoke method under test
+		final var result = apiEndpointRateLimitInspector.isBypassed(httpRequest);
+
+		// assert response
+		assertThat(result).isTrue();
+	}
+
+	@Test
+	void shouldReturnTrueForAnyHttpMethodDirectedTowardsBypassedControllerClass() {
+		// simulating incoming HTTP requests with different methods
+		final var getRequest = simulateRequest(HttpMethod.GET, "/api/v1/class-level-bypassed-endpoint");
+		final var deleteRequest = simulateRequest(HttpMethod.DELETE, "/api/v1/class-level-bypassed-endpoint");
+
+		// invoke method under test and assert response
+		assertThat(apiEndpointRateLimitInspector.isBypassed(getRequest)).isTrue();
+		assertThat(apiEndpointRateLimitInspector.isBypassed(deleteRequest)).isTrue();
+	}
+
+	@Test
+	void shouldReturnFalseIfHttpRequestDirectedTowardsRateLimitedApiEndpoint() {
+		// simulating incoming HTTP requests to rate limited endpoint and mismatched method
+		final var rateLimitedRequest = simulateRequest(HttpMethod.GET, "/api/v1/rate-limited-endpoint");
+		final var mismatchedMethodRequest = simulateRequest(HttpMethod.POST, "/api/v1/bypassed-endpoint/42");
+
+		// invoke method under test and assert response
+		assertThat(apiEndpointRateLimitInspector.isBypassed(rateLimitedRequest)).isFalse();
+		assertThat(apiEndpointRateLimitInspector.isBypassed(mismatchedMethodRequest)).isFalse();
+	}
+
+	@Test
+	void shouldResolveUnannotatedEndpointOverLessSpecificAnnotatedOne() {
+		// simulating incoming HTTP request to unannotated endpoint overlapping an annotated template
+		final var httpRequest = simulateRequest(HttpMethod.GET, "/api/v1/bypassed-endpoint/special");
+
+		// invoke method under test and assert defaults of unannotated endpoint apply
+		assertThat(apiEndpointRateLimitInspector.isBypassed(httpRequest)).isFalse();
+		assertThat(apiEndpointRateLimitInspector.getTokenCost(httpRequest)).isEqualTo(ApiEndpointRateLimitInspector.DEFAULT_TOKEN_COST);
+		assertThat(apiEndpointRateLimitInspector.getMaximumWait(httpRequest)).isZero();
+	}
+
+	@Test
+	void shouldReturnConfiguredTokenCostOfApiEndpoint() {
+		// simulating incoming HTTP requests to endpoints with differing token costs
+		final var methodLevelCostRequest = simulateRequest(HttpMethod.GET, "/api/v1/costly-endpoint/42");
+		final var classLevelCostRequest = simulateRequest(HttpMethod.GET, "/api/v1/class-level-cost-endpoint");
+		final var defaultCostRequest = simulateRequest(HttpMethod.GET, "/api/v1/rate-limited-endpoint");
+		final var bypassedRequest = simulateRequest(HttpMethod.GET, "/api/v1/bypassed-endpoint/42");
+
+		// invoke method under test and assert response
+		assertThat(apiEndpointRateLimitInspector.getTokenCost(methodLevelCostRequest)).isEqualTo(5);
+		assertThat(apiEndpointRateLimitInspector.getTokenCost(classLevelCostRequest)).isEqualTo(3);
+		assertThat(apiEndpointRateLimitInspector.getTokenCost(defaultCostRequest)).isEqualTo(ApiEndpointRateLimitInspector.DEFAULT_TOKEN_COST);
+		assertThat(apiEndpointRateLimitInspector.getTokenCost(bypassedRequest)).isZero();
+		assertThat(apiEndpointRateLimitInspector.isBypassed(methodLevelCostRequest)).isFalse();
+	}
+
+	@Test
+	void shouldReturnConfiguredMaximumWaitOfApiEndpoint() {
+		// simulating incoming HTTP requests to endpoints with and without a maximum wait
+		final var waitingRequest = simulateRequest(HttpMethod.GET, "/api/v1/costly-endpoint/42");
+		final var rejectingRequest = simulateRequest(HttpMethod.GET, "/api/v1/class-level-cost-endpoint");
+
+		// invoke method under test and assert response
+		assertThat(apiEndpointRateLimitInspector.getMaximumWait(waitingRequest)).isEqualTo(Duration.ofMillis(1500));
+		assertThat(apiEndpointRateLimitInspector.getMaximumWait(rejectingRequest)).isZero();
+	}
+
+	private HttpServletRequest simulateRequest(final HttpMethod httpMethod, final String apiPath) {
+		final var httpRequest = mock(HttpServletRequest.class);
+		when(httpRequest.getMethod()).thenReturn(httpMethod.name());
+		when(httpRequest.getRequestURI()).thenReturn(apiPath);
+		return httpRequest;
+	}
+
+}
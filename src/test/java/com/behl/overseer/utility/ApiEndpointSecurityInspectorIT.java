@@ -98,6 +98,24 @@ class ApiEndpointSecurityInspectorIT {
 				.andExpect(status().isOk());
 	}
 	
+	@Test
+	@SneakyThrows
+	void actuatorHealthEndpointShouldBeAccessibleWithoutAuthToken() {
+		// invoke actuator health endpoint without auth token and assert response
+		final var apiPath = "/actuator/health";
+		mockMvc.perform(get(apiPath))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	@SneakyThrows
+	void actuatorPrometheusEndpointShouldBeInaccessibleWithoutAuthToken() {
+		// invoke actuator prometheus endpoint without auth token and assert response
+		final var apiPath = "/actuator/prometheus";
+		mockMvc.perform(get(apiPath))
+				.andExpect(status().isUnauthorized());
+	}
+
 	@Test
 	@SneakyThrows
 	void privateEndpointShouldBeInaccessibleWithoutAuthToken() {
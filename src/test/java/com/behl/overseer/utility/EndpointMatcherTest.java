@@ -0,0 +1,59 @@
+package com.behl.overseer.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class EndpointMatcherTest {
+
+	private final EndpointMatcher<String> endpointMatcher = new EndpointMatcher<>();
+
+	@Test
+	void shouldMatchExactPathForRegisteredHttpMethodOnly() {
+		// register exact path
+		endpointMatcher.register("GET", "/api/v1/plan", "plan");
+
+		// assert match for registered method and mismatch otherwise
+		assertThat(endpointMatcher.match("GET", "/api/v1/plan")).isEqualTo("plan");
+		assertThat(endpointMatcher.match("PUT", "/api/v1/plan")).isNull();
+		assertThat(endpointMatcher.match("GET", "/api/v1/plans")).isNull();
+	}
+
+	@Test
+	void shouldMatchWildcardAndTemplatePatterns() {
+		// register patterns containing wildcards and template variables
+		endpointMatcher.register("GET", "/swagger-ui**/**", "swagger");
+		endpointMatcher.register("GET", "/api/v1/user/{userId}", "user");
+
+		// assert requests matching compiled patterns
+		assertThat(endpointMatcher.match("GET", "/swagger-ui/index.html")).isEqualTo("swagger");
+		assertThat(endpointMatcher.match("GET", "/swagger-ui.html")).isEqualTo("swagger");
+		assertThat(endpointMatcher.match("GET", "/api/v1/user/42")).isEqualTo("user");
+		assertThat(endpointMatcher.match("GET", "/api/v1/joke")).isNull();
+	}
+
+	@Test
+	void exactPathShouldTakePrecedenceOverPattern() {
+		// register overlapping pattern and exact path
+		endpointMatcher.register("GET", "/api/v1/**", "pattern");
+		endpointMatcher.register("GET", "/api/v1/joke", "exact");
+
+		// assert exact path value is resolved
+		assertThat(endpointMatcher.match("GET", "/api/v1/joke")).isEqualTo("exact");
+		assertThat(endpointMatcher.match("GET", "/api/v1/plan")).isEqualTo("pattern");
+	}
+
+	@Test
+	void moreSpecificPatternShouldTakePrecedenceRegardlessOfRegistrationOrder() {
+		// register overlapping patterns, least specific first
+		endpointMatcher.register("GET", "/api/v1/**", "catch-all");
+		endpointMatcher.register("GET", "/api/v1/user/{userId}", "template");
+		endpointMatcher.register("GET", "/api/v1/user/{userId}/plan", "nested");
+
+		// assert most specific matching pattern is resolved
+		assertThat(endpointMatcher.match("GET", "/api/v1/user/42")).isEqualTo("template");
+		assertThat(endpointMatcher.match("GET", "/api/v1/user/42/plan")).isEqualTo("nested");
+		assertThat(endpointMatcher.match("GET", "/api/v1/joke")).isEqualTo("catch-all");
+	}
+
+}
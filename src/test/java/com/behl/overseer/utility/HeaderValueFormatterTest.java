@@ -0,0 +1,24 @@
+package com.behl.overseer.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class HeaderValueFormatterTest {
+
+	@Test
+	void shouldFormatValuesWithinAndBeyondCachedRange() {
+		// invoke method under test and assert formatted values
+		assertThat(HeaderValueFormatter.format(0)).isEqualTo("0");
+		assertThat(HeaderValueFormatter.format(3599)).isEqualTo("3599");
+		assertThat(HeaderValueFormatter.format(Long.MAX_VALUE)).isEqualTo(String.valueOf(Long.MAX_VALUE));
+		assertThat(HeaderValueFormatter.format(-1)).isEqualTo("-1");
+	}
+
+	@Test
+	void shouldReturnSameInstanceForCachedValues() {
+		// assert cached values are not formatted again
+		assertThat(HeaderValueFormatter.format(42)).isSameAs(HeaderValueFormatter.format(42));
+	}
+
+}
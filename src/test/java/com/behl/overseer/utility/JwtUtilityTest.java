@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 
 import com.behl.overseer.configuration.TokenConfigurationProperties;
 
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Encoders;
 
@@ -49,6 +50,48 @@ class JwtUtilityTest {
 		assertThat(extractedUserId).isNotNull().isInstanceOf(UUID.class).isEqualTo(userId);
 	}
 
+	@Test
+	void shouldResolveUserIdOfRepeatedTokensThroughVerifiedTokenCache() {
+		// configure token configuration with verified token cache enabled
+		final var cachingTokenConfigurationProperties = new TokenConfigurationProperties();
+		cachingTokenConfigurationProperties.setSecretKey(Encoders.BASE64.encode(Jwts.SIG.HS256.key().build().getEncoded()));
+		cachingTokenConfigurationProperties.setValidity(1);
+		final var cachingJwtUtility = new JwtUtility(issuer, cachingTokenConfigurationProperties);
+
+		// generate access tokens for two users
+		final var userId = UUID.randomUUID();
+		final var otherUserId = UUID.randomUUID();
+		final var accessToken = cachingJwtUtility.generateAccessToken(userId);
+		final var otherAccessToken = cachingJwtUtility.generateAccessToken(otherUserId);
+
+		// extract user-ids repeatedly and assert each token resolves its own user
+		assertThat(cachingJwtUtility.getUserId(accessToken)).isEqualTo(userId);
+		assertThat(cachingJwtUtility.getUserId(otherAccessToken)).isEqualTo(otherUserId);
+		assertThat(cachingJwtUtility.getUserId(accessToken)).isEqualTo(userId);
+		assertThat(cachingJwtUtility.getUserId(otherAccessToken)).isEqualTo(otherUserId);
+	}
+
+	@Test
+	void shouldRejectTamperedTokenEvenIfOriginalTokenIsCached() {
+		// configure token configuration with verified token cache enabled
+		final var cachingTokenConfigurationProperties = new TokenConfigurationProperties();
+		cachingTokenConfigurationProperties.setSecretKey(Encoders.BASE64.encode(Jwts.SIG.HS256.key().build().getEncoded()));
+		cachingTokenConfigurationProperties.setValidity(1);
+		final var cachingJwtUtility = new JwtUtility(issuer, cachingTokenConfigurationProperties);
+
+		// generate and verify access token, populating the cache
+		final var accessToken = cachingJwtUtility.generateAccessToken(UUID.randomUUID());
+		cachingJwtUtility.getUserId(accessToken);
+
+		// tamper with the signature of the cached token
+		final var signatureIndex = accessToken.lastIndexOf('.') + 1;
+		final var tamperedCharacter = accessToken.charAt(signatureIndex) == 'A' ? 'B' : 'A';
+		final var tamperedAccessToken = accessToken.substring(0, signatureIndex) + tamperedCharacter + accessToken.substring(signatureIndex + 1);
+
+		// assert tampered token fails verification
+		assertThrows(JwtException.class, () -> cachingJwtUtility.getUserId(tamperedAccessToken));
+	}
+
 	@Test
 	void shouldThrowIllegalArgumentExceptionForNullArguments() {
 		assertThrows(IllegalArgumentException.class, () -> jwtUtility.getUserId(null));
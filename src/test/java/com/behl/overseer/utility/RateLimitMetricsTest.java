@@ -0,0 +1,65 @@
+package com.behl.overseer.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RateLimitMetricsTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final RateLimitMetrics rateLimitMetrics = new RateLimitMetrics(meterRegistry);
+
+	@Test
+	void shouldCountDecisionsTaggedByPlanAndOutcome() {
+		// record decisions for users of different plans
+		rateLimitMetrics.recordDecision("FREE", true);
+		rateLimitMetrics.recordDecision("FREE", true);
+		rateLimitMetrics.recordDecision("FREE", false);
+		rateLimitMetrics.recordDecision("BUSINESS", true);
+
+		// assert decision counters per plan and outcome
+		assertThat(getDecisionCount("FREE", "allowed")).isEqualTo(2);
+		assertThat(getDecisionCount("FREE", "rejected")).isEqualTo(1);
+		assertThat(getDecisionCount("BUSINESS", "allowed")).isEqualTo(1);
+	}
+
+	@Test
+	void shouldRecordStageDurations() {
+		// record durations of request evaluation stages
+		rateLimitMetrics.recordBucketLookup(TimeUnit.MICROSECONDS.toNanos(5));
+		rateLimitMetrics.recordConsumption(TimeUnit.MILLISECONDS.toNanos(2));
+		rateLimitMetrics.recordJwtVerification(TimeUnit.MICROSECONDS.toNanos(30));
+		rateLimitMetrics.recordBucketCreation();
+
+		// assert recorded durations and counts
+		assertThat(meterRegistry.get("overseer.rate-limit.bucket.lookup").timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("overseer.rate-limit.consumption").timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(2);
+		assertThat(meterRegistry.get("overseer.jwt.verification").timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("overseer.rate-limit.bucket.creations").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldRecordPipelineWaitAndBatchSizes() {
+		// record batches sent through the pipelined consumption dispatcher
+		rateLimitMetrics.recordPipelineWait(TimeUnit.MICROSECONDS.toNanos(150));
+		rateLimitMetrics.recordPipelineWait(TimeUnit.MICROSECONDS.toNanos(50));
+		rateLimitMetrics.recordPipelineBatch(2);
+
+		// assert recorded wait durations and batch size
+		assertThat(meterRegistry.get("overseer.rate-limit.pipeline.wait").timer().totalTime(TimeUnit.MICROSECONDS)).isEqualTo(200);
+		assertThat(meterRegistry.get("overseer.rate-limit.pipeline.batch.size").summary().totalAmount()).isEqualTo(2);
+	}
+
+	private double getDecisionCount(final String planName, final String outcome) {
+		return meterRegistry.get("overseer.rate-limit.decisions")
+				.tag("plan", planName)
+				.tag("outcome", outcome)
+				.counter()
+				.count();
+	}
+
+}